@@ -0,0 +1,69 @@
+package com.acme.booking.controller.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the Jackson serialization and deserialization of the booking request and response bodies, using an
+ * {@link ObjectMapper} configured the same way as the one of the application.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class BookingDtoJsonBenchmark {
+
+    private ObjectMapper objectMapper;
+    private CreateBookingDto createBookingDto;
+    private BookingDto bookingDto;
+    private String createBookingJson;
+    private String bookingJson;
+
+    @Setup
+    public void setUp() throws JsonProcessingException {
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        createBookingDto = CreateBookingDto.builder()
+                .meetingRoomId(UUID.randomUUID())
+                .employeeEmail("employee@example.com")
+                .date(LocalDate.now().plusDays(1))
+                .timeFrom(LocalTime.of(10, 0))
+                .timeTo(LocalTime.of(11, 0))
+                .build();
+        bookingDto = BookingDto.builder()
+                .id(UUID.randomUUID())
+                .meetingRoomId(createBookingDto.getMeetingRoomId())
+                .employeeEmail(createBookingDto.getEmployeeEmail())
+                .date(createBookingDto.getDate())
+                .timeFrom(createBookingDto.getTimeFrom())
+                .timeTo(createBookingDto.getTimeTo())
+                .build();
+        createBookingJson = objectMapper.writeValueAsString(createBookingDto);
+        bookingJson = objectMapper.writeValueAsString(bookingDto);
+    }
+
+    @Benchmark
+    public String serializeCreateBookingDto() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(createBookingDto);
+    }
+
+    @Benchmark
+    public CreateBookingDto deserializeCreateBookingDto() throws JsonProcessingException {
+        return objectMapper.readValue(createBookingJson, CreateBookingDto.class);
+    }
+
+    @Benchmark
+    public String serializeBookingDto() throws JsonProcessingException {
+        return objectMapper.writeValueAsString(bookingDto);
+    }
+
+    @Benchmark
+    public BookingDto deserializeBookingDto() throws JsonProcessingException {
+        return objectMapper.readValue(bookingJson, BookingDto.class);
+    }
+}
@@ -0,0 +1,134 @@
+package com.acme.booking.domain.service;
+
+import com.acme.booking.BookingApplication;
+import com.acme.booking.domain.model.Booking;
+import com.acme.booking.domain.model.MeetingRoom;
+import com.acme.booking.repository.BookingRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overlap check of a new booking against an in-memory H2 database holding a given number of bookings,
+ * spread over {@value #MEETING_ROOMS} meeting rooms with {@value #BOOKINGS_PER_DAY} one-hour bookings per room and day.
+ *
+ * <p>{@code index} is the check {@link BookingService} performs, against the in-memory booking index.
+ * {@code databaseQuery} is the overlap query that the check used to run against the database for every booking.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookingOverlapBenchmark {
+
+    private static final int MEETING_ROOMS = 100;
+    private static final int BOOKINGS_PER_DAY = 8;
+    private static final int CANDIDATES = 1024;
+    private static final int INSERT_BATCH_SIZE = 10_000;
+
+    @Param({"10000", "100000", "1000000"})
+    private int bookingCount;
+
+    private ConfigurableApplicationContext context;
+    private BookingRepository bookingRepository;
+    private BookingIntervalIndex bookingIndex;
+    private Booking[] candidates;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        context = new SpringApplicationBuilder(BookingApplication.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:benchmark-" + bookingCount,
+                        "--spring.jpa.properties.hibernate.generate_statistics=false",
+                        "--logging.level.root=WARN");
+        bookingRepository = context.getBean(BookingRepository.class);
+
+        LocalDate firstDate = LocalDate.now().plusDays(1);
+        List<UUID> meetingRoomIds = insertMeetingRooms(context.getBean(JdbcTemplate.class));
+        int days = insertBookings(context.getBean(JdbcTemplate.class), meetingRoomIds, firstDate);
+
+        bookingIndex = new BookingIntervalIndex(bookingRepository::findViewsByMeetingRoomIdAndDate);
+        bookingIndex.warmUp(bookingRepository.findViewsByDateGreaterThanEqual(firstDate));
+
+        Random random = new Random(42);
+        candidates = new Booking[CANDIDATES];
+        for (int i = 0; i < CANDIDATES; i++) {
+            LocalTime timeFrom = LocalTime.of(8 + random.nextInt(BOOKINGS_PER_DAY + 2), 30);
+            candidates[i] = Booking.builder()
+                    .meetingRoom(MeetingRoom.builder().id(meetingRoomIds.get(random.nextInt(MEETING_ROOMS))).build())
+                    .employeeEmail("employee@example.com")
+                    .date(firstDate.plusDays(random.nextInt(days)))
+                    .timeFrom(timeFrom)
+                    .timeTo(timeFrom.plusHours(1))
+                    .build();
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public boolean index() {
+        return bookingIndex.overlaps(nextCandidate());
+    }
+
+    @Benchmark
+    public boolean databaseQuery() {
+        return bookingRepository.existsByMeetingRoomIdAndDateAndTimeOverlap(nextCandidate());
+    }
+
+    private Booking nextCandidate() {
+        next = (next + 1) & (CANDIDATES - 1);
+        return candidates[next];
+    }
+
+    private List<UUID> insertMeetingRooms(JdbcTemplate jdbcTemplate) {
+        List<UUID> meetingRoomIds = new ArrayList<>();
+        List<Object[]> rows = new ArrayList<>();
+        for (int i = 0; i < MEETING_ROOMS; i++) {
+            UUID id = UUID.randomUUID();
+            meetingRoomIds.add(id);
+            rows.add(new Object[]{id, "Meeting Room " + i});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO meeting_room (id, name) VALUES (?, ?)", rows);
+        return meetingRoomIds;
+    }
+
+    /**
+     * @return the number of days the bookings span
+     */
+    private int insertBookings(JdbcTemplate jdbcTemplate, List<UUID> meetingRoomIds, LocalDate firstDate) {
+        String sql = "INSERT INTO booking (id, meeting_room_id, employee_email, date, time_from, time_to) VALUES (?, ?, ?, ?, ?, ?)";
+        List<Object[]> rows = new ArrayList<>(INSERT_BATCH_SIZE);
+        int day = 0;
+        for (int i = 0; i < bookingCount; i++) {
+            day = i / (MEETING_ROOMS * BOOKINGS_PER_DAY);
+            UUID meetingRoomId = meetingRoomIds.get(i / BOOKINGS_PER_DAY % MEETING_ROOMS);
+            LocalTime timeFrom = LocalTime.of(8 + i % BOOKINGS_PER_DAY, 0);
+            rows.add(new Object[]{UUID.randomUUID(), meetingRoomId, "employee@example.com",
+                    Date.valueOf(firstDate.plusDays(day)), Time.valueOf(timeFrom), Time.valueOf(timeFrom.plusHours(1))});
+            if (rows.size() == INSERT_BATCH_SIZE) {
+                jdbcTemplate.batchUpdate(sql, rows);
+                rows.clear();
+            }
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(sql, rows);
+        }
+        return day + 1;
+    }
+}
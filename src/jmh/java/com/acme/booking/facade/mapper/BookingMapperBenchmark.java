@@ -0,0 +1,58 @@
+package com.acme.booking.facade.mapper;
+
+import com.acme.booking.controller.dto.BookingDto;
+import com.acme.booking.domain.model.Booking;
+import com.acme.booking.domain.model.BookingView;
+import com.acme.booking.domain.model.MeetingRoom;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+/**
+ * Measures {@link BookingMapper} on large lists, both from entities and from the {@link BookingView}s that the
+ * booking lists are read as.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BookingMapperBenchmark {
+
+    @Param({"100", "10000"})
+    private int size;
+
+    private final BookingMapper bookingMapper = new BookingMapperImpl();
+    private List<Booking> bookings;
+    private List<BookingView> bookingViews;
+
+    @Setup
+    public void setUp() {
+        MeetingRoom meetingRoom = MeetingRoom.builder().id(UUID.randomUUID()).name("Meeting Room").build();
+        LocalDate date = LocalDate.now().plusDays(1);
+        bookings = IntStream.range(0, size)
+                .mapToObj(i -> Booking.builder()
+                        .id(UUID.randomUUID())
+                        .meetingRoom(meetingRoom)
+                        .employeeEmail("employee" + i + "@example.com")
+                        .date(date.plusDays(i / 24))
+                        .timeFrom(LocalTime.of(i % 24, 0))
+                        .timeTo(LocalTime.of(i % 24, 0).plusHours(1))
+                        .build())
+                .toList();
+        bookingViews = bookings.stream().map(BookingView::of).toList();
+    }
+
+    @Benchmark
+    public List<BookingDto> toDto() {
+        return bookingMapper.toDto(bookings);
+    }
+
+    @Benchmark
+    public List<BookingDto> toViewDtos() {
+        return bookingMapper.toViewDtos(bookingViews);
+    }
+}
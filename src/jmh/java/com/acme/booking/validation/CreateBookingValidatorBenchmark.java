@@ -0,0 +1,82 @@
+package com.acme.booking.validation;
+
+import com.acme.booking.controller.dto.CreateBookingDto;
+import jakarta.validation.ClockProvider;
+import jakarta.validation.ConstraintValidatorContext;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link CreateBookingValidator#isValid} on its own and as part of the full Bean Validation of a
+ * {@link CreateBookingDto}, which is what every booking creation request goes through.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CreateBookingValidatorBenchmark {
+
+    private final CreateBookingValidator createBookingValidator = new CreateBookingValidator();
+    private final ConstraintValidatorContext context = new NoOpConstraintValidatorContext();
+    private Validator validator;
+    private CreateBookingDto createBookingDto;
+
+    @Setup
+    public void setUp() {
+        validator = Validation.buildDefaultValidatorFactory().getValidator();
+        createBookingDto = CreateBookingDto.builder()
+                .meetingRoomId(UUID.randomUUID())
+                .employeeEmail("employee@example.com")
+                .date(LocalDate.now().plusDays(1))
+                .timeFrom(LocalTime.of(10, 0))
+                .timeTo(LocalTime.of(11, 0))
+                .build();
+    }
+
+    @Benchmark
+    public boolean isValid() {
+        return createBookingValidator.isValid(createBookingDto, context);
+    }
+
+    @Benchmark
+    public Set<ConstraintViolation<CreateBookingDto>> validate() {
+        return validator.validate(createBookingDto);
+    }
+
+    /**
+     * Context for valid bookings, which never build a constraint violation.
+     */
+    private static final class NoOpConstraintValidatorContext implements ConstraintValidatorContext {
+
+        @Override
+        public void disableDefaultConstraintViolation() {
+        }
+
+        @Override
+        public String getDefaultConstraintMessageTemplate() {
+            return "";
+        }
+
+        @Override
+        public ClockProvider getClockProvider() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public ConstraintViolationBuilder buildConstraintViolationWithTemplate(String messageTemplate) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public <T> T unwrap(Class<T> type) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
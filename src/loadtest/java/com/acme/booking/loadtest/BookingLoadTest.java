@@ -0,0 +1,50 @@
+package com.acme.booking.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.net.URI;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Boots the application on a random port and drives its HTTP API with the load described by the {@code loadtest.*}
+ * system properties (see {@link LoadTestSettings}). The report is written to {@code target/loadtest}.
+ * The test fails if any request fails with a server error.
+ *
+ * <p>Run with {@code mvn -Ploadtest test}.
+ */
+@Slf4j
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "logging.level.com.acme.booking=OFF",
+        "logging.level.com.acme.booking.loadtest=INFO",
+        "spring.jpa.properties.hibernate.generate_statistics=false"
+})
+class BookingLoadTest {
+
+    @LocalServerPort
+    private int port;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void given_configuredLoad_when_drivingTheBookingApi_then_noServerErrorsOccur() throws Exception {
+        // Given
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        LoadGenerator loadGenerator = new LoadGenerator(URI.create("http://localhost:" + port), settings, objectMapper);
+        loadGenerator.createMeetingRooms();
+
+        // When
+        LoadTestReport report = loadGenerator.run();
+
+        // Then
+        report.write(settings.reportDirectory());
+        log.info("Load test report written to {}{}{}", settings.reportDirectory(), System.lineSeparator(), report.summary());
+        assertEquals(0, report.serverErrors(), "Requests failed with a server error or without a response");
+    }
+}
@@ -0,0 +1,230 @@
+package com.acme.booking.loadtest;
+
+import com.acme.booking.controller.dto.BookingDto;
+import com.acme.booking.controller.dto.CreateBookingDto;
+import com.acme.booking.controller.dto.MeetingRoomDto;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Closed-loop HTTP load generator for the booking API. Every client picks an operation according to the configured
+ * mix, sends it with the JDK {@link HttpClient} and records its latency as soon as the response is read, then sends
+ * the next one. Meeting rooms are picked following a Zipf distribution, so a few rooms receive most of the load.
+ */
+@Slf4j
+class LoadGenerator {
+
+    private static final int FIRST_HOUR = 8;
+    private static final int HOURS = 10;
+
+    private final URI baseUri;
+    private final LoadTestSettings settings;
+    private final ObjectMapper objectMapper;
+    private final HttpClient httpClient;
+    private final List<UUID> meetingRoomIds = new ArrayList<>();
+    private final Queue<UUID> createdBookingIds = new ConcurrentLinkedQueue<>();
+    private final AtomicLong requestCounter = new AtomicLong();
+    private final Operation[] operations;
+    private final int[] cumulativeOperationWeights;
+    private double[] cumulativeRoomWeights;
+
+    LoadGenerator(URI baseUri, LoadTestSettings settings, ObjectMapper objectMapper) {
+        this.baseUri = baseUri;
+        this.settings = settings;
+        this.objectMapper = objectMapper;
+        this.httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        this.operations = settings.mix().keySet().toArray(Operation[]::new);
+        this.cumulativeOperationWeights = new int[operations.length];
+        int total = 0;
+        for (int i = 0; i < operations.length; i++) {
+            total += settings.mix().get(operations[i]);
+            cumulativeOperationWeights[i] = total;
+        }
+    }
+
+    /**
+     * Creates the meeting rooms the load is driven against.
+     */
+    void createMeetingRooms() throws IOException, InterruptedException {
+        for (int i = 0; i < settings.rooms(); i++) {
+            HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/api/meeting-room/create?name=" + encode("Load Test Room " + i)))
+                    .POST(HttpRequest.BodyPublishers.noBody())
+                    .build());
+            if (response.statusCode() != 201) {
+                throw new IllegalStateException("Could not create meeting room: " + response.statusCode() + " " + response.body());
+            }
+        }
+        HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/api/meeting-room?size=" + settings.rooms())).GET().build());
+        objectMapper.readValue(response.body(), new TypeReference<List<MeetingRoomDto>>() {})
+                .forEach(meetingRoom -> meetingRoomIds.add(meetingRoom.getId()));
+
+        cumulativeRoomWeights = new double[meetingRoomIds.size()];
+        double total = 0;
+        for (int rank = 0; rank < cumulativeRoomWeights.length; rank++) {
+            total += 1 / Math.pow(rank + 1, settings.skew());
+            cumulativeRoomWeights[rank] = total;
+        }
+    }
+
+    /**
+     * Runs the warm-up and then the measured load.
+     *
+     * @return the report of the measured load
+     */
+    LoadTestReport run() throws InterruptedException {
+        log.info("Warming up for {}", settings.warmup());
+        runFor(settings.warmup());
+        log.info("Measuring for {}", settings.duration());
+        long start = System.nanoTime();
+        Map<Operation, OperationStatistics> statistics = runFor(settings.duration());
+        return new LoadTestReport(settings, Duration.ofNanos(System.nanoTime() - start), statistics);
+    }
+
+    private Map<Operation, OperationStatistics> runFor(Duration duration) throws InterruptedException {
+        Map<Operation, OperationStatistics> statistics = new EnumMap<>(Operation.class);
+        for (Operation operation : Operation.values()) {
+            statistics.put(operation, new OperationStatistics());
+        }
+        long deadline = System.nanoTime() + duration.toNanos();
+        SplittableRandom seed = new SplittableRandom(42);
+        List<Future<?>> clients = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(settings.concurrency())) {
+            for (int i = 0; i < settings.concurrency(); i++) {
+                SplittableRandom random = seed.split();
+                clients.add(executor.submit(() -> runClient(random, deadline, statistics)));
+            }
+        }
+        for (Future<?> client : clients) {
+            try {
+                client.get();
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Load test client failed", e.getCause());
+            }
+        }
+        return statistics;
+    }
+
+    private void runClient(SplittableRandom random, long deadline, Map<Operation, OperationStatistics> statistics) {
+        while (System.nanoTime() < deadline) {
+            Operation operation = pickOperation(random);
+            UUID bookingId = operation == Operation.DELETE ? createdBookingIds.poll() : null;
+            if (operation == Operation.DELETE && bookingId == null) {
+                operation = Operation.CREATE;
+            }
+            long start = System.nanoTime();
+            int status;
+            try {
+                status = switch (operation) {
+                    case CREATE -> createBooking(random);
+                    case LIST -> listBookings(random);
+                    case DELETE -> deleteBooking(bookingId);
+                    case ROOMS -> send(HttpRequest.newBuilder(uri("/api/meeting-room")).GET().build()).statusCode();
+                };
+            } catch (IOException e) {
+                log.warn("{} request failed: {}", operation, e.toString());
+                status = OperationStatistics.NO_RESPONSE;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            statistics.get(operation).record(System.nanoTime() - start, status);
+        }
+    }
+
+    private int createBooking(SplittableRandom random) throws IOException, InterruptedException {
+        String employeeEmail = "load-" + requestCounter.incrementAndGet() + "@example.com";
+        LocalTime timeFrom = LocalTime.of(FIRST_HOUR + random.nextInt(HOURS), 0);
+        CreateBookingDto createBookingDto = CreateBookingDto.builder()
+                .meetingRoomId(pickMeetingRoom(random))
+                .employeeEmail(employeeEmail)
+                .date(pickDate(random))
+                .timeFrom(timeFrom)
+                .timeTo(timeFrom.plusHours(1))
+                .build();
+        HttpResponse<String> response = send(HttpRequest.newBuilder(uri("/api/booking/create"))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(createBookingDto)))
+                .build());
+        if (response.statusCode() == 201) {
+            objectMapper.readValue(response.body(), new TypeReference<List<BookingDto>>() {}).stream()
+                    .filter(booking -> employeeEmail.equals(booking.getEmployeeEmail()))
+                    .findFirst()
+                    .ifPresent(booking -> createdBookingIds.add(booking.getId()));
+        }
+        return response.statusCode();
+    }
+
+    private int listBookings(SplittableRandom random) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(uri("/api/booking?meetingRoomId=" + pickMeetingRoom(random) + "&date=" + pickDate(random)))
+                .GET()
+                .build()).statusCode();
+    }
+
+    private int deleteBooking(UUID bookingId) throws IOException, InterruptedException {
+        return send(HttpRequest.newBuilder(uri("/api/booking?id=" + bookingId)).DELETE().build()).statusCode();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private Operation pickOperation(SplittableRandom random) {
+        int value = random.nextInt(cumulativeOperationWeights[cumulativeOperationWeights.length - 1]);
+        for (int i = 0; i < operations.length; i++) {
+            if (value < cumulativeOperationWeights[i]) {
+                return operations[i];
+            }
+        }
+        return operations[operations.length - 1];
+    }
+
+    private UUID pickMeetingRoom(SplittableRandom random) {
+        double value = random.nextDouble(cumulativeRoomWeights[cumulativeRoomWeights.length - 1]);
+        for (int rank = 0; rank < cumulativeRoomWeights.length; rank++) {
+            if (value < cumulativeRoomWeights[rank]) {
+                return meetingRoomIds.get(rank);
+            }
+        }
+        return meetingRoomIds.getLast();
+    }
+
+    private LocalDate pickDate(SplittableRandom random) {
+        return LocalDate.now().plusDays(1 + random.nextInt(settings.days()));
+    }
+
+    private URI uri(String path) {
+        return baseUri.resolve(path);
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+}
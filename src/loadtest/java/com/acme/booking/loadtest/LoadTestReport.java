@@ -0,0 +1,68 @@
+package com.acme.booking.loadtest;
+
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Report of a measured load test run: the throughput, latency percentiles and response statuses of every operation.
+ * It is written as a summary table plus one HdrHistogram percentile distribution ({@code .hgrm}) per operation.
+ */
+record LoadTestReport(LoadTestSettings settings, Duration elapsed, Map<Operation, OperationStatistics> statistics) {
+
+    private static final double MICROS_PER_MILLI = 1000.0;
+
+    long serverErrors() {
+        return statistics.values().stream().mapToLong(OperationStatistics::getServerErrors).sum();
+    }
+
+    String summary() {
+        double seconds = elapsed.toNanos() / 1e9;
+        StringBuilder summary = new StringBuilder()
+                .append(String.format("Load test: %d clients for %s, mix %s, %d rooms (skew %.2f), %d days%n",
+                        settings.concurrency(), elapsed, settings.mix(), settings.rooms(), settings.skew(), settings.days()))
+                .append(String.format("%-8s %10s %10s %10s %10s %10s %10s %10s  %s%n",
+                        "op", "requests", "req/s", "p50 ms", "p90 ms", "p99 ms", "p999 ms", "max ms", "statuses"));
+        long total = 0;
+        for (Map.Entry<Operation, OperationStatistics> entry : statistics.entrySet()) {
+            Histogram latencies = entry.getValue().getLatencies();
+            total += latencies.getTotalCount();
+            summary.append(String.format("%-8s %10d %10.1f %10.2f %10.2f %10.2f %10.2f %10.2f  %s%n",
+                    entry.getKey().name().toLowerCase(),
+                    latencies.getTotalCount(),
+                    latencies.getTotalCount() / seconds,
+                    millis(latencies.getValueAtPercentile(50)),
+                    millis(latencies.getValueAtPercentile(90)),
+                    millis(latencies.getValueAtPercentile(99)),
+                    millis(latencies.getValueAtPercentile(99.9)),
+                    millis(latencies.getMaxValue()),
+                    entry.getValue().getStatuses()));
+        }
+        return summary.append(String.format("total    %10d %10.1f%n", total, total / seconds)).toString();
+    }
+
+    /**
+     * Writes {@code summary.txt} and the percentile distribution of every operation to a directory.
+     *
+     * @param directory the report directory, created if it doesn't exist
+     */
+    void write(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        Files.writeString(directory.resolve("summary.txt"), summary());
+        for (Map.Entry<Operation, OperationStatistics> entry : statistics.entrySet()) {
+            Path histogramFile = directory.resolve(entry.getKey().name().toLowerCase() + ".hgrm");
+            try (PrintStream out = new PrintStream(Files.newOutputStream(histogramFile))) {
+                entry.getValue().getLatencies().outputPercentileDistribution(out, MICROS_PER_MILLI);
+            }
+        }
+    }
+
+    private static double millis(long micros) {
+        return micros / MICROS_PER_MILLI;
+    }
+}
@@ -0,0 +1,56 @@
+package com.acme.booking.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Settings of a load test run, read from {@code loadtest.*} system properties.
+ *
+ * @param duration        how long the load is measured for
+ * @param warmup          how long the load runs before it is measured
+ * @param concurrency     the number of concurrent clients, each sending its next request when the previous one completes
+ * @param mix             the relative weight of each operation, e.g. {@code create=20,list=60,delete=10,rooms=10}
+ * @param rooms           the number of meeting rooms to create before the run
+ * @param days            the number of days, starting tomorrow, that bookings are created and listed for
+ * @param skew            the Zipf exponent of the meeting room popularity; 0 spreads the load evenly over all rooms
+ * @param reportDirectory the directory the report is written to
+ */
+record LoadTestSettings(Duration duration, Duration warmup, int concurrency, Map<Operation, Integer> mix,
+                        int rooms, int days, double skew, Path reportDirectory) {
+
+    static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                DurationStyle.detectAndParse(System.getProperty("loadtest.duration", "60s")),
+                DurationStyle.detectAndParse(System.getProperty("loadtest.warmup", "10s")),
+                Integer.parseInt(System.getProperty("loadtest.concurrency", "32")),
+                parseMix(System.getProperty("loadtest.mix", "create=20,list=60,delete=10,rooms=10")),
+                Integer.parseInt(System.getProperty("loadtest.rooms", "20")),
+                Integer.parseInt(System.getProperty("loadtest.days", "5")),
+                Double.parseDouble(System.getProperty("loadtest.skew", "1.0")),
+                Path.of(System.getProperty("loadtest.report-directory", "target/loadtest")));
+    }
+
+    private static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        Arrays.stream(mix.split(","))
+                .map(String::trim)
+                .filter(entry -> !entry.isEmpty())
+                .forEach(entry -> {
+                    String[] parts = entry.split("=");
+                    if (parts.length != 2) {
+                        throw new IllegalArgumentException("Invalid load test mix entry: " + entry);
+                    }
+                    weights.put(Operation.valueOf(parts[0].trim().toUpperCase(Locale.ROOT)), Integer.parseInt(parts[1].trim()));
+                });
+        if (weights.values().stream().mapToInt(Integer::intValue).sum() <= 0) {
+            throw new IllegalArgumentException("The load test mix must have a positive total weight: " + mix);
+        }
+        return weights;
+    }
+}
@@ -0,0 +1,24 @@
+package com.acme.booking.loadtest;
+
+/**
+ * The API operations driven by the load test. The name of each operation is the key used for it in
+ * {@code loadtest.mix}.
+ */
+enum Operation {
+    /**
+     * {@code POST /api/booking/create} for a random meeting room, date and hour.
+     */
+    CREATE,
+    /**
+     * {@code GET /api/booking} for a random meeting room and date.
+     */
+    LIST,
+    /**
+     * {@code DELETE /api/booking} of a booking created by the load test.
+     */
+    DELETE,
+    /**
+     * {@code GET /api/meeting-room}.
+     */
+    ROOMS
+}
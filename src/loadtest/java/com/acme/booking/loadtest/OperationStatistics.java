@@ -0,0 +1,50 @@
+package com.acme.booking.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Latencies, in microseconds, and response statuses of one operation. Requests that failed without a response are
+ * counted under status {@value #NO_RESPONSE}.
+ */
+class OperationStatistics {
+
+    static final int NO_RESPONSE = -1;
+
+    private final Histogram latencies = new ConcurrentHistogram(TimeUnit.MINUTES.toMicros(1), 3);
+    private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+
+    void record(long latencyNanos, int status) {
+        latencies.recordValue(Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), latencies.getHighestTrackableValue()));
+        statuses.computeIfAbsent(status, key -> new LongAdder()).increment();
+    }
+
+    Histogram getLatencies() {
+        return latencies;
+    }
+
+    /**
+     * @return the number of responses per status, sorted by status
+     */
+    Map<Integer, Long> getStatuses() {
+        Map<Integer, Long> counts = new TreeMap<>();
+        statuses.forEach((status, count) -> counts.put(status, count.sum()));
+        return counts;
+    }
+
+    /**
+     * @return the number of requests that failed with a 5xx status or without a response
+     */
+    long getServerErrors() {
+        return getStatuses().entrySet().stream()
+                .filter(entry -> entry.getKey() >= 500 || entry.getKey() == NO_RESPONSE)
+                .mapToLong(Map.Entry::getValue)
+                .sum();
+    }
+}
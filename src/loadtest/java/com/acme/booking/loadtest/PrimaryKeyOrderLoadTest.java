@@ -0,0 +1,103 @@
+package com.acme.booking.loadtest;
+
+import com.acme.booking.domain.model.TimeOrderedUuidGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Inserts the same number of rows into two copies of the booking table, one keyed by random UUIDs and one by
+ * time-ordered UUIDs, and writes the insert throughput and the space used by each table to
+ * {@code target/loadtest/primary-keys/comparison.txt}.
+ *
+ * <p>The tables live in H2 database files, like a deployed database would. The report shows both the space used by
+ * the live pages of each table and the size of its file, which also counts the pages that were rewritten while the
+ * index was split and not reclaimed yet. The number of rows is set by {@code loadtest.key-rows}.
+ */
+@Slf4j
+class PrimaryKeyOrderLoadTest {
+
+    private static final int BATCH_SIZE = 1000;
+
+    @Test
+    void given_randomAndTimeOrderedIds_when_insertingBookings_then_allRowsAreInserted() throws Exception {
+        // Given
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        int rows = Integer.parseInt(System.getProperty("loadtest.key-rows", "500000"));
+        Path reportDirectory = settings.reportDirectory().resolve("primary-keys");
+        Files.createDirectories(reportDirectory);
+
+        // When
+        Result random = insert(reportDirectory.resolve("random"), rows, UUID::randomUUID);
+        Result timeOrdered = insert(reportDirectory.resolve("time-ordered"), rows, TimeOrderedUuidGenerator::next);
+
+        // Then
+        String comparison = String.format("%-13s %10s %12s %10s %10s%n", "ids", "rows", "rows/s", "live KiB", "file KiB")
+                + random.format("random")
+                + timeOrdered.format("time-ordered");
+        Files.writeString(reportDirectory.resolve("comparison.txt"), comparison);
+        log.info("Primary key comparison written to {}{}{}", reportDirectory, System.lineSeparator(), comparison);
+        assertEquals(rows, random.rows());
+        assertEquals(rows, timeOrdered.rows());
+    }
+
+    private Result insert(Path database, int rows, Supplier<UUID> ids) throws SQLException, IOException {
+        long count;
+        Duration elapsed;
+        long liveBytes;
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:file:" + database.toAbsolutePath() + ";DB_CLOSE_ON_EXIT=FALSE")) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("DROP TABLE IF EXISTS booking");
+                statement.execute("CREATE TABLE booking (id UUID PRIMARY KEY, meeting_room_id UUID NOT NULL, "
+                        + "employee_email VARCHAR(255) NOT NULL, date DATE NOT NULL, time_from TIME NOT NULL, time_to TIME NOT NULL)");
+            }
+            connection.setAutoCommit(false);
+            UUID meetingRoomId = TimeOrderedUuidGenerator.next();
+            long start = System.nanoTime();
+            try (PreparedStatement insert = connection.prepareStatement(
+                    "INSERT INTO booking VALUES (?, ?, 'employee@example.com', CURRENT_DATE, TIME '10:00:00', TIME '11:00:00')")) {
+                for (int i = 1; i <= rows; i++) {
+                    insert.setObject(1, ids.get());
+                    insert.setObject(2, meetingRoomId);
+                    insert.addBatch();
+                    if (i % BATCH_SIZE == 0 || i == rows) {
+                        insert.executeBatch();
+                        connection.commit();
+                    }
+                }
+            }
+            elapsed = Duration.ofNanos(System.nanoTime() - start);
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CHECKPOINT SYNC");
+                try (ResultSet result = statement.executeQuery("SELECT COUNT(*), DISK_SPACE_USED('BOOKING') FROM booking")) {
+                    result.next();
+                    count = result.getLong(1);
+                    liveBytes = result.getLong(2);
+                }
+            }
+        }
+        return new Result(count, elapsed, liveBytes, Files.size(Path.of(database + ".mv.db")));
+    }
+
+    private record Result(long rows, Duration elapsed, long liveBytes, long fileBytes) {
+
+        private String format(String ids) {
+            return String.format("%-13s %10d %12.0f %10d %10d%n", ids, rows, rows / (elapsed.toNanos() / 1e9),
+                    liveBytes / 1024, fileBytes / 1024);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.acme.booking.loadtest;
+
+import com.acme.booking.BookingApplication;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.HdrHistogram.Histogram;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Runs the same load against the application on platform threads and then on virtual threads (the
+ * {@code virtual-threads} profile), each in a fresh application, and writes both reports plus a side-by-side
+ * {@code comparison.txt} to {@code target/loadtest/thread-models}.
+ *
+ * <p>Tomcat serves at most 200 concurrent requests on platform threads, so the difference shows once
+ * {@code loadtest.concurrency} goes beyond that.
+ */
+@Slf4j
+class ThreadModelComparisonLoadTest {
+
+    @Test
+    void given_configuredLoad_when_drivingTheBookingApiOnPlatformAndVirtualThreads_then_noServerErrorsOccur() throws Exception {
+        // Given
+        LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+        Path reportDirectory = settings.reportDirectory().resolve("thread-models");
+
+        // When
+        LoadTestReport platformThreads = run(settings, false);
+        LoadTestReport virtualThreads = run(settings, true);
+
+        // Then
+        platformThreads.write(reportDirectory.resolve("platform"));
+        virtualThreads.write(reportDirectory.resolve("virtual"));
+        String comparison = compare(platformThreads, virtualThreads);
+        Files.writeString(reportDirectory.resolve("comparison.txt"), comparison);
+        log.info("Thread model comparison written to {}{}{}", reportDirectory, System.lineSeparator(), comparison);
+        assertEquals(0, platformThreads.serverErrors(), "Requests failed on platform threads");
+        assertEquals(0, virtualThreads.serverErrors(), "Requests failed on virtual threads");
+    }
+
+    private LoadTestReport run(LoadTestSettings settings, boolean virtualThreads) throws IOException, InterruptedException {
+        SpringApplicationBuilder application = new SpringApplicationBuilder(BookingApplication.class);
+        if (virtualThreads) {
+            application.profiles("virtual-threads");
+        }
+        try (ConfigurableApplicationContext context = application.run(
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:loadtest-" + (virtualThreads ? "virtual" : "platform"),
+                "--spring.jpa.properties.hibernate.generate_statistics=false",
+                "--logging.level.com.acme.booking=OFF",
+                "--logging.level.com.acme.booking.loadtest=INFO")) {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            LoadGenerator loadGenerator = new LoadGenerator(URI.create("http://localhost:" + port), settings,
+                    context.getBean(ObjectMapper.class));
+            loadGenerator.createMeetingRooms();
+            log.info("Running the load on {} threads", virtualThreads ? "virtual" : "platform");
+            return loadGenerator.run();
+        }
+    }
+
+    private String compare(LoadTestReport platformThreads, LoadTestReport virtualThreads) {
+        StringBuilder comparison = new StringBuilder()
+                .append(String.format("%-8s %-8s %10s %10s %10s %10s%n", "op", "threads", "req/s", "p50 ms", "p99 ms", "p999 ms"));
+        for (Operation operation : Operation.values()) {
+            appendRow(comparison, operation, "platform", platformThreads);
+            appendRow(comparison, operation, "virtual", virtualThreads);
+        }
+        return comparison.toString();
+    }
+
+    private void appendRow(StringBuilder comparison, Operation operation, String threads, LoadTestReport report) {
+        Map<Operation, OperationStatistics> statistics = report.statistics();
+        Histogram latencies = statistics.get(operation).getLatencies();
+        comparison.append(String.format("%-8s %-8s %10.1f %10.2f %10.2f %10.2f%n",
+                operation.name().toLowerCase(),
+                threads,
+                latencies.getTotalCount() / (report.elapsed().toNanos() / 1e9),
+                latencies.getValueAtPercentile(50) / 1000.0,
+                latencies.getValueAtPercentile(99) / 1000.0,
+                latencies.getValueAtPercentile(99.9) / 1000.0));
+    }
+}
@@ -2,8 +2,13 @@ package com.acme.booking;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.boot.autoconfigure.r2dbc.R2dbcAutoConfiguration;
 
-@SpringBootApplication
+/*
+ * R2DBC is only used by the reactive booking API, through ReactiveBookingRepository. A ConnectionFactory bean would
+ * make the JDBC DataSource, which JPA depends on, back off, so R2DBC is not auto-configured.
+ */
+@SpringBootApplication(exclude = R2dbcAutoConfiguration.class)
 public class BookingApplication {
 
 	public static void main(String[] args) {
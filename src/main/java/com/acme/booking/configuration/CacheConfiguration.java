@@ -0,0 +1,35 @@
+package com.acme.booking.configuration;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configures the caches of the application. The caches are bounded in size, expire after a configurable time
+ * and record hit, miss and eviction statistics, which are published as {@code cache.*} metrics by the actuator.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfiguration {
+
+    public static final String MEETING_ROOM_CACHE = "meetingRoom";
+    public static final String MEETING_ROOMS_CACHE = "meetingRooms";
+    public static final String MEETING_ROOM_PAGES_CACHE = "meetingRoomPages";
+
+    @Bean
+    public CacheManager cacheManager(@Value("${booking.cache.maximum-size:10000}") long maximumSize,
+                                     @Value("${booking.cache.expire-after-write:10m}") Duration expireAfterWrite) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager(MEETING_ROOM_CACHE, MEETING_ROOMS_CACHE, MEETING_ROOM_PAGES_CACHE);
+        cacheManager.setCaffeine(Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats());
+        return cacheManager;
+    }
+}
@@ -0,0 +1,34 @@
+package com.acme.booking.configuration;
+
+import org.springframework.boot.autoconfigure.condition.ConditionOutcome;
+import org.springframework.boot.autoconfigure.condition.SpringBootCondition;
+import org.springframework.context.annotation.ConditionContext;
+import org.springframework.core.env.Environment;
+import org.springframework.core.type.AnnotatedTypeMetadata;
+import org.springframework.util.StringUtils;
+
+/**
+ * Matches when the reactive booking API has a database to connect to: either {@code spring.r2dbc.url} is set, or the
+ * JDBC datasource is an H2 database that R2DBC can open as well. Otherwise the reactive booking API is switched off
+ * rather than failing the startup of the rest of the application.
+ */
+public class ReactiveDatabaseCondition extends SpringBootCondition {
+
+    public static final String H2_JDBC_URL_PREFIX = "jdbc:h2:";
+
+    @Override
+    public ConditionOutcome getMatchOutcome(ConditionContext context, AnnotatedTypeMetadata metadata) {
+        Environment environment = context.getEnvironment();
+        if (StringUtils.hasText(environment.getProperty("spring.r2dbc.url"))) {
+            return ConditionOutcome.match("spring.r2dbc.url is set");
+        }
+        String jdbcUrl = environment.getProperty("spring.datasource.url");
+        if (!StringUtils.hasText(jdbcUrl)) {
+            return ConditionOutcome.match("the datasource is an embedded H2 database");
+        }
+        if (jdbcUrl.startsWith(H2_JDBC_URL_PREFIX)) {
+            return ConditionOutcome.match("the datasource is an H2 database");
+        }
+        return ConditionOutcome.noMatch("spring.r2dbc.url is not set and the datasource " + jdbcUrl + " is not an H2 database");
+    }
+}
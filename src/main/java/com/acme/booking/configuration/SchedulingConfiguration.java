@@ -0,0 +1,12 @@
+package com.acme.booking.configuration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables the scheduled jobs of the application, such as the archival of past bookings.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfiguration {
+}
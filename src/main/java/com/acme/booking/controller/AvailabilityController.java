@@ -0,0 +1,37 @@
+package com.acme.booking.controller;
+
+import com.acme.booking.controller.dto.AvailabilityDto;
+import com.acme.booking.facade.AvailabilityFacade;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping("/api/availability")
+public class AvailabilityController {
+
+    private final AvailabilityFacade availabilityFacade;
+
+    /**
+     * Retrieves the meeting rooms that are free in a time range, along with the hourly occupancy of every meeting room on that date.
+     *
+     * @param date     the date
+     * @param timeFrom the start of the time range
+     * @param timeTo   the end of the time range
+     * @return the free meeting rooms and the occupancy of all meeting rooms
+     */
+    @Operation(summary = "Get meeting room availability", description = "Returns the meeting rooms that are free in a time range along with a meeting rooms × hours occupancy grid for the date.")
+    @GetMapping
+    @ResponseStatus(HttpStatus.OK)
+    public AvailabilityDto getAvailability(@RequestParam LocalDate date, @RequestParam LocalTime timeFrom, @RequestParam LocalTime timeTo) {
+        log.debug("Fetching meeting room availability for date: {} from {} to {}", date, timeFrom, timeTo);
+        return availabilityFacade.getAvailability(date, timeFrom, timeTo);
+    }
+}
@@ -1,53 +1,197 @@
 package com.acme.booking.controller;
 
+import com.acme.booking.controller.dto.BatchBookingResultDto;
+import com.acme.booking.controller.dto.BookingCancellationResultDto;
 import com.acme.booking.controller.dto.BookingDto;
+import com.acme.booking.controller.dto.BookingPageDto;
+import com.acme.booking.controller.dto.BookingSeriesDto;
 import com.acme.booking.controller.dto.CreateBookingDto;
+import com.acme.booking.controller.dto.CreateBookingSeriesDto;
+import com.acme.booking.facade.BookingChangeFacade;
 import com.acme.booking.facade.BookingFacade;
+import com.acme.booking.facade.export.BookingExportFormat;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
+import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.Size;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.UUID;
 
+import static com.acme.booking.controller.ReturnPreference.PREFER_HEADER;
+
 @RestController
 @RequestMapping("/api/booking")
 @RequiredArgsConstructor
 @Slf4j
 public class BookingController {
 
+    private static final int MAX_BATCH_SIZE = 1000;
+
     private final BookingFacade bookingFacade;
+    private final BookingChangeFacade bookingChangeFacade;
 
     /**
      * Creates a new booking.
+     * Clients that send {@code Prefer: return=minimal} receive only the created booking and its location.
      *
      * @param createBookingDto the booking data
-     * @return list of bookings with the same date and meeting room as the one that was created
+     * @param prefer           the Prefer header, if any
+     * @return list of bookings with the same date and meeting room as the one that was created, or only the created booking
      */
-    @Operation(summary = "Create Booking", description = "Creates a new booking and returns a list of bookings with the same date and meeting room as the one that was created")
+    @Operation(summary = "Create Booking", description = "Creates a new booking and returns a list of bookings with the same date and meeting room as the one that was created. With 'Prefer: return=minimal', returns only the created booking along with its Location.")
     @PostMapping("/create")
-    @ResponseStatus(HttpStatus.CREATED)
-    public List<BookingDto> createBooking(@Valid @RequestBody CreateBookingDto createBookingDto) {
+    public ResponseEntity<?> createBooking(@Valid @RequestBody CreateBookingDto createBookingDto,
+                                           @RequestHeader(name = PREFER_HEADER, required = false) String prefer) {
         log.info("Creating booking with data: {}", createBookingDto);
-        return bookingFacade.createBooking(createBookingDto);
+        if (ReturnPreference.isMinimal(prefer)) {
+            BookingDto booking = bookingFacade.createAndGetBooking(createBookingDto);
+            return ReturnPreference.minimalCreated("/api/booking/{id}", booking.getId(), booking);
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(bookingFacade.createBooking(createBookingDto));
+    }
+
+    /**
+     * Creates a batch of bookings. Bookings that are invalid, refer to a missing meeting room or overlap with another
+     * booking are reported individually and don't prevent the rest of the batch from being created.
+     *
+     * @param createBookingDtos the bookings to create
+     * @return the result of each booking, in the order they were given
+     */
+    @Operation(summary = "Create bookings in batch", description = "Creates a batch of bookings and returns the result of each one, in the order they were given.")
+    @PostMapping("/batch")
+    @ResponseStatus(HttpStatus.OK)
+    public List<BatchBookingResultDto> createBookings(@RequestBody @Size(max = MAX_BATCH_SIZE) List<CreateBookingDto> createBookingDtos) {
+        log.info("Creating batch of {} bookings", createBookingDtos.size());
+        return bookingFacade.createBookings(createBookingDtos);
+    }
+
+    /**
+     * Creates a booking that repeats daily or weekly. Occurrences that overlap with existing bookings are skipped.
+     *
+     * @param createBookingSeriesDto the series data, with the date of the first occurrence
+     * @return the bookings that were created and the dates of the occurrences that were skipped
+     */
+    @Operation(summary = "Create booking series", description = "Creates a booking that repeats daily or weekly and returns the bookings that were created along with the dates of the occurrences that overlapped with existing bookings.")
+    @PostMapping("/series")
+    @ResponseStatus(HttpStatus.CREATED)
+    public BookingSeriesDto createBookingSeries(@Valid @RequestBody CreateBookingSeriesDto createBookingSeriesDto) {
+        log.info("Creating booking series with data: {}", createBookingSeriesDto);
+        return bookingFacade.createBookingSeries(createBookingSeriesDto);
+    }
+
+    /**
+     * Retrieves the bookings of a meeting room, or of all meeting rooms, within a date range one page at a time,
+     * ordered by date, start time and ID. When more bookings follow, the response carries a {@code Link} header with
+     * {@code rel="next"} pointing to the next page.
+     *
+     * @param meetingRoomId the meeting room ID, or null for the bookings of all meeting rooms
+     * @param dateFrom      the first date of the range, inclusive
+     * @param dateTo        the last date of the range, inclusive
+     * @param cursor        the cursor of the page, as found in the link to the next page, or null for the first page
+     * @param size          the maximum number of bookings in the page, or null for the default page size
+     * @return a page of bookings
+     */
+    @GetMapping("/range")
+    @Operation(summary = "Get bookings in date range", description = "Retrieves a page of the bookings of a meeting room, or of all meeting rooms, between two dates, ordered by date and start time. The Link header points to the next page, if there is one.")
+    public ResponseEntity<List<BookingDto>> getBookingsInRange(@RequestParam(required = false) UUID meetingRoomId,
+                                                               @RequestParam LocalDate dateFrom,
+                                                               @RequestParam LocalDate dateTo,
+                                                               @RequestParam(required = false) String cursor,
+                                                               @RequestParam(required = false) @Min(1) Integer size) {
+        log.debug("Fetching bookings for meeting room ID: {} from {} to {} after cursor: {}", meetingRoomId, dateFrom, dateTo, cursor);
+        BookingPageDto page = bookingFacade.getBookingsInRange(meetingRoomId, dateFrom, dateTo, cursor, size);
+        return NextPageLink.page(page.getBookings(), page.getNextCursor(), size);
+    }
+
+    /**
+     * Exports the bookings of a meeting room, or of all meeting rooms, within a date range as a file download.
+     * The bookings are written to the response as they are read from the database, so exports of any size use the
+     * same amount of memory.
+     *
+     * @param meetingRoomId the meeting room ID, or null for the bookings of all meeting rooms
+     * @param dateFrom      the first date of the range, inclusive
+     * @param dateTo        the last date of the range, inclusive
+     * @param format        the format of the export
+     * @param response      the response the export is written to
+     */
+    @GetMapping("/export")
+    @Operation(summary = "Export bookings", description = "Streams the bookings of a meeting room, or of all meeting rooms, between two dates as NDJSON or CSV, ordered by date and start time.")
+    public void exportBookings(@RequestParam(required = false) UUID meetingRoomId,
+                               @RequestParam LocalDate dateFrom,
+                               @RequestParam LocalDate dateTo,
+                               @RequestParam(defaultValue = "NDJSON") BookingExportFormat format,
+                               HttpServletResponse response) {
+        log.info("Exporting bookings for meeting room ID: {} from {} to {} as {}", meetingRoomId, dateFrom, dateTo, format);
+        bookingFacade.exportBookings(meetingRoomId, dateFrom, dateTo, format, () -> {
+            response.setContentType(format.getMediaType());
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                    .filename("bookings-" + dateFrom + "-" + dateTo + "." + format.getFileExtension())
+                    .build()
+                    .toString());
+            return response.getOutputStream();
+        });
+    }
+
+    /**
+     * Streams the bookings created and deleted from now on for a meeting room, or for all meeting rooms, as server-sent
+     * events. A {@code resync} event tells the client that it fell behind and must read the bookings again.
+     *
+     * @param meetingRoomId the meeting room ID, or null for the changes of all meeting rooms
+     * @return the event stream
+     */
+    @GetMapping(path = "/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(summary = "Subscribe to booking changes", description = "Streams 'created' and 'deleted' events for the bookings of a meeting room, or of all meeting rooms, as server-sent events. A 'resync' event means events were dropped and the bookings must be read again.")
+    public SseEmitter subscribeToChanges(@RequestParam(required = false) UUID meetingRoomId) {
+        log.debug("Subscribing to booking changes for meeting room ID: {}", meetingRoomId);
+        return bookingChangeFacade.subscribe(meetingRoomId);
+    }
 
+    /**
+     * Retrieves a booking by ID.
+     *
+     * @param id the booking ID
+     * @return the booking
+     */
+    @GetMapping("/{id}")
+    @Operation(summary = "Get booking", description = "Retrieves a booking by ID.")
+    public BookingDto getBooking(@PathVariable UUID id) {
+        log.debug("Fetching booking with ID: {}", id);
+        return bookingFacade.getBooking(id);
     }
 
     /**
      * Retrieves bookings for a specific meeting room on a given date.
+     * The response carries an ETag, and requests whose If-None-Match header matches the current version of the
+     * bookings are answered with 304 Not Modified without reading the bookings.
      *
      * @param meetingRoomId the meeting room ID
      * @param date          the date of bookings
-     * @return list of bookings
+     * @param webRequest    the current request, used for the ETag check
+     * @return list of bookings, or null if the bookings have not been modified
      */
     @GetMapping
-    @ResponseStatus(HttpStatus.OK)
-    @Operation(summary = "Get all bookings for meeting room/date", description = "Retrieves bookings for a specific meeting room on a given date.")
-    public List<BookingDto> getBookingsForMeetingRoomAndDate(@RequestParam UUID meetingRoomId, @RequestParam LocalDate date) {
+    @Operation(summary = "Get all bookings for meeting room/date", description = "Retrieves bookings for a specific meeting room on a given date. Supports conditional requests through ETag/If-None-Match.")
+    public List<BookingDto> getBookingsForMeetingRoomAndDate(@RequestParam UUID meetingRoomId, @RequestParam LocalDate date, WebRequest webRequest) {
+        if (webRequest.checkNotModified(bookingFacade.getBookingsVersion(meetingRoomId, date))) {
+            log.debug("Bookings for meeting room ID: {} and date: {} have not been modified", meetingRoomId, date);
+            return null;
+        }
         log.debug("Fetching bookings for meeting room ID: {} and date: {}", meetingRoomId, date);
         return bookingFacade.getBookings(meetingRoomId, date);
     }
@@ -64,4 +208,37 @@ public class BookingController {
         log.info("Deleting booking with ID: {}", id);
         bookingFacade.deleteBooking(id);
     }
-}
\ No newline at end of file
+
+    /**
+     * Cancels several bookings by ID. All bookings that have not ended yet are deleted together, and the result tells
+     * which IDs were deleted, which don't exist and which belong to bookings that have already ended.
+     *
+     * @param ids the booking IDs
+     * @return the IDs of the bookings by outcome
+     */
+    @Operation(summary = "Cancel bookings", description = "Deletes the bookings with the given IDs that have not ended yet, and returns the IDs that were deleted, not found or already in the past.")
+    @PostMapping("/cancel")
+    @ResponseStatus(HttpStatus.OK)
+    public BookingCancellationResultDto deleteBookings(@RequestBody @Size(max = MAX_BATCH_SIZE) List<UUID> ids) {
+        log.info("Canceling {} bookings", ids.size());
+        return bookingFacade.deleteBookings(ids);
+    }
+
+    /**
+     * Cancels all bookings of an employee within a date range, for instance when the employee leaves.
+     *
+     * @param employeeEmail the email of the employee
+     * @param dateFrom      the first date of the range, inclusive
+     * @param dateTo        the last date of the range, inclusive
+     * @return the IDs of the bookings by outcome
+     */
+    @Operation(summary = "Cancel bookings of employee", description = "Deletes the bookings of an employee between two dates that have not ended yet, and returns the IDs that were deleted or already in the past.")
+    @PostMapping("/cancel/employee")
+    @ResponseStatus(HttpStatus.OK)
+    public BookingCancellationResultDto deleteBookingsOfEmployee(@RequestParam @Email String employeeEmail,
+                                                                 @RequestParam LocalDate dateFrom,
+                                                                 @RequestParam LocalDate dateTo) {
+        log.info("Canceling bookings of employee {} from {} to {}", employeeEmail, dateFrom, dateTo);
+        return bookingFacade.deleteBookingsOfEmployee(employeeEmail, dateFrom, dateTo);
+    }
+}
@@ -0,0 +1,39 @@
+package com.acme.booking.controller;
+
+import com.acme.booking.controller.dto.BookingImportReportDto;
+import com.acme.booking.facade.ImportFacade;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+
+@RestController
+@RequiredArgsConstructor
+@Slf4j
+@RequestMapping("/api/import")
+public class ImportController {
+
+    private final ImportFacade importFacade;
+
+    /**
+     * Imports bookings in bulk from CSV with the columns meetingRoom, employeeEmail, date, timeFrom and timeTo.
+     * Meeting rooms that don't exist yet are created. Lines that are malformed, have an invalid employee email or overlap
+     * with another booking are rejected and reported without stopping the import. Imports larger than
+     * {@code booking.import.max-size} or longer than {@code booking.import.max-lines} are turned away with 413.
+     *
+     * @param request the request whose body holds the CSV
+     * @return the report of the import
+     * @throws IOException if the request body cannot be read
+     */
+    @Operation(summary = "Import bookings", description = "Imports bookings from CSV (meetingRoom,employeeEmail,date,timeFrom,timeTo), creating missing meeting rooms and reporting rejected lines.")
+    @PostMapping(path = "/bookings", consumes = "text/csv")
+    @ResponseStatus(HttpStatus.OK)
+    public BookingImportReportDto importBookings(HttpServletRequest request) throws IOException {
+        log.debug("Importing bookings from CSV");
+        return importFacade.importBookings(request.getReader(), request.getContentLengthLong());
+    }
+}
@@ -1,14 +1,20 @@
 package com.acme.booking.controller;
 
 import com.acme.booking.controller.dto.MeetingRoomDto;
+import com.acme.booking.controller.dto.MeetingRoomPageDto;
 import com.acme.booking.facade.MeetingRoomFacade;
 import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.constraints.Min;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.UUID;
+
+import static com.acme.booking.controller.ReturnPreference.PREFER_HEADER;
 
 @RestController
 @RequiredArgsConstructor
@@ -19,29 +25,54 @@ public class MeetingRoomController {
     private final MeetingRoomFacade meetingRoomFacade;
 
     /**
-     * Creates a new meeting room
+     * Creates a new meeting room.
+     * Clients that send {@code Prefer: return=minimal} receive only the created meeting room and its location.
      *
-     * @param name the name of the meeting room to create
-     * @return a list of all meeting rooms
+     * @param name   the name of the meeting room to create
+     * @param prefer the Prefer header, if any
+     * @return a list of all meeting rooms, or only the created meeting room
      */
-    @Operation(summary = "Create meeting room", description = "Creates a new meeting room and returns a list of all meeting rooms.")
+    @Operation(summary = "Create meeting room", description = "Creates a new meeting room and returns a list of all meeting rooms. With 'Prefer: return=minimal', returns only the created meeting room along with its Location.")
     @PostMapping("/create")
-    @ResponseStatus(HttpStatus.CREATED)
-    public List<MeetingRoomDto> createMeetingRoom(@RequestParam String name) {
+    public ResponseEntity<?> createMeetingRoom(@RequestParam String name,
+                                               @RequestHeader(name = PREFER_HEADER, required = false) String prefer) {
         log.info("Creating meeting room with name: {}", name);
-        return meetingRoomFacade.createMeetingRoom(name);
+        if (ReturnPreference.isMinimal(prefer)) {
+            MeetingRoomDto meetingRoom = meetingRoomFacade.createAndGetMeetingRoom(name);
+            return ReturnPreference.minimalCreated("/api/meeting-room/{id}", meetingRoom.getId(), meetingRoom);
+        }
+        return ResponseEntity.status(HttpStatus.CREATED).body(meetingRoomFacade.createMeetingRoom(name));
     }
 
     /**
-     * Retrieves all meeting rooms.
+     * Retrieves a meeting room by ID.
      *
-     * @return a list of all meeting rooms
+     * @param id the meeting room ID
+     * @return the meeting room
      */
-    @Operation(summary = "Get all meeting rooms", description = "Returns a list of all meeting rooms.")
-    @GetMapping
+    @Operation(summary = "Get meeting room", description = "Returns a meeting room by ID.")
+    @GetMapping("/{id}")
     @ResponseStatus(HttpStatus.OK)
-    public List<MeetingRoomDto> getAll() {
-        log.debug("Fetching all meeting rooms.");
-        return meetingRoomFacade.getAll();
+    public MeetingRoomDto getMeetingRoom(@PathVariable UUID id) {
+        log.debug("Fetching meeting room with ID: {}", id);
+        return meetingRoomFacade.getMeetingRoom(id);
+    }
+
+    /**
+     * Retrieves the meeting rooms one page at a time, ordered by name and ID.
+     * When more meeting rooms follow, the response carries a {@code Link} header with {@code rel="next"} pointing
+     * to the next page.
+     *
+     * @param cursor the cursor of the page, as found in the link to the next page, or null for the first page
+     * @param size   the maximum number of meeting rooms in the page, or null for the default page size
+     * @return a page of meeting rooms
+     */
+    @Operation(summary = "Get all meeting rooms", description = "Returns a page of meeting rooms ordered by name. The Link header points to the next page, if there is one.")
+    @GetMapping
+    public ResponseEntity<List<MeetingRoomDto>> getAll(@RequestParam(required = false) String cursor,
+                                                       @RequestParam(required = false) @Min(1) Integer size) {
+        log.debug("Fetching meeting rooms after cursor: {}", cursor);
+        MeetingRoomPageDto page = meetingRoomFacade.getPage(cursor, size);
+        return NextPageLink.page(page.getMeetingRooms(), page.getNextCursor(), size);
     }
 }
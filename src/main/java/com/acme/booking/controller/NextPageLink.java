@@ -0,0 +1,38 @@
+package com.acme.booking.controller;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+import org.springframework.web.util.UriComponentsBuilder;
+
+import java.util.List;
+
+/**
+ * Builds the responses of paginated endpoints. The body is the page itself and, when more items follow, a
+ * {@code Link} header with {@code rel="next"} (RFC 8288) points to the current request with the cursor of the next page.
+ */
+final class NextPageLink {
+
+    private NextPageLink() {
+    }
+
+    /**
+     * @param items      the items of the page
+     * @param nextCursor the cursor of the next page, or null if this is the last page
+     * @param size       the page size the client asked for, or null if it used the default one
+     * @return a 200 OK response with the items and the link to the next page, if any
+     */
+    static <T> ResponseEntity<List<T>> page(List<T> items, String nextCursor, Integer size) {
+        if (nextCursor == null) {
+            return ResponseEntity.ok(items);
+        }
+        UriComponentsBuilder nextPage = ServletUriComponentsBuilder.fromCurrentRequest()
+                .replaceQueryParam("cursor", nextCursor);
+        if (size != null) {
+            nextPage.replaceQueryParam("size", size);
+        }
+        return ResponseEntity.ok()
+                .header(HttpHeaders.LINK, "<" + nextPage.toUriString() + ">; rel=\"next\"")
+                .body(items);
+    }
+}
@@ -0,0 +1,75 @@
+package com.acme.booking.controller;
+
+import com.acme.booking.configuration.ReactiveDatabaseCondition;
+import com.acme.booking.controller.dto.BookingDto;
+import com.acme.booking.controller.dto.CreateBookingDto;
+import com.acme.booking.facade.ReactiveBookingFacade;
+import io.swagger.v3.oas.annotations.Operation;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Non-blocking variant of {@link BookingController}. Requests are completed asynchronously, so the request thread is
+ * released while the bookings are read or written.
+ */
+@RestController
+@Conditional(ReactiveDatabaseCondition.class)
+@RequestMapping("/api/reactive/booking")
+@RequiredArgsConstructor
+@Slf4j
+public class ReactiveBookingController {
+
+    private final ReactiveBookingFacade reactiveBookingFacade;
+
+    /**
+     * Creates a new booking.
+     *
+     * @param createBookingDto the booking data
+     * @return list of bookings with the same date and meeting room as the one that was created
+     */
+    @Operation(summary = "Create Booking (reactive)", description = "Creates a new booking without blocking the request thread and returns a list of bookings with the same date and meeting room as the one that was created")
+    @PostMapping("/create")
+    @ResponseStatus(HttpStatus.CREATED)
+    public Mono<List<BookingDto>> createBooking(@Valid @RequestBody CreateBookingDto createBookingDto) {
+        log.info("Creating booking reactively with data: {}", createBookingDto);
+        return reactiveBookingFacade.createBooking(createBookingDto);
+    }
+
+    /**
+     * Retrieves bookings for a specific meeting room on a given date.
+     *
+     * @param meetingRoomId the meeting room ID
+     * @param date          the date of bookings
+     * @return the bookings, sorted by start time
+     */
+    @GetMapping
+    @Operation(summary = "Get all bookings for meeting room/date (reactive)", description = "Retrieves bookings for a specific meeting room on a given date through a non-blocking database driver.")
+    public Flux<BookingDto> getBookingsForMeetingRoomAndDate(@RequestParam UUID meetingRoomId, @RequestParam LocalDate date) {
+        log.debug("Fetching bookings reactively for meeting room ID: {} and date: {}", meetingRoomId, date);
+        return reactiveBookingFacade.getBookings(meetingRoomId, date);
+    }
+
+    /**
+     * Deletes a booking by ID.
+     *
+     * @param id the booking ID
+     * @return completes once the booking is deleted
+     */
+    @Operation(summary = "Delete booking (reactive)", description = "Deletes a booking by ID without blocking the request thread.")
+    @DeleteMapping
+    @ResponseStatus(HttpStatus.OK)
+    public Mono<Void> deleteBooking(@RequestParam UUID id) {
+        log.info("Deleting booking reactively with ID: {}", id);
+        return reactiveBookingFacade.deleteBooking(id);
+    }
+}
@@ -0,0 +1,54 @@
+package com.acme.booking.controller;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.UUID;
+
+/**
+ * Support for the {@code return} preference of the {@code Prefer} request header (RFC 7240).
+ * Create endpoints respond with the whole list the new resource belongs to by default, and with only the created
+ * resource and its location when the client sends {@code Prefer: return=minimal}.
+ */
+final class ReturnPreference {
+
+    static final String PREFER_HEADER = "Prefer";
+    static final String PREFERENCE_APPLIED_HEADER = "Preference-Applied";
+    static final String RETURN_MINIMAL = "return=minimal";
+
+    private ReturnPreference() {
+    }
+
+    /**
+     * @param prefer the value of the {@code Prefer} header, or null if it wasn't sent
+     * @return true if the client asked for a minimal response, false otherwise
+     */
+    static boolean isMinimal(String prefer) {
+        if (prefer == null) {
+            return false;
+        }
+        for (String preference : prefer.split(",")) {
+            String token = preference.split(";")[0].replaceAll("\\s", "");
+            if (token.equalsIgnoreCase(RETURN_MINIMAL)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Builds the minimal response for a created resource.
+     *
+     * @param path the path of the resource, with an {@code {id}} placeholder
+     * @param id   the ID of the created resource
+     * @param body the created resource
+     * @return a 201 Created response with the location of the resource
+     */
+    static <T> ResponseEntity<T> minimalCreated(String path, UUID id, T body) {
+        URI location = ServletUriComponentsBuilder.fromCurrentContextPath().path(path).buildAndExpand(id).toUri();
+        return ResponseEntity.created(location)
+                .header(PREFERENCE_APPLIED_HEADER, RETURN_MINIMAL)
+                .body(body);
+    }
+}
@@ -0,0 +1,20 @@
+package com.acme.booking.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class AvailabilityDto {
+    private LocalDate date;
+    private LocalTime timeFrom;
+    private LocalTime timeTo;
+    private List<MeetingRoomDto> freeMeetingRooms;
+    private List<RoomOccupancyDto> occupancy;
+}
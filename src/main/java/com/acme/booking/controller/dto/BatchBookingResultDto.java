@@ -0,0 +1,22 @@
+package com.acme.booking.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class BatchBookingResultDto {
+    private int index;
+    private Status status;
+    private BookingDto booking;
+    private String message;
+
+    public enum Status {
+        CREATED,
+        INVALID,
+        NOT_FOUND,
+        CONFLICT
+    }
+}
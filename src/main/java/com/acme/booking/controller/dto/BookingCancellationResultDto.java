@@ -0,0 +1,17 @@
+package com.acme.booking.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class BookingCancellationResultDto {
+    private List<UUID> deleted;
+    private List<UUID> notFound;
+    private List<UUID> past;
+}
@@ -0,0 +1,28 @@
+package com.acme.booking.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class BookingImportReportDto {
+    private long rows;
+    private long imported;
+    private long rejected;
+    private int meetingRoomsCreated;
+    private long elapsedMillis;
+    private long rowsPerSecond;
+    private List<RejectedLineDto> rejections;
+
+    @Data
+    @Builder
+    @AllArgsConstructor
+    public static class RejectedLineDto {
+        private long line;
+        private String reason;
+    }
+}
@@ -0,0 +1,16 @@
+package com.acme.booking.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class BookingSeriesDto {
+    private List<BookingDto> bookings;
+    private List<LocalDate> conflictingDates;
+}
@@ -1,6 +1,7 @@
 package com.acme.booking.controller.dto;
 
 import com.acme.booking.validation.ValidBooking;
+import jakarta.validation.constraints.Email;
 import jakarta.validation.constraints.NotNull;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -18,6 +19,7 @@ public class CreateBookingDto {
     @NotNull
     private UUID meetingRoomId;
     @NotNull
+    @Email
     private String employeeEmail;
     @NotNull
     private LocalDate date;
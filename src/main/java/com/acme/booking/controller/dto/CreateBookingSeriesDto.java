@@ -0,0 +1,38 @@
+package com.acme.booking.controller.dto;
+
+import com.acme.booking.validation.ValidBooking;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Builder;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+import lombok.experimental.SuperBuilder;
+
+/**
+ * A booking that repeats. The date of the booking is the date of the first occurrence.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+@SuperBuilder
+@NoArgsConstructor
+@ValidBooking
+public class CreateBookingSeriesDto extends CreateBookingDto {
+    @NotNull
+    private Frequency frequency;
+    @NotNull
+    @Min(1)
+    @Max(366)
+    @Builder.Default
+    private Integer interval = 1;
+    @NotNull
+    @Min(1)
+    @Max(366)
+    private Integer occurrences;
+
+    public enum Frequency {
+        DAILY,
+        WEEKLY
+    }
+}
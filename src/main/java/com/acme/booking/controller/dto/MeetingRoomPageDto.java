@@ -0,0 +1,15 @@
+package com.acme.booking.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class MeetingRoomPageDto {
+    private List<MeetingRoomDto> meetingRooms;
+    private String nextCursor;
+}
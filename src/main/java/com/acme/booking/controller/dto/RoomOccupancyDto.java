@@ -0,0 +1,20 @@
+package com.acme.booking.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+public class RoomOccupancyDto {
+    private UUID meetingRoomId;
+    private String name;
+    /**
+     * One entry per hour of the day, true if the meeting room is booked during that hour.
+     */
+    private List<Boolean> occupiedHours;
+}
@@ -0,0 +1,44 @@
+package com.acme.booking.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * A booking that ended long enough ago to be moved out of the {@link Booking} table.
+ *
+ * <p>Archived bookings keep the ID they had as bookings. They refer to their meeting room by ID only, and are never
+ * changed once they are archived.
+ */
+@Data
+@Entity
+@Builder(toBuilder = true)
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(
+    name = "booking_archive",
+    indexes = {
+            @Index(name = "ix_booking_archive_meeting_room_date_time_from", columnList = "meeting_room_id, date, time_from"),
+            @Index(name = "ix_booking_archive_date_time_from", columnList = "date, time_from")
+    }
+)
+public class ArchivedBooking {
+    @Id
+    private UUID id;
+    @Column(nullable = false)
+    private UUID meetingRoomId;
+    @Column(nullable = false)
+    private String employeeEmail;
+    @Column(nullable = false)
+    private LocalDate date;
+    @Column(nullable = false)
+    private LocalTime timeFrom;
+    @Column(nullable = false)
+    private LocalTime timeTo;
+}
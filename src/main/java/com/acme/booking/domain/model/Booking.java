@@ -1,10 +1,12 @@
 package com.acme.booking.domain.model;
 
 import jakarta.persistence.*;
+import jakarta.validation.constraints.Email;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.UuidGenerator;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
@@ -15,14 +17,23 @@ import java.util.UUID;
 @Builder(toBuilder = true)
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(
+    indexes = {
+            @Index(name = "ix_booking_meeting_room_date_time_from", columnList = "meeting_room_id, date, time_from"),
+            @Index(name = "ix_booking_date_time_from", columnList = "date, time_from"),
+            @Index(name = "ix_booking_employee_email_date", columnList = "employee_email, date")
+    }
+)
 public class Booking {
     @Id
     @GeneratedValue
+    @UuidGenerator(algorithm = TimeOrderedUuidGenerator.class)
     private UUID id;
     @ManyToOne
     @JoinColumn(name = "meeting_room_id", nullable = false)
     private MeetingRoom meetingRoom;
     @Column(nullable = false)
+    @Email
     private String employeeEmail;
     @Column(nullable = false)
     private LocalDate date;
@@ -0,0 +1,27 @@
+package com.acme.booking.domain.model;
+
+import java.util.UUID;
+
+/**
+ * Outcome of canceling a booking that was part of a bulk cancellation.
+ *
+ * @param bookingId the booking ID
+ * @param status    what happened to the booking
+ */
+public record BookingCancellationOutcome(UUID bookingId, Status status) {
+
+    public enum Status {
+        /**
+         * The booking was deleted.
+         */
+        DELETED,
+        /**
+         * There is no booking with the ID.
+         */
+        NOT_FOUND,
+        /**
+         * The booking has already ended, so it was kept.
+         */
+        PAST
+    }
+}
@@ -0,0 +1,31 @@
+package com.acme.booking.domain.model;
+
+/**
+ * A change to the bookings, as published to the subscribers of the booking change feed.
+ *
+ * @param type    what changed
+ * @param booking the booking that was created or deleted, or null for {@link Type#RESYNC}
+ */
+public record BookingChange(Type type, BookingView booking) {
+
+    public enum Type {
+        CREATED,
+        DELETED,
+        /**
+         * Changes were dropped because the subscriber fell behind, so it must read the bookings again.
+         */
+        RESYNC
+    }
+
+    public static BookingChange created(BookingView booking) {
+        return new BookingChange(Type.CREATED, booking);
+    }
+
+    public static BookingChange deleted(BookingView booking) {
+        return new BookingChange(Type.DELETED, booking);
+    }
+
+    public static BookingChange resync() {
+        return new BookingChange(Type.RESYNC, null);
+    }
+}
@@ -0,0 +1,10 @@
+package com.acme.booking.domain.model;
+
+/**
+ * Outcome of creating a booking that was part of a batch.
+ *
+ * @param booking the booking
+ * @param created true if the booking was saved, false if it overlapped with another booking
+ */
+public record BookingCreationOutcome(Booking booking, boolean created) {
+}
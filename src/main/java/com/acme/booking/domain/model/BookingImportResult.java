@@ -0,0 +1,27 @@
+package com.acme.booking.domain.model;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Outcome of a bulk import of bookings.
+ *
+ * @param rows         the number of bookings read
+ * @param imported     the number of bookings saved
+ * @param rejected     the number of bookings rejected because they were malformed or overlapped with another booking
+ * @param roomsCreated the number of meeting rooms created for room names that didn't exist yet
+ * @param rejections   the first rejected lines, in the order they were read
+ * @param elapsed      the time the import took
+ */
+public record BookingImportResult(long rows, long imported, long rejected, int roomsCreated,
+                                  List<RejectedLine> rejections, Duration elapsed) {
+
+    /**
+     * A line of the import that was not saved.
+     *
+     * @param lineNumber the line number, starting from 1
+     * @param reason     why the line was rejected
+     */
+    public record RejectedLine(long lineNumber, String reason) {
+    }
+}
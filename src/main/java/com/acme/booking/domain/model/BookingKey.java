@@ -0,0 +1,19 @@
+package com.acme.booking.domain.model;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Position of a booking in the bookings ordered by date, start time and ID.
+ *
+ * @param date     the date of the booking
+ * @param timeFrom the start time of the booking
+ * @param id       the booking ID
+ */
+public record BookingKey(LocalDate date, LocalTime timeFrom, UUID id) {
+
+    public static BookingKey of(BookingView booking) {
+        return new BookingKey(booking.date(), booking.timeFrom(), booking.id());
+    }
+}
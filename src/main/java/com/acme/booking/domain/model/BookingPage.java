@@ -0,0 +1,12 @@
+package com.acme.booking.domain.model;
+
+import java.util.List;
+
+/**
+ * A page of bookings, ordered by date, start time and ID.
+ *
+ * @param bookings the bookings of the page
+ * @param hasNext  true if more bookings follow the last one of the page, false otherwise
+ */
+public record BookingPage(List<BookingView> bookings, boolean hasNext) {
+}
@@ -0,0 +1,63 @@
+package com.acme.booking.domain.model;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.stream.Stream;
+
+/**
+ * A booking that repeats on a daily or weekly basis.
+ *
+ * @param meetingRoom   the meeting room
+ * @param employeeEmail the email of the employee making the booking
+ * @param startDate     the date of the first occurrence
+ * @param timeFrom      the start time of every occurrence
+ * @param timeTo        the end time of every occurrence
+ * @param frequency     how often the booking repeats
+ * @param interval      the number of days or weeks between two occurrences
+ * @param occurrences   the total number of occurrences
+ */
+public record BookingSeries(MeetingRoom meetingRoom,
+                            String employeeEmail,
+                            LocalDate startDate,
+                            LocalTime timeFrom,
+                            LocalTime timeTo,
+                            Frequency frequency,
+                            int interval,
+                            int occurrences) {
+
+    public enum Frequency {
+        DAILY(ChronoUnit.DAYS),
+        WEEKLY(ChronoUnit.WEEKS);
+
+        private final ChronoUnit unit;
+
+        Frequency(ChronoUnit unit) {
+            this.unit = unit;
+        }
+    }
+
+    /**
+     * Expands the series into its occurrences. The bookings are only created as the stream is consumed.
+     *
+     * @return the bookings of the series, ordered by date
+     */
+    public Stream<Booking> bookings() {
+        return Stream.iterate(startDate, date -> date.plus(interval, frequency.unit))
+                .limit(occurrences)
+                .map(date -> Booking.builder()
+                        .meetingRoom(meetingRoom)
+                        .employeeEmail(employeeEmail)
+                        .date(date)
+                        .timeFrom(timeFrom)
+                        .timeTo(timeTo)
+                        .build());
+    }
+
+    /**
+     * @return the date of the last occurrence
+     */
+    public LocalDate endDate() {
+        return startDate.plus((long) interval * (occurrences - 1), frequency.unit);
+    }
+}
@@ -0,0 +1,32 @@
+package com.acme.booking.domain.model;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Read-only view of a booking that refers to its meeting room by ID. It is a plain value, so the services pass it
+ * around freely, and the queries that list bookings select it directly, so no entity, meeting room or persistence
+ * context entry is created for each row.
+ *
+ * @param id            the booking ID
+ * @param meetingRoomId the meeting room ID
+ * @param employeeEmail the email of the employee that made the booking
+ * @param date          the date of the booking
+ * @param timeFrom      the start time of the booking
+ * @param timeTo        the end time of the booking
+ */
+public record BookingView(UUID id, UUID meetingRoomId, String employeeEmail, LocalDate date, LocalTime timeFrom, LocalTime timeTo) {
+
+    public static BookingView of(Booking booking) {
+        return new BookingView(booking.getId(), booking.getMeetingRoom().getId(), booking.getEmployeeEmail(),
+                booking.getDate(), booking.getTimeFrom(), booking.getTimeTo());
+    }
+
+    /**
+     * @return the meeting room and date of the booking
+     */
+    public RoomDay roomDay() {
+        return new RoomDay(meetingRoomId, date);
+    }
+}
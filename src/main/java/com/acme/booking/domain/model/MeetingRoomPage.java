@@ -0,0 +1,12 @@
+package com.acme.booking.domain.model;
+
+import java.util.List;
+
+/**
+ * A page of meeting rooms, ordered by name and ID.
+ *
+ * @param meetingRooms the meeting rooms of the page
+ * @param hasNext      true if more meeting rooms follow the last one of the page, false otherwise
+ */
+public record MeetingRoomPage(List<MeetingRoom> meetingRooms, boolean hasNext) {
+}
@@ -0,0 +1,16 @@
+package com.acme.booking.domain.model;
+
+/**
+ * Availability of a meeting room on a given date.
+ *
+ * @param meetingRoom   the meeting room
+ * @param free          true if the meeting room has no booking in the requested time range
+ * @param occupiedHours a bitmap of the hours of the day the meeting room is booked for, where bit {@code h} is set
+ *                      if a booking overlaps with the hour starting at {@code h:00}
+ */
+public record RoomAvailability(MeetingRoom meetingRoom, boolean free, int occupiedHours) {
+
+    public boolean isOccupied(int hour) {
+        return (occupiedHours & (1 << hour)) != 0;
+    }
+}
@@ -0,0 +1,17 @@
+package com.acme.booking.domain.model;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Identifies the bookings of a meeting room on a given date.
+ *
+ * @param meetingRoomId the meeting room ID
+ * @param date          the date
+ */
+public record RoomDay(UUID meetingRoomId, LocalDate date) {
+
+    public static RoomDay of(Booking booking) {
+        return new RoomDay(booking.getMeetingRoom().getId(), booking.getDate());
+    }
+}
@@ -0,0 +1,92 @@
+package com.acme.booking.domain.model;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.UUID;
+
+/**
+ * The minutes of a day that a meeting room is booked for, stored as a bitmask with one bit per minute.
+ *
+ * <p>It is kept alongside the bookings of the room/day and written in the same transaction, and its version turns every
+ * write into a compare-and-set: an update only succeeds if nobody else changed the mask since it was read. Two writers
+ * that both see a slot as free can therefore never both book it, even when they run in different application instances.
+ *
+ * <p>Bookings are only required to last whole hours, not to start on the hour, so the mask has minute rather than hour
+ * resolution. Booking times with seconds are rejected before they get here, so the mask and the in-memory index agree
+ * on which bookings overlap; should one slip through, it is rounded outwards to whole minutes.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@IdClass(RoomDay.class)
+public class RoomDayOccupancy {
+
+    private static final int MINUTES_PER_DAY = 24 * 60;
+
+    @Id
+    private UUID meetingRoomId;
+    @Id
+    private LocalDate date;
+    @Column(nullable = false, length = MINUTES_PER_DAY / Byte.SIZE)
+    private byte[] minutes;
+    @Version
+    private Long version;
+
+    public RoomDayOccupancy(RoomDay roomDay) {
+        this.meetingRoomId = roomDay.meetingRoomId();
+        this.date = roomDay.date();
+        this.minutes = new byte[MINUTES_PER_DAY / Byte.SIZE];
+    }
+
+    /**
+     * @return true if none of the minutes from {@code timeFrom} to {@code timeTo} is booked
+     */
+    public boolean isFree(LocalTime timeFrom, LocalTime timeTo) {
+        int firstOccupied = BitSet.valueOf(minutes).nextSetBit(firstMinute(timeFrom));
+        return firstOccupied < 0 || firstOccupied >= endMinute(timeTo);
+    }
+
+    /**
+     * Marks the minutes from {@code timeFrom} to {@code timeTo} as booked.
+     */
+    public void occupy(LocalTime timeFrom, LocalTime timeTo) {
+        update(timeFrom, timeTo, true);
+    }
+
+    /**
+     * Marks the minutes from {@code timeFrom} to {@code timeTo} as free.
+     */
+    public void vacate(LocalTime timeFrom, LocalTime timeTo) {
+        update(timeFrom, timeTo, false);
+    }
+
+    private void update(LocalTime timeFrom, LocalTime timeTo, boolean occupied) {
+        BitSet bits = BitSet.valueOf(minutes);
+        bits.set(firstMinute(timeFrom), endMinute(timeTo), occupied);
+        // A new array, so Hibernate sees the mask as changed
+        minutes = Arrays.copyOf(bits.toByteArray(), MINUTES_PER_DAY / Byte.SIZE);
+    }
+
+    /**
+     * @return true if the time has no seconds, so the mask holds it exactly and agrees with the in-memory index on
+     * which bookings overlap
+     */
+    public static boolean isWholeMinute(LocalTime time) {
+        return time.getSecond() == 0 && time.getNano() == 0;
+    }
+
+    private static int firstMinute(LocalTime time) {
+        return time.toSecondOfDay() / 60;
+    }
+
+    private static int endMinute(LocalTime time) {
+        return (time.toSecondOfDay() + 59) / 60;
+    }
+}
@@ -0,0 +1,102 @@
+package com.acme.booking.domain.service;
+
+import com.acme.booking.domain.model.BookingView;
+import com.acme.booking.domain.model.MeetingRoom;
+import com.acme.booking.domain.model.RoomAvailability;
+import com.acme.booking.domain.model.RoomDay;
+import com.acme.booking.exception.InvalidRangeException;
+import com.acme.booking.repository.BookingRepository;
+import com.acme.booking.repository.projection.BookedTimeRange;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AvailabilityService {
+
+    private final BookingRepository bookingRepository;
+    private final MeetingRoomService meetingRoomService;
+    private final BookingArchive bookingArchive;
+    private final BookingService bookingService;
+
+    /**
+     * Computes the availability of all meeting rooms on a given date with a single query for the bookings of the day,
+     * plus one on the archive for days old enough to have been archived. The bookings are read from the same sources as
+     * the booking lists, including the in-memory index, which holds the bookings still queued by write-behind.
+     *
+     * @param date     the date
+     * @param timeFrom the start of the time range the meeting rooms should be free for
+     * @param timeTo   the end of the time range the meeting rooms should be free for
+     * @return the availability of each meeting room
+     * @throws InvalidRangeException if the time range is empty or inverted
+     */
+    public List<RoomAvailability> getAvailability(LocalDate date, LocalTime timeFrom, LocalTime timeTo) {
+        if (!timeFrom.isBefore(timeTo)) {
+            log.error("Invalid availability time range {} - {}", timeFrom, timeTo);
+            throw new InvalidRangeException("The end time must be after the start time.");
+        }
+
+        List<MeetingRoom> meetingRooms = meetingRoomService.getAll();
+        Map<UUID, Integer> occupiedHoursByRoom = new HashMap<>();
+        Set<UUID> busyRooms = new HashSet<>();
+        // A booking found in more than one source marks the same hours, so it is not deduplicated
+        for (BookedTimeRange bookedTimeRange : getBookedTimeRanges(date, meetingRooms)) {
+            occupiedHoursByRoom.merge(bookedTimeRange.meetingRoomId(), hoursOf(bookedTimeRange), (a, b) -> a | b);
+            if (timeFrom.isBefore(bookedTimeRange.timeTo()) && bookedTimeRange.timeFrom().isBefore(timeTo)) {
+                busyRooms.add(bookedTimeRange.meetingRoomId());
+            }
+        }
+
+        return meetingRooms.stream()
+                .map(meetingRoom -> new RoomAvailability(
+                        meetingRoom,
+                        !busyRooms.contains(meetingRoom.getId()),
+                        occupiedHoursByRoom.getOrDefault(meetingRoom.getId(), 0)))
+                .toList();
+    }
+
+    /**
+     * Reads the booked time ranges of a date. The index is read before the database, so a booking that is queued then is
+     * found in the index, and one that is written behind in between is found in the database.
+     */
+    private List<BookedTimeRange> getBookedTimeRanges(LocalDate date, List<MeetingRoom> meetingRooms) {
+        List<RoomDay> roomDays = meetingRooms.stream()
+                .map(meetingRoom -> new RoomDay(meetingRoom.getId(), date))
+                .toList();
+        List<BookedTimeRange> bookedTimeRanges = new ArrayList<>();
+        bookingService.getHeldBookings(roomDays).values().stream()
+                .flatMap(List::stream)
+                .map(AvailabilityService::toBookedTimeRange)
+                .forEach(bookedTimeRanges::add);
+        bookedTimeRanges.addAll(bookingRepository.findBookedTimeRangesByDate(date));
+        bookedTimeRanges.addAll(bookingArchive.getBookedTimeRanges(date));
+        return bookedTimeRanges;
+    }
+
+    private static BookedTimeRange toBookedTimeRange(BookingView booking) {
+        return new BookedTimeRange(booking.meetingRoomId(), booking.timeFrom(), booking.timeTo());
+    }
+
+    /**
+     * Builds the bitmap of the hours a booked time range overlaps with.
+     */
+    private int hoursOf(BookedTimeRange bookedTimeRange) {
+        LocalTime timeTo = bookedTimeRange.timeTo();
+        int firstHour = bookedTimeRange.timeFrom().getHour();
+        int endHour = timeTo.truncatedTo(ChronoUnit.HOURS).equals(timeTo) ? timeTo.getHour() : timeTo.getHour() + 1;
+        return ((1 << endHour) - 1) & ~((1 << firstHour) - 1);
+    }
+}
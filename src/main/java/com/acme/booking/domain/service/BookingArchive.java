@@ -0,0 +1,209 @@
+package com.acme.booking.domain.service;
+
+import com.acme.booking.domain.model.ArchivedBooking;
+import com.acme.booking.domain.model.BookingKey;
+import com.acme.booking.domain.model.BookingView;
+import com.acme.booking.monitoring.OperationMetrics;
+import com.acme.booking.repository.ArchivedBookingRepository;
+import com.acme.booking.repository.BookingRepository;
+import com.acme.booking.repository.RoomDayOccupancyRepository;
+import com.acme.booking.repository.projection.BookedTimeRange;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static com.acme.booking.monitoring.OperationMetrics.BOOKING_OPERATIONS;
+
+/**
+ * Moves bookings that ended more than {@code booking.archive.horizon} ago from the booking table to the
+ * {@link ArchivedBooking} table, and reads them back for the queries that reach that far into the past.
+ *
+ * <p>Every {@code booking.archive.interval} the bookings that ended before the horizon are moved in chunks of
+ * {@code booking.archive.chunk-size}, each chunk copied and deleted with one statement apiece in its own transaction,
+ * so the booking table and its indexes only hold recent and upcoming bookings without the move ever holding many rows
+ * locked. Archived bookings have ended, so they can no longer be created against or canceled, and the in-memory index
+ * doesn't need to change. The occupancies of the room/days that ended before the horizon are deleted along with their
+ * bookings, since no booking is checked against them anymore.
+ *
+ * <p>The read methods return nothing for dates after the horizon, so callers can ask unconditionally and the archive
+ * is only queried for historic ranges. The horizon must be at least a day, which keeps today's bookings out of the
+ * archive. Archival is enabled by default and disabled with {@code booking.archive.enabled}; the archive is read either
+ * way.
+ */
+@Component
+@Slf4j
+public class BookingArchive {
+
+    private final BookingRepository bookingRepository;
+    private final ArchivedBookingRepository archivedBookingRepository;
+    private final RoomDayOccupancyRepository roomDayOccupancyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final OperationMetrics operationMetrics;
+    private final boolean enabled;
+    private final Duration horizon;
+    private final int chunkSize;
+
+    public BookingArchive(BookingRepository bookingRepository,
+                          ArchivedBookingRepository archivedBookingRepository,
+                          RoomDayOccupancyRepository roomDayOccupancyRepository,
+                          PlatformTransactionManager transactionManager,
+                          OperationMetrics operationMetrics,
+                          @Value("${booking.archive.enabled:true}") boolean enabled,
+                          @Value("${booking.archive.horizon:90d}") Duration horizon,
+                          @Value("${booking.archive.chunk-size:1000}") int chunkSize) {
+        if (horizon.compareTo(Duration.ofDays(1)) < 0 || chunkSize < 1) {
+            throw new IllegalArgumentException("The archive horizon must be at least a day and the chunk size must be positive");
+        }
+        this.bookingRepository = bookingRepository;
+        this.archivedBookingRepository = archivedBookingRepository;
+        this.roomDayOccupancyRepository = roomDayOccupancyRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.operationMetrics = operationMetrics;
+        this.enabled = enabled;
+        this.horizon = horizon;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Archives the bookings that ended before the horizon, if archival is enabled.
+     */
+    @Scheduled(initialDelayString = "${booking.archive.interval:1h}", fixedDelayString = "${booking.archive.interval:1h}")
+    public void archiveEndedBookings() {
+        if (enabled) {
+            archive(LocalDateTime.now().minus(horizon));
+        }
+    }
+
+    /**
+     * Moves the bookings that ended before a given instant to the archive, one chunk per transaction.
+     *
+     * @param endedBefore the instant
+     * @return the number of bookings archived
+     */
+    public long archive(LocalDateTime endedBefore) {
+        return operationMetrics.time(BOOKING_OPERATIONS, "archive", () -> {
+            long archived = 0;
+            int moved;
+            do {
+                moved = transactionTemplate.execute(status -> moveChunk(endedBefore));
+                archived += moved;
+            } while (moved == chunkSize);
+            log.info("Archived {} bookings that ended before {}", archived, endedBefore);
+            return archived;
+        });
+    }
+
+    /**
+     * Retrieves an archived booking.
+     *
+     * @param id the booking ID
+     * @return the booking, if it is archived
+     */
+    public Optional<BookingView> findById(UUID id) {
+        return archivedBookingRepository.findViewById(id);
+    }
+
+    /**
+     * Retrieves several archived bookings with a single query.
+     *
+     * @param ids the booking IDs
+     * @return the bookings that are archived
+     */
+    public List<BookingView> findByIds(Collection<UUID> ids) {
+        return ids.isEmpty() ? List.of() : archivedBookingRepository.findViewsByIdIn(ids);
+    }
+
+    /**
+     * Retrieves the archived bookings of a meeting room on a given date.
+     *
+     * @param meetingRoomId the meeting room ID
+     * @param date          the date of bookings
+     * @return the bookings, sorted by start time
+     */
+    public List<BookingView> getBookings(UUID meetingRoomId, LocalDate date) {
+        return mayHold(date) ? archivedBookingRepository.findViewsByMeetingRoomIdAndDate(meetingRoomId, date) : List.of();
+    }
+
+    /**
+     * Retrieves the archived booked time ranges of all meeting rooms on a given date.
+     *
+     * @param date the date of bookings
+     * @return the booked time ranges
+     */
+    public List<BookedTimeRange> getBookedTimeRanges(LocalDate date) {
+        return mayHold(date) ? archivedBookingRepository.findBookedTimeRangesByDate(date) : List.of();
+    }
+
+    /**
+     * Retrieves a page of the archived bookings within a date range, ordered by date, start time and ID.
+     *
+     * @param meetingRoomId the meeting room ID, or null for the bookings of all meeting rooms
+     * @param dateFrom      the first date of the range, inclusive
+     * @param dateTo        the last date of the range, inclusive
+     * @param after         the booking to continue after, or null to start from the first booking of the range
+     * @param limit         the maximum number of bookings to retrieve
+     * @return the bookings
+     */
+    public List<BookingView> getBookingsInRange(UUID meetingRoomId, LocalDate dateFrom, LocalDate dateTo, BookingKey after, Limit limit) {
+        if (!mayHold(after != null ? after.date() : dateFrom)) {
+            return List.of();
+        }
+        if (after == null) {
+            return meetingRoomId == null
+                    ? archivedBookingRepository.findRangeFirstPage(dateFrom, dateTo, limit)
+                    : archivedBookingRepository.findRangeFirstPage(meetingRoomId, dateFrom, dateTo, limit);
+        }
+        return meetingRoomId == null
+                ? archivedBookingRepository.findRangePageAfter(after.date(), after.timeFrom(), after.id(), dateTo, limit)
+                : archivedBookingRepository.findRangePageAfter(meetingRoomId, after.date(), after.timeFrom(), after.id(), dateTo, limit);
+    }
+
+    /**
+     * Streams the archived bookings within a date range, ordered by date, start time and ID. The stream must be
+     * consumed within a transaction and closed afterwards.
+     *
+     * @param meetingRoomId the meeting room ID, or null for the bookings of all meeting rooms
+     * @param dateFrom      the first date of the range, inclusive
+     * @param dateTo        the last date of the range, inclusive
+     * @return the bookings
+     */
+    public Stream<BookingView> streamBookingsInRange(UUID meetingRoomId, LocalDate dateFrom, LocalDate dateTo) {
+        if (!mayHold(dateFrom)) {
+            return Stream.empty();
+        }
+        return meetingRoomId == null
+                ? archivedBookingRepository.streamViewsByDateBetween(dateFrom, dateTo)
+                : archivedBookingRepository.streamViewsByMeetingRoomIdAndDateBetween(meetingRoomId, dateFrom, dateTo);
+    }
+
+    /**
+     * @return true if bookings on or after the date may have been archived
+     */
+    private boolean mayHold(LocalDate date) {
+        return !date.isAfter(LocalDateTime.now().minus(horizon).toLocalDate());
+    }
+
+    private int moveChunk(LocalDateTime endedBefore) {
+        List<UUID> ids = bookingRepository.findIdsEndedBefore(endedBefore.toLocalDate(), endedBefore.toLocalTime(), Limit.of(chunkSize));
+        if (!ids.isEmpty()) {
+            archivedBookingRepository.copyFromBookings(ids);
+            // Bookings on the horizon's own date may not have all ended, so only earlier room/days are done with
+            roomDayOccupancyRepository.deleteArchivedBefore(ids, endedBefore.toLocalDate());
+            bookingRepository.deleteByIdIn(ids);
+        }
+        return ids.size();
+    }
+}
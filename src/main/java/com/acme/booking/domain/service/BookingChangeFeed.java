@@ -0,0 +1,186 @@
+package com.acme.booking.domain.service;
+
+import com.acme.booking.domain.model.BookingChange;
+import com.acme.booking.monitoring.OperationMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * Delivers the booking changes published by {@link BookingService} to the subscribers of a meeting room, or of all
+ * meeting rooms, without going back to the database.
+ *
+ * <p>Changes are received after the transaction that made them commits. Publishing never waits for a subscriber: every
+ * subscriber has a buffer of {@code booking.change-feed.buffer-size} changes that is drained on a virtual thread of its
+ * own. When a subscriber falls so far behind that its buffer is full, its pending changes are dropped and replaced by a
+ * single {@link BookingChange.Type#RESYNC} change, telling it to read the bookings again. A subscriber whose listener
+ * fails is unsubscribed.
+ */
+@Service
+@Slf4j
+public class BookingChangeFeed implements DisposableBean {
+
+    private final Map<UUID, Set<Subscription>> roomSubscriptions = new ConcurrentHashMap<>();
+    private final Set<Subscription> allRoomSubscriptions = ConcurrentHashMap.newKeySet();
+    private final ExecutorService deliveryExecutor = Executors.newVirtualThreadPerTaskExecutor();
+    private final int bufferSize;
+
+    public BookingChangeFeed(OperationMetrics operationMetrics,
+                             @Value("${booking.change-feed.buffer-size:256}") int bufferSize) {
+        if (bufferSize < 2) {
+            throw new IllegalArgumentException("The change feed buffer size must be at least 2");
+        }
+        this.bufferSize = bufferSize;
+        operationMetrics.registerSize("booking.change.feed.subscribers", this, BookingChangeFeed::getSubscriberCount);
+    }
+
+    /**
+     * Subscribes to the changes of the bookings of a meeting room, or of all meeting rooms.
+     *
+     * @param meetingRoomId the meeting room ID, or null for the changes of all meeting rooms
+     * @param listener      receives the changes one at a time, in the order they were published
+     * @return the subscription, to be canceled once the subscriber goes away
+     */
+    public Subscription subscribe(UUID meetingRoomId, Consumer<BookingChange> listener) {
+        Subscription subscription = new Subscription(meetingRoomId, listener);
+        if (meetingRoomId == null) {
+            allRoomSubscriptions.add(subscription);
+        } else {
+            // Added within compute, so a concurrent cancel cannot remove the set of the room in between
+            roomSubscriptions.compute(meetingRoomId, (id, subscriptions) -> {
+                Set<Subscription> roomSet = subscriptions != null ? subscriptions : ConcurrentHashMap.newKeySet();
+                roomSet.add(subscription);
+                return roomSet;
+            });
+        }
+        log.debug("Subscribed to the booking changes of meeting room {}", meetingRoomId == null ? "(all)" : meetingRoomId);
+        return subscription;
+    }
+
+    /**
+     * Passes a change to the subscribers of its meeting room and of all meeting rooms.
+     *
+     * @param change the change
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void publish(BookingChange change) {
+        Set<Subscription> subscriptions = roomSubscriptions.get(change.booking().meetingRoomId());
+        if (subscriptions != null) {
+            subscriptions.forEach(subscription -> subscription.offer(change));
+        }
+        allRoomSubscriptions.forEach(subscription -> subscription.offer(change));
+    }
+
+    /**
+     * @return the number of active subscriptions
+     */
+    public int getSubscriberCount() {
+        return allRoomSubscriptions.size() + roomSubscriptions.values().stream().mapToInt(Set::size).sum();
+    }
+
+    @Override
+    public void destroy() {
+        deliveryExecutor.shutdownNow();
+    }
+
+    /**
+     * A subscriber of the change feed.
+     */
+    public final class Subscription {
+
+        private final UUID meetingRoomId;
+        private final Consumer<BookingChange> listener;
+        private final BlockingQueue<BookingChange> buffer = new ArrayBlockingQueue<>(bufferSize);
+        private final ReentrantLock overflowLock = new ReentrantLock();
+        private final AtomicBoolean delivering = new AtomicBoolean();
+        private volatile boolean canceled;
+
+        private Subscription(UUID meetingRoomId, Consumer<BookingChange> listener) {
+            this.meetingRoomId = meetingRoomId;
+            this.listener = listener;
+        }
+
+        /**
+         * Stops the delivery of changes. Changes that are still buffered are dropped.
+         */
+        public void cancel() {
+            if (canceled) {
+                return;
+            }
+            canceled = true;
+            buffer.clear();
+            if (meetingRoomId == null) {
+                allRoomSubscriptions.remove(this);
+            } else {
+                roomSubscriptions.computeIfPresent(meetingRoomId, (id, subscriptions) -> {
+                    subscriptions.remove(this);
+                    return subscriptions.isEmpty() ? null : subscriptions;
+                });
+            }
+        }
+
+        private void offer(BookingChange change) {
+            if (canceled) {
+                return;
+            }
+            if (!buffer.offer(change)) {
+                // Locked against other publishers, so only one of them replaces the buffer
+                overflowLock.lock();
+                try {
+                    if (!buffer.offer(change)) {
+                        log.debug("Subscriber of meeting room {} fell behind, dropping {} changes", meetingRoomId, buffer.size());
+                        buffer.clear();
+                        buffer.offer(BookingChange.resync());
+                    }
+                } finally {
+                    overflowLock.unlock();
+                }
+            }
+            scheduleDelivery();
+        }
+
+        private void scheduleDelivery() {
+            if (delivering.compareAndSet(false, true)) {
+                try {
+                    deliveryExecutor.execute(this::deliver);
+                } catch (RejectedExecutionException e) {
+                    // The application is shutting down
+                    delivering.set(false);
+                }
+            }
+        }
+
+        private void deliver() {
+            try {
+                BookingChange change;
+                while (!canceled && (change = buffer.poll()) != null) {
+                    listener.accept(change);
+                }
+            } catch (RuntimeException e) {
+                log.debug("Failed to deliver a booking change, unsubscribing", e);
+                cancel();
+            } finally {
+                delivering.set(false);
+            }
+            // A change offered after the last poll but before the flag was reset would otherwise wait for the next one
+            if (!canceled && !buffer.isEmpty()) {
+                scheduleDelivery();
+            }
+        }
+    }
+}
@@ -0,0 +1,465 @@
+package com.acme.booking.domain.service;
+
+import com.acme.booking.domain.model.Booking;
+import com.acme.booking.domain.model.BookingImportResult;
+import com.acme.booking.domain.model.BookingImportResult.RejectedLine;
+import com.acme.booking.domain.model.BookingView;
+import com.acme.booking.domain.model.MeetingRoom;
+import com.acme.booking.domain.model.RoomDay;
+import com.acme.booking.domain.model.RoomDayOccupancy;
+import com.acme.booking.domain.model.TimeOrderedUuidGenerator;
+import com.acme.booking.exception.ImportTooLargeException;
+import com.acme.booking.monitoring.OperationMetrics;
+import com.acme.booking.repository.ArchivedBookingRepository;
+import com.acme.booking.repository.BookingBatchWriter;
+import com.acme.booking.repository.BookingRepository;
+import com.acme.booking.repository.MeetingRoomRepository;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedReader;
+import java.io.FilterReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static com.acme.booking.monitoring.OperationMetrics.BOOKING_OPERATIONS;
+
+/**
+ * Imports bookings in bulk from CSV, for example when migrating bookings from another system.
+ *
+ * <p>The CSV is read one line at a time and processed in chunks, so imports of any size use the same amount of memory.
+ * An import is turned away once it exceeds {@code booking.import.max-size} or {@code booking.import.max-lines}; the
+ * chunks before that point stay imported. Meeting room names are resolved once for the whole import, and rooms that
+ * don't exist yet are created along with the first chunk that books them. For every chunk, the existing bookings of the
+ * chunk's meeting rooms and dates are read with a single query, along with the archived ones and the ones still queued
+ * by write-behind, overlaps are detected in memory and the remaining bookings are inserted with JDBC batch statements
+ * in a single transaction, along with the occupancy of their room/days and their new meeting rooms. A booking whose
+ * minutes are already taken in the occupancy is rejected like any other overlapping line.
+ * Each chunk holds the locks of its room/days, so bookings created through the API at the same time cannot overlap
+ * with imported ones.
+ *
+ * <p>Unlike bookings created through the API, imported bookings may be in the past, since imports usually carry
+ * historical bookings. The other booking rules still apply, including a well-formed employee email.
+ */
+@Service
+@Slf4j
+public class BookingImportService {
+
+    public static final List<String> COLUMNS = List.of("meetingRoom", "employeeEmail", "date", "timeFrom", "timeTo");
+
+    private static final int MAX_REPORTED_REJECTIONS = 100;
+
+    private final BookingRepository bookingRepository;
+    private final ArchivedBookingRepository archivedBookingRepository;
+    private final MeetingRoomRepository meetingRoomRepository;
+    private final MeetingRoomService meetingRoomService;
+    private final BookingService bookingService;
+    private final RoomDayLocks roomDayLocks;
+    private final BookingBatchWriter bookingBatchWriter;
+    private final RoomDayOccupancyService roomDayOccupancyService;
+    private final OperationMetrics operationMetrics;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final int chunkSize;
+    private final long maxLines;
+    private final DataSize maxSize;
+
+    public BookingImportService(BookingRepository bookingRepository,
+                                ArchivedBookingRepository archivedBookingRepository,
+                                MeetingRoomRepository meetingRoomRepository,
+                                MeetingRoomService meetingRoomService,
+                                BookingService bookingService,
+                                RoomDayLocks roomDayLocks,
+                                BookingBatchWriter bookingBatchWriter,
+                                RoomDayOccupancyService roomDayOccupancyService,
+                                OperationMetrics operationMetrics,
+                                Validator validator,
+                                PlatformTransactionManager transactionManager,
+                                @Value("${booking.import.chunk-size:1000}") int chunkSize,
+                                @Value("${booking.import.max-lines:1000000}") long maxLines,
+                                @Value("${booking.import.max-size:64MB}") DataSize maxSize) {
+        if (chunkSize < 1 || maxLines < 1 || maxSize.toBytes() < 1) {
+            throw new IllegalArgumentException("The import chunk size, maximum number of lines and maximum size must be positive");
+        }
+        this.bookingRepository = bookingRepository;
+        this.archivedBookingRepository = archivedBookingRepository;
+        this.meetingRoomRepository = meetingRoomRepository;
+        this.meetingRoomService = meetingRoomService;
+        this.bookingService = bookingService;
+        this.roomDayLocks = roomDayLocks;
+        this.bookingBatchWriter = bookingBatchWriter;
+        this.roomDayOccupancyService = roomDayOccupancyService;
+        this.operationMetrics = operationMetrics;
+        this.validator = validator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxLines = maxLines;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * Imports bookings from CSV. Every line holds the columns in {@link #COLUMNS}, with dates and times in ISO-8601
+     * format. A first line holding the column names is skipped. Lines that are malformed, break a booking rule or
+     * overlap with another booking are rejected without stopping the import.
+     *
+     * @param csv    the CSV to read
+     * @param length the length of the CSV in bytes, or -1 if it is not known up front
+     * @return the outcome of the import
+     * @throws ImportTooLargeException if the CSV is longer than the maximum size or has more than the maximum number
+     *                                 of lines
+     * @throws UncheckedIOException    if the CSV cannot be read
+     */
+    public BookingImportResult importBookings(Reader csv, long length) {
+        if (length > maxSize.toBytes()) {
+            throw tooLarge();
+        }
+        return operationMetrics.time(BOOKING_OPERATIONS, "import", () -> {
+            Import anImport = new Import();
+            try (BufferedReader reader = new BufferedReader(new LimitedReader(csv, maxSize.toBytes()))) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (anImport.lineNumber == maxLines) {
+                        throw tooLarge();
+                    }
+                    anImport.read(line);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            BookingImportResult result = anImport.finish();
+            log.info("Imported {} of {} bookings in {} ms ({} rows/s), {} rejected, {} meeting rooms created",
+                    result.imported(), result.rows(), result.elapsed().toMillis(), rowsPerSecond(result),
+                    result.rejected(), result.roomsCreated());
+            return result;
+        });
+    }
+
+    private ImportTooLargeException tooLarge() {
+        log.warn("Import exceeds {} or {} lines, turning it away", maxSize, maxLines);
+        return new ImportTooLargeException(String.format("Imports are limited to %s and %d lines.", maxSize, maxLines));
+    }
+
+    /**
+     * @param result the outcome of an import
+     * @return the number of rows the import read per second
+     */
+    public static long rowsPerSecond(BookingImportResult result) {
+        long nanos = Math.max(result.elapsed().toNanos(), 1);
+        return result.rows() * 1_000_000_000L / nanos;
+    }
+
+    /**
+     * The state of a single import.
+     */
+    private final class Import {
+
+        private final long start = System.nanoTime();
+        private final Map<String, UUID> meetingRoomIds = meetingRoomRepository.findAll().stream()
+                .collect(Collectors.toMap(meetingRoom -> normalize(meetingRoom.getName()), MeetingRoom::getId));
+        // Rooms that don't exist yet, by the IDs they will be created with
+        private final Map<UUID, String> newMeetingRooms = new HashMap<>();
+        private final List<ImportedLine> chunk = new ArrayList<>(chunkSize);
+        private final List<RejectedLine> rejections = new ArrayList<>();
+        private long lineNumber;
+        private long rows;
+        private long imported;
+        private long rejected;
+        private int roomsCreated;
+
+        private void read(String line) {
+            lineNumber++;
+            if (line.isBlank() || (lineNumber == 1 && isHeader(line))) {
+                return;
+            }
+            rows++;
+            try {
+                chunk.add(new ImportedLine(lineNumber, parse(line)));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                reject(lineNumber, e.getMessage());
+            }
+            if (chunk.size() == chunkSize) {
+                flush();
+            }
+        }
+
+        private BookingImportResult finish() {
+            flush();
+            return new BookingImportResult(rows, imported, rejected, roomsCreated, List.copyOf(rejections),
+                    Duration.ofNanos(System.nanoTime() - start));
+        }
+
+        private BookingView parse(String line) {
+            List<String> fields = splitCsvLine(line);
+            if (fields.size() != COLUMNS.size()) {
+                throw new IllegalArgumentException(String.format("Expected %d columns but found %d", COLUMNS.size(), fields.size()));
+            }
+            String meetingRoomName = fields.get(0).strip();
+            String employeeEmail = fields.get(1).strip();
+            if (meetingRoomName.isEmpty() || employeeEmail.isEmpty()) {
+                throw new IllegalArgumentException("The meeting room and employee email must not be empty");
+            }
+            if (!validator.validateValue(Booking.class, "employeeEmail", employeeEmail).isEmpty()) {
+                throw new IllegalArgumentException("The employee email must be a well-formed email address");
+            }
+            LocalDate date = LocalDate.parse(fields.get(2).strip());
+            LocalTime timeFrom = LocalTime.parse(fields.get(3).strip());
+            LocalTime timeTo = LocalTime.parse(fields.get(4).strip());
+            if (!RoomDayOccupancy.isWholeMinute(timeFrom) || !RoomDayOccupancy.isWholeMinute(timeTo)) {
+                throw new IllegalArgumentException("The booking times must be whole minutes");
+            }
+            if (!timeTo.isAfter(timeFrom)) {
+                throw new IllegalArgumentException("The end time must be after the start time");
+            }
+            long durationMinutes = Duration.between(timeFrom, timeTo).toMinutes();
+            if (durationMinutes < 60 || durationMinutes % 60 != 0) {
+                throw new IllegalArgumentException("The booking duration must be at least 1 hour and in 1-hour increments");
+            }
+            return new BookingView(TimeOrderedUuidGenerator.next(), meetingRoomId(meetingRoomName), employeeEmail, date, timeFrom, timeTo);
+        }
+
+        /**
+         * Resolves a meeting room name. A room that doesn't exist yet gets its ID right away, and is created with the
+         * first chunk that books it.
+         */
+        private UUID meetingRoomId(String name) {
+            return meetingRoomIds.computeIfAbsent(normalize(name), key -> {
+                UUID id = TimeOrderedUuidGenerator.next();
+                newMeetingRooms.put(id, name.strip());
+                return id;
+            });
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            resolveMeetingRoomsCreatedElsewhere();
+            Set<RoomDay> roomDays = chunk.stream()
+                    .map(line -> line.booking().roomDay())
+                    .collect(Collectors.toSet());
+            List<ImportedLine> overlapping = roomDayLocks.withLocks(roomDays, () -> {
+                Map<RoomDay, List<BookingView>> taken = existingBookings(roomDays);
+                List<ImportedLine> candidates = new ArrayList<>();
+                List<ImportedLine> rejectedLines = new ArrayList<>();
+                for (ImportedLine line : chunk) {
+                    BookingView booking = line.booking();
+                    List<BookingView> roomDayBookings = taken.computeIfAbsent(booking.roomDay(), roomDay -> new ArrayList<>());
+                    if (roomDayBookings.stream().anyMatch(existing -> BookingIntervalIndex.overlaps(
+                            booking.timeFrom(), booking.timeTo(), existing.timeFrom(), existing.timeTo()))) {
+                        rejectedLines.add(line);
+                    } else {
+                        roomDayBookings.add(booking);
+                        candidates.add(line);
+                    }
+                }
+                // The occupancy has the final say, for bookings written since they were read
+                Set<BookingView> inserted = new HashSet<>(transactionTemplate.execute(status ->
+                        insert(candidates.stream().map(ImportedLine::booking).toList())));
+                candidates.stream().filter(line -> !inserted.contains(line.booking())).forEach(rejectedLines::add);
+                bookingService.addSavedBookings(inserted);
+                imported += inserted.size();
+                operationMetrics.bookingsCreated(inserted.size());
+                return rejectedLines;
+            });
+            operationMetrics.overlapRejections(overlapping.size());
+            overlapping.stream()
+                    .sorted(Comparator.comparingLong(ImportedLine::lineNumber))
+                    .forEach(line -> reject(line.lineNumber(), "Booking overlaps with an existing booking"));
+            chunk.clear();
+        }
+
+        /**
+         * Reads the bookings of the room/days of a chunk: those in the database, including the archived ones, and those
+         * still queued by write-behind.
+         */
+        private Map<RoomDay, List<BookingView>> existingBookings(Set<RoomDay> roomDays) {
+            Set<UUID> roomIds = roomDays.stream().map(RoomDay::meetingRoomId).collect(Collectors.toSet());
+            LocalDate dateFrom = roomDays.stream().map(RoomDay::date).min(Comparator.naturalOrder()).orElseThrow();
+            LocalDate dateTo = roomDays.stream().map(RoomDay::date).max(Comparator.naturalOrder()).orElseThrow();
+            Map<UUID, BookingView> bookings = new HashMap<>();
+            Stream.of(bookingRepository.findViewsByMeetingRoomIdInAndDateBetween(roomIds, dateFrom, dateTo),
+                            archivedBookingRepository.findViewsByMeetingRoomIdInAndDateBetween(roomIds, dateFrom, dateTo),
+                            bookingService.getHeldBookings(roomDays).values().stream().flatMap(List::stream).toList())
+                    .flatMap(List::stream)
+                    .forEach(booking -> bookings.putIfAbsent(booking.id(), booking));
+            return bookings.values().stream()
+                    .filter(booking -> roomDays.contains(booking.roomDay()))
+                    .collect(Collectors.groupingBy(BookingView::roomDay,
+                            Collectors.toCollection(ArrayList::new)));
+        }
+
+        /**
+         * Points the lines of the chunk whose meeting room doesn't exist yet to the room of the same name, if one was
+         * created since the import started.
+         */
+        private void resolveMeetingRoomsCreatedElsewhere() {
+            Map<UUID, UUID> existingIds = new HashMap<>();
+            chunk.stream()
+                    .map(line -> line.booking().meetingRoomId())
+                    .filter(newMeetingRooms::containsKey)
+                    .distinct()
+                    .forEach(id -> meetingRoomRepository.findByNameIgnoreCase(newMeetingRooms.get(id)).ifPresent(meetingRoom -> {
+                        newMeetingRooms.remove(id);
+                        meetingRoomIds.put(normalize(meetingRoom.getName()), meetingRoom.getId());
+                        existingIds.put(id, meetingRoom.getId());
+                    }));
+            if (!existingIds.isEmpty()) {
+                chunk.replaceAll(line -> existingIds.containsKey(line.booking().meetingRoomId())
+                        ? new ImportedLine(line.lineNumber(), withMeetingRoomId(line.booking(), existingIds.get(line.booking().meetingRoomId())))
+                        : line);
+            }
+        }
+
+        /**
+         * Inserts the bookings whose minutes are free in the occupancy of their room/day, along with the meeting rooms
+         * they book that don't exist yet. Must run within a transaction, so the rooms are only created with bookings.
+         *
+         * @return the bookings that were inserted
+         */
+        private List<BookingView> insert(List<BookingView> bookings) {
+            Map<UUID, String> createdMeetingRooms = new HashMap<>();
+            List<BookingView> inserted = roomDayOccupancyService.occupyFree(bookings, free -> {
+                free.stream()
+                        .map(BookingView::meetingRoomId)
+                        .filter(newMeetingRooms::containsKey)
+                        .forEach(id -> createdMeetingRooms.put(id, newMeetingRooms.get(id)));
+                if (!createdMeetingRooms.isEmpty()) {
+                    meetingRoomService.createMeetingRooms(createdMeetingRooms);
+                }
+                bookingBatchWriter.insert(free);
+            });
+            // Only counted once the transaction commits, which happens before the chunk's next line is read
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    createdMeetingRooms.keySet().forEach(newMeetingRooms::remove);
+                    roomsCreated += createdMeetingRooms.size();
+                }
+            });
+            return inserted;
+        }
+
+        private void reject(long lineNumber, String reason) {
+            rejected++;
+            if (rejections.size() < MAX_REPORTED_REJECTIONS) {
+                rejections.add(new RejectedLine(lineNumber, reason));
+            }
+        }
+    }
+
+    /**
+     * A booking read from the import, along with the line it was read from.
+     */
+    private record ImportedLine(long lineNumber, BookingView booking) {
+    }
+
+    /**
+     * Reads at most a given number of characters, for imports whose length is not known up front. Characters take at
+     * least a byte each, so the limit holds for the bytes too.
+     */
+    private final class LimitedReader extends FilterReader {
+
+        private final long limit;
+        private long read;
+
+        private LimitedReader(Reader in, long limit) {
+            super(in);
+            this.limit = limit;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int c = super.read();
+            if (c != -1) {
+                count(1);
+            }
+            return c;
+        }
+
+        @Override
+        public int read(char[] buffer, int offset, int length) throws IOException {
+            int n = super.read(buffer, offset, length);
+            if (n > 0) {
+                count(n);
+            }
+            return n;
+        }
+
+        private void count(int n) {
+            read += n;
+            if (read > limit) {
+                throw tooLarge();
+            }
+        }
+    }
+
+    private static boolean isHeader(String line) {
+        return splitCsvLine(line).stream().map(String::strip).toList().equals(COLUMNS);
+    }
+
+    private static BookingView withMeetingRoomId(BookingView booking, UUID meetingRoomId) {
+        return new BookingView(booking.id(), meetingRoomId, booking.employeeEmail(), booking.date(), booking.timeFrom(), booking.timeTo());
+    }
+
+    private static String normalize(String meetingRoomName) {
+        return meetingRoomName.strip().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Splits a CSV line into its fields. Fields may be enclosed in double quotes, in which case they may contain
+     * commas, and double quotes are written twice.
+     */
+    static List<String> splitCsvLine(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        if (quoted) {
+            throw new IllegalArgumentException("Unterminated quoted field");
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+}
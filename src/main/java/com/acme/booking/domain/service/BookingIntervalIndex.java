@@ -0,0 +1,445 @@
+package com.acme.booking.domain.service;
+
+import com.acme.booking.domain.model.Booking;
+import com.acme.booking.domain.model.BookingView;
+import com.acme.booking.domain.model.RoomDay;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory index of bookings per meeting room and date.
+ *
+ * <p>Room/days are held in a cache bounded to {@code maximumSize} entries. A room/day enters it when it is about
+ * to be written, when the index is warmed up, or when it is read and turns out to have bookings, so reading room/days
+ * that have no bookings, or don't exist at all, never takes up memory. A room/day with bookings queued by write-behind
+ * is not in the database yet, so it doesn't count towards the bound and is never evicted until they are written.
+ * Room/days before today are dropped by {@link #evictBefore(LocalDate)}. Once held, a room/day is kept coherent by write-through updates. The bookings of a
+ * room/day are stored as an immutable list of {@link BookingView}s sorted by start time, so reads never lock, the
+ * cached bookings can be shared between threads safely, and writes replace the list under the room/day lock.
+ *
+ * <p>Every room/day also has a version, so clients can tell if a day changed without reading it. Versions are drawn
+ * from a single sequence, so a version is never handed out twice. Every change to a held room/day gives it a new
+ * version. Room/days that are not held share a common version, which moves on whenever one of them changes or a
+ * room/day is dropped from the cache; such changes make clients of other room/days read them again needlessly, but
+ * never let a client keep outdated bookings.
+ */
+class BookingIntervalIndex {
+
+    /**
+     * The number of room/days held by default: a year of days for a few hundred meeting rooms.
+     */
+    static final long DEFAULT_MAXIMUM_SIZE = 100_000;
+
+    private static final Comparator<BookingView> BY_TIME_FROM = Comparator.comparing(BookingView::timeFrom);
+
+    private final BiFunction<UUID, LocalDate, List<BookingView>> loader;
+    private final ConcurrentMap<RoomDay, DaySchedule> schedules;
+    private final AtomicLong versions = new AtomicLong();
+    private volatile long absentVersion;
+
+    /**
+     * @param loader loads the bookings of a meeting room on a given date from the database
+     */
+    BookingIntervalIndex(BiFunction<UUID, LocalDate, List<BookingView>> loader) {
+        this(loader, DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * @param loader      loads the bookings of a meeting room on a given date from the database
+     * @param maximumSize the maximum number of room/days held in memory
+     */
+    BookingIntervalIndex(BiFunction<UUID, LocalDate, List<BookingView>> loader, long maximumSize) {
+        this.loader = loader;
+        Cache<RoomDay, DaySchedule> cache = Caffeine.newBuilder()
+                .maximumWeight(maximumSize)
+                // Weighed again whenever a room/day is computed, which is how queued writes are counted
+                .<RoomDay, DaySchedule>weigher((roomDay, schedule) -> schedule.queuedWrites > 0 ? 0 : 1)
+                // Called as part of the eviction, so no lookup finds the room/day missing with its old version
+                .<RoomDay, DaySchedule>evictionListener((roomDay, schedule, cause) -> changeAbsentVersion())
+                .build();
+        this.schedules = cache.asMap();
+    }
+
+    /**
+     * Retrieves the bookings of a meeting room on a given date, sorted by start time.
+     *
+     * @param meetingRoomId the meeting room ID
+     * @param date          the date of bookings
+     * @return an unmodifiable list of bookings
+     */
+    List<BookingView> getBookings(UUID meetingRoomId, LocalDate date) {
+        RoomDay roomDay = new RoomDay(meetingRoomId, date);
+        DaySchedule schedule = schedules.get(roomDay);
+        if (schedule != null) {
+            return schedule.bookings();
+        }
+        long versionBeforeLoad = absentVersion;
+        List<BookingView> bookings = sorted(loader.apply(meetingRoomId, date));
+        if (!bookings.isEmpty()) {
+            // Only kept if no room/day that isn't held changed during the load, as this one may have
+            schedules.computeIfAbsent(roomDay, key -> absentVersion == versionBeforeLoad
+                    ? new DaySchedule(key, bookings, versionBeforeLoad)
+                    : null);
+        }
+        return bookings;
+    }
+
+    /**
+     * Retrieves the bookings of a meeting room on a given date that is about to be written, sorted by start time. Unlike
+     * {@link #getBookings(UUID, LocalDate)}, the room/day is held even if it has no bookings, so the write that follows
+     * doesn't load it again.
+     *
+     * @param meetingRoomId the meeting room ID
+     * @param date          the date of bookings
+     * @return an unmodifiable list of bookings
+     */
+    List<BookingView> getBookingsForUpdate(UUID meetingRoomId, LocalDate date) {
+        return schedule(new RoomDay(meetingRoomId, date)).bookings();
+    }
+
+    /**
+     * Retrieves the bookings of a meeting room on a given date if they are held in memory, without loading them.
+     *
+     * @param roomDay the meeting room and date
+     * @return an unmodifiable list of bookings, empty if the room/day is not held or not loaded yet
+     */
+    List<BookingView> getHeldBookings(RoomDay roomDay) {
+        DaySchedule schedule = schedules.get(roomDay);
+        List<BookingView> bookings = schedule != null ? schedule.bookings : null;
+        return bookings != null ? bookings : List.of();
+    }
+
+    /**
+     * Retrieves the version of the bookings of a meeting room on a given date.
+     *
+     * @param meetingRoomId the meeting room ID
+     * @param date          the date of bookings
+     * @return a number that changes whenever the bookings of the room/day change
+     */
+    long getVersion(UUID meetingRoomId, LocalDate date) {
+        DaySchedule schedule = schedules.get(new RoomDay(meetingRoomId, date));
+        return schedule != null ? schedule.version : absentVersion;
+    }
+
+    /**
+     * Checks if a booking that is about to be written overlaps with any indexed booking of the same meeting room and date.
+     *
+     * @param booking the booking to check
+     * @return true if an overlapping booking exists, false otherwise
+     */
+    boolean overlaps(Booking booking) {
+        for (BookingView existing : getBookingsForUpdate(booking.getMeetingRoom().getId(), booking.getDate())) {
+            if (!existing.timeFrom().isBefore(booking.getTimeTo())) {
+                return false;
+            }
+            if (overlaps(booking, existing)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Checks if the time ranges of two bookings of the same meeting room and date overlap.
+     *
+     * @param booking the booking to check
+     * @param other   the booking to check against
+     * @return true if the bookings overlap, false otherwise
+     */
+    static boolean overlaps(Booking booking, BookingView other) {
+        return overlaps(booking.getTimeFrom(), booking.getTimeTo(), other.timeFrom(), other.timeTo());
+    }
+
+    /**
+     * Checks if two time ranges overlap. Ranges that only touch, where one ends when the other starts, don't overlap.
+     */
+    static boolean overlaps(LocalTime timeFrom, LocalTime timeTo, LocalTime otherTimeFrom, LocalTime otherTimeTo) {
+        return timeFrom.isBefore(otherTimeTo) && otherTimeFrom.isBefore(timeTo);
+    }
+
+    /**
+     * Adds a booking that was saved to the index. The room/day is loaded if it isn't held yet, so the bookings of the
+     * room/day that are still queued by write-behind are kept.
+     *
+     * @param booking the booking that was saved
+     */
+    void add(Booking booking) {
+        schedule(RoomDay.of(booking)).add(BookingView.of(booking));
+    }
+
+    /**
+     * Adds a booking that is queued to be saved by write-behind to the index. Its room/day is held until the booking is
+     * written or dropped, whatever the bound of the index, as loading it again would miss the booking.
+     *
+     * @param booking the booking that was queued
+     * @see #written(BookingView)
+     * @see #dropQueued(BookingView)
+     */
+    void addQueued(Booking booking) {
+        DaySchedule schedule = schedules.compute(RoomDay.of(booking), (roomDay, held) -> {
+            DaySchedule pinned = held != null ? held : new DaySchedule(roomDay, null, absentVersion);
+            pinned.queuedWrites++;
+            return pinned;
+        });
+        // Loaded outside the compute, as it may query the database
+        schedule.add(BookingView.of(booking));
+    }
+
+    /**
+     * Lets the room/day of a queued booking be evicted again once the booking is saved.
+     *
+     * @param booking the booking that was saved
+     */
+    void written(BookingView booking) {
+        schedules.computeIfPresent(booking.roomDay(), (roomDay, schedule) -> {
+            schedule.queuedWrites--;
+            return schedule;
+        });
+    }
+
+    /**
+     * Removes a queued booking that could not be saved from the index, and lets its room/day be evicted again.
+     *
+     * @param booking the booking that could not be saved
+     */
+    void dropQueued(BookingView booking) {
+        changeHeldOrAbsent(booking.roomDay(), schedule -> {
+            schedule.queuedWrites--;
+            schedule.remove(booking.id());
+        });
+    }
+
+    /**
+     * Adds bookings that were saved without going through the index. Room/days that are not held are left out, since
+     * their bookings are loaded from the database, but their version changes all the same.
+     *
+     * @param bookings the bookings that were saved
+     */
+    void addSaved(Collection<BookingView> bookings) {
+        bookings.forEach(booking -> changeHeldOrAbsent(booking.roomDay(),
+                schedule -> schedule.addIfLoaded(booking)));
+    }
+
+    /**
+     * Removes a deleted booking from the index.
+     *
+     * @param booking the booking that was deleted
+     */
+    void remove(Booking booking) {
+        remove(BookingView.of(booking));
+    }
+
+    /**
+     * Removes a deleted booking from the index.
+     *
+     * @param booking the booking that was deleted
+     */
+    void remove(BookingView booking) {
+        changeHeldOrAbsent(booking.roomDay(), schedule -> schedule.remove(booking.id()));
+    }
+
+    /**
+     * Discards the bookings held for a meeting room and date, so they are loaded from the database again the next time
+     * they are accessed. Used when bookings were written to the database without going through the index.
+     *
+     * @param roomDay the meeting room and date
+     */
+    void invalidate(RoomDay roomDay) {
+        changeHeldOrAbsent(roomDay, DaySchedule::invalidate);
+    }
+
+    /**
+     * Drops the room/days before a given date, which are no longer read from the index.
+     *
+     * @param date the first date to keep
+     */
+    void evictBefore(LocalDate date) {
+        List<RoomDay> past = schedules.keySet().stream()
+                .filter(roomDay -> roomDay.date().isBefore(date))
+                .toList();
+        if (!past.isEmpty()) {
+            // Changed first, so no lookup finds a dropped room/day with the version it had before it was held
+            changeAbsentVersion();
+            past.forEach(schedules::remove);
+        }
+    }
+
+    /**
+     * Preloads the index with bookings, so the room/days they belong to are answered from memory from the start.
+     * Room/days that are already loaded are left untouched.
+     *
+     * @param bookings the bookings to preload
+     */
+    void warmUp(Collection<BookingView> bookings) {
+        Map<RoomDay, List<BookingView>> bookingsByRoomDay = bookings.stream()
+                .collect(Collectors.groupingBy(BookingView::roomDay));
+        bookingsByRoomDay.forEach(this::preload);
+    }
+
+    /**
+     * Holds a room/day that is about to be written with bookings that were read from the database along with other
+     * room/days, so the write doesn't load it again. A room/day that is already loaded is left untouched.
+     *
+     * @param roomDay  the meeting room and date
+     * @param bookings all the bookings of the room/day in the database
+     */
+    void preload(RoomDay roomDay, List<BookingView> bookings) {
+        schedule(roomDay).preload(bookings);
+    }
+
+    /**
+     * @return the number of room/days held in memory
+     */
+    int size() {
+        return schedules.size();
+    }
+
+    /**
+     * Returns the room/day, holding it if it isn't held yet. Its bookings are loaded on first access.
+     */
+    private DaySchedule schedule(RoomDay roomDay) {
+        return schedules.computeIfAbsent(roomDay, key -> new DaySchedule(key, null, absentVersion));
+    }
+
+    /**
+     * Applies a change to a room/day if it is held, or moves the version of the room/days that are not held on
+     * otherwise. Both happen atomically with loading the room/day into the index.
+     */
+    private void changeHeldOrAbsent(RoomDay roomDay, Consumer<DaySchedule> change) {
+        schedules.compute(roomDay, (key, schedule) -> {
+            if (schedule == null) {
+                changeAbsentVersion();
+            } else {
+                change.accept(schedule);
+            }
+            return schedule;
+        });
+    }
+
+    private void changeAbsentVersion() {
+        absentVersion = versions.incrementAndGet();
+    }
+
+    private static List<BookingView> sorted(List<BookingView> unsorted) {
+        return unsorted.stream().sorted(BY_TIME_FROM).toList();
+    }
+
+    private final class DaySchedule {
+
+        /*
+         * A lock rather than synchronized methods: loading a day queries the database while holding it, and a virtual
+         * thread blocked inside a synchronized block pins its carrier thread.
+         */
+        private final ReentrantLock lock = new ReentrantLock();
+        private final RoomDay roomDay;
+        private volatile List<BookingView> bookings;
+        private volatile long version;
+        // Only changed within a compute of the cache, so the room/day is weighed again
+        private int queuedWrites;
+
+        private DaySchedule(RoomDay roomDay, List<BookingView> bookings, long version) {
+            this.roomDay = roomDay;
+            this.bookings = bookings;
+            this.version = version;
+        }
+
+        private List<BookingView> bookings() {
+            List<BookingView> current = bookings;
+            return current != null ? current : load();
+        }
+
+        private List<BookingView> load() {
+            lock.lock();
+            try {
+                if (bookings == null) {
+                    bookings = sorted(loader.apply(roomDay.meetingRoomId(), roomDay.date()));
+                }
+                return bookings;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void preload(List<BookingView> loaded) {
+            lock.lock();
+            try {
+                if (bookings == null) {
+                    bookings = sorted(loaded);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void add(BookingView booking) {
+            lock.lock();
+            try {
+                version = versions.incrementAndGet();
+                // Loaded first: a booking queued by write-behind is not in the database yet
+                List<BookingView> updated = new ArrayList<>(load().size() + 1);
+                for (BookingView existing : bookings) {
+                    if (!existing.id().equals(booking.id())) {
+                        updated.add(existing);
+                    }
+                }
+                updated.add(booking);
+                bookings = sorted(updated);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void addIfLoaded(BookingView booking) {
+            lock.lock();
+            try {
+                version = versions.incrementAndGet();
+                if (bookings != null) {
+                    List<BookingView> updated = new ArrayList<>(bookings);
+                    updated.add(booking);
+                    bookings = sorted(updated);
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void remove(UUID bookingId) {
+            lock.lock();
+            try {
+                version = versions.incrementAndGet();
+                if (bookings != null) {
+                    bookings = bookings.stream()
+                            .filter(existing -> !existing.id().equals(bookingId))
+                            .toList();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void invalidate() {
+            lock.lock();
+            try {
+                version = versions.incrementAndGet();
+                bookings = null;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.acme.booking.domain.service;
+
+import com.acme.booking.domain.model.BookingView;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+/**
+ * Merges bookings read from the booking table and from the archive, both ordered by date, start time and ID.
+ *
+ * <p>A booking that is archived between the two reads is found in both, next to itself, and is kept only once.
+ */
+final class BookingMerge {
+
+    /**
+     * The order of the range queries. IDs are compared as unsigned numbers, the way the database orders UUIDs, rather
+     * than with {@link java.util.UUID#compareTo}, which compares them as signed numbers.
+     */
+    static final Comparator<BookingView> ORDER = Comparator.comparing(BookingView::date)
+            .thenComparing(BookingView::timeFrom)
+            .thenComparing((first, second) -> {
+                int high = Long.compareUnsigned(first.id().getMostSignificantBits(), second.id().getMostSignificantBits());
+                return high != 0 ? high : Long.compareUnsigned(first.id().getLeastSignificantBits(), second.id().getLeastSignificantBits());
+            });
+
+    private BookingMerge() {
+    }
+
+    /**
+     * Merges two ordered lists of bookings.
+     *
+     * @param first  the first bookings
+     * @param second the second bookings
+     * @param limit  the maximum number of bookings to return
+     * @return the first bookings of both lists, in order
+     */
+    static List<BookingView> merge(List<BookingView> first, List<BookingView> second, int limit) {
+        if (second.isEmpty()) {
+            return first.size() > limit ? List.copyOf(first.subList(0, limit)) : first;
+        }
+        List<BookingView> merged = new ArrayList<>(Math.min(limit, first.size() + second.size()));
+        Iterator<BookingView> bookings = merge(first.iterator(), second.iterator());
+        while (merged.size() < limit && bookings.hasNext()) {
+            merged.add(bookings.next());
+        }
+        return merged;
+    }
+
+    /**
+     * Merges two ordered iterators of bookings lazily, so neither is read further than needed.
+     *
+     * @param first  the first bookings
+     * @param second the second bookings
+     * @return the bookings of both iterators, in order
+     */
+    static Iterator<BookingView> merge(Iterator<BookingView> first, Iterator<BookingView> second) {
+        return new Iterator<>() {
+
+            private BookingView nextOfFirst = advance(first);
+            private BookingView nextOfSecond = advance(second);
+
+            @Override
+            public boolean hasNext() {
+                return nextOfFirst != null || nextOfSecond != null;
+            }
+
+            @Override
+            public BookingView next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                int order = nextOfFirst == null ? 1 : nextOfSecond == null ? -1 : ORDER.compare(nextOfFirst, nextOfSecond);
+                BookingView next = order <= 0 ? nextOfFirst : nextOfSecond;
+                if (order <= 0) {
+                    nextOfFirst = advance(first);
+                }
+                if (order >= 0) {
+                    nextOfSecond = advance(second);
+                }
+                return next;
+            }
+        };
+    }
+
+    private static BookingView advance(Iterator<BookingView> bookings) {
+        return bookings.hasNext() ? bookings.next() : null;
+    }
+}
@@ -2,75 +2,546 @@ package com.acme.booking.domain.service;
 
 
 import com.acme.booking.domain.model.Booking;
+import com.acme.booking.domain.model.BookingCancellationOutcome;
+import com.acme.booking.domain.model.BookingChange;
+import com.acme.booking.domain.model.BookingCreationOutcome;
+import com.acme.booking.domain.model.BookingKey;
+import com.acme.booking.domain.model.BookingPage;
+import com.acme.booking.domain.model.BookingSeries;
+import com.acme.booking.domain.model.BookingView;
+import com.acme.booking.domain.model.RoomDay;
+import com.acme.booking.domain.model.TimeOrderedUuidGenerator;
 import com.acme.booking.exception.BookingOverlapException;
+import com.acme.booking.exception.InvalidRangeException;
 import com.acme.booking.exception.PastBookingException;
 import com.acme.booking.exception.ResourceNotFoundException;
+import com.acme.booking.exception.WriteQueueFullException;
+import com.acme.booking.monitoring.OperationMetrics;
 import com.acme.booking.repository.BookingRepository;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.security.SecureRandom;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
+import static com.acme.booking.monitoring.OperationMetrics.BOOKING_OPERATIONS;
 import static java.time.LocalDateTime.now;
 
 @Service
-@RequiredArgsConstructor
 @Slf4j
 public class BookingService {
 
     private final BookingRepository bookingRepository;
+    private final RoomDayLocks roomDayLocks;
+    private final OperationMetrics operationMetrics;
+    private final RoomDayOccupancyService roomDayOccupancyService;
+    private final BookingWriteBehind bookingWriteBehind;
+    private final ApplicationEventPublisher eventPublisher;
+    private final BookingArchive bookingArchive;
+    private final BookingIntervalIndex bookingIndex;
+    private final String instanceId = Long.toHexString(new SecureRandom().nextLong());
+    // Writes complete on the write-behind thread, which must not wait on the index
+    private final Executor writeCompletionExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    public BookingService(BookingRepository bookingRepository, RoomDayLocks roomDayLocks, OperationMetrics operationMetrics,
+                          RoomDayOccupancyService roomDayOccupancyService, BookingWriteBehind bookingWriteBehind,
+                          ApplicationEventPublisher eventPublisher, BookingArchive bookingArchive) {
+        this.bookingRepository = bookingRepository;
+        this.roomDayLocks = roomDayLocks;
+        this.operationMetrics = operationMetrics;
+        this.roomDayOccupancyService = roomDayOccupancyService;
+        this.bookingWriteBehind = bookingWriteBehind;
+        this.eventPublisher = eventPublisher;
+        this.bookingArchive = bookingArchive;
+        this.bookingIndex = new BookingIntervalIndex(bookingRepository::findViewsByMeetingRoomIdAndDate);
+        operationMetrics.registerSize("booking.index.room.days", bookingIndex, BookingIntervalIndex::size);
+    }
+
+    /**
+     * Loads all of today's and upcoming bookings into the in-memory index once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpIndex() {
+        List<BookingView> upcomingBookings = bookingRepository.findViewsByDateGreaterThanEqual(LocalDate.now());
+        bookingIndex.warmUp(upcomingBookings);
+        log.info("Booking index warmed up with {} bookings", upcomingBookings.size());
+    }
+
+    /**
+     * Drops the bookings of past days from the in-memory index at midnight.
+     */
+    @Scheduled(cron = "0 0 0 * * *")
+    public void evictPastDays() {
+        bookingIndex.evictBefore(LocalDate.now());
+    }
 
     /**
      * Creates a booking and checks for overlap with other bookings.
+     * The overlap check and the save run under the lock of the booking's meeting room and date,
+     * so concurrent requests for the same slot cannot both be saved. The booking is saved along with the occupancy of
+     * its room/day, which also keeps application instances sharing the database from double booking it.
+     *
+     * <p>When write-behind is enabled, the booking is added to the index right away, where its room/day stays until the
+     * booking is saved, and handed to {@link BookingWriteBehind}, which saves it together with the bookings of concurrent
+     * requests. It is handed over after the lock is released, so a request waiting for room in a full queue doesn't hold
+     * up its room/day.
      *
      * @param booking the booking to create
      * @return list of bookings for the same room and date
      */
-    public List<Booking> createBooking(Booking booking) {
-        checkForBookingOverlap(booking);
-        bookingRepository.save(booking);
-        log.info("Booking created successfully: {}", booking);
-        return getBookings(booking.getMeetingRoom().getId(), booking.getDate());
+    public List<BookingView> createBooking(Booking booking) {
+        return operationMetrics.time(BOOKING_OPERATIONS, "create", () -> {
+            UUID meetingRoomId = booking.getMeetingRoom().getId();
+            roomDayLocks.withLock(meetingRoomId, booking.getDate(), () -> {
+                checkForBookingOverlap(booking);
+                save(booking);
+                return booking;
+            });
+            CompletableFuture<Void> written = writeBehind(booking);
+            written.thenRun(() -> eventPublisher.publishEvent(BookingChange.created(BookingView.of(booking))));
+            // Waited for outside the lock, so the next booking of the room/day can join the same group
+            bookingWriteBehind.acknowledge(written);
+            log.info("Booking created successfully: {}", booking);
+            operationMetrics.bookingsCreated(1);
+            return bookingIndex.getBookings(meetingRoomId, booking.getDate());
+        });
+    }
+
+    /**
+     * Creates a batch of bookings. Every booking is checked against the existing bookings of its meeting room and date
+     * and against the bookings of the batch that precede it. Each room/day is loaded at most once and all non-overlapping
+     * bookings are saved together, in a single transaction.
+     *
+     * @param bookings the bookings to create
+     * @return the outcome of each booking, in the order they were given
+     */
+    public List<BookingCreationOutcome> createBookings(List<Booking> bookings) {
+        return operationMetrics.time(BOOKING_OPERATIONS, "create_batch", () -> {
+            Map<RoomDay, List<Booking>> bookingsByRoomDay = bookings.stream()
+                    .collect(Collectors.groupingBy(RoomDay::of, LinkedHashMap::new, Collectors.toList()));
+
+            List<Booking> accepted = roomDayLocks.withLocks(bookingsByRoomDay.keySet(), () -> {
+                List<Booking> acceptedBookings = new ArrayList<>();
+                bookingsByRoomDay.forEach((roomDay, roomDayBookings) -> {
+                    List<BookingView> taken = new ArrayList<>(bookingIndex.getBookingsForUpdate(roomDay.meetingRoomId(), roomDay.date()));
+                    for (Booking booking : roomDayBookings) {
+                        if (taken.stream().noneMatch(existing -> BookingIntervalIndex.overlaps(booking, existing))) {
+                            taken.add(BookingView.of(booking));
+                            acceptedBookings.add(booking);
+                        }
+                    }
+                });
+                roomDayOccupancyService.occupy(acceptedBookings.stream().map(BookingView::of).toList(),
+                        () -> bookingRepository.saveAll(acceptedBookings));
+                acceptedBookings.forEach(bookingIndex::add);
+                return acceptedBookings;
+            });
+
+            accepted.forEach(booking -> eventPublisher.publishEvent(BookingChange.created(BookingView.of(booking))));
+            log.info("Batch of {} bookings processed: {} created, {} overlapping", bookings.size(), accepted.size(), bookings.size() - accepted.size());
+            operationMetrics.bookingsCreated(accepted.size());
+            operationMetrics.overlapRejections(bookings.size() - accepted.size());
+            Set<Booking> created = Collections.newSetFromMap(new IdentityHashMap<>());
+            created.addAll(accepted);
+            return bookings.stream()
+                    .map(booking -> new BookingCreationOutcome(booking, created.contains(booking)))
+                    .toList();
+        });
+    }
+
+    /**
+     * Creates the bookings of a recurring series. All occurrences are checked against the indexed bookings of the
+     * meeting room, with the room/days that are not held yet loaded by a single query over the date range of the series,
+     * and the non-overlapping occurrences are saved together, in a single transaction.
+     *
+     * @param bookingSeries the series to create
+     * @return the outcome of each occurrence, ordered by date
+     */
+    public List<BookingCreationOutcome> createBookingSeries(BookingSeries bookingSeries) {
+        return operationMetrics.time(BOOKING_OPERATIONS, "create_series", () -> {
+            List<Booking> occurrences = bookingSeries.bookings().toList();
+            UUID meetingRoomId = bookingSeries.meetingRoom().getId();
+            List<RoomDay> roomDays = occurrences.stream().map(RoomDay::of).toList();
+
+            List<BookingCreationOutcome> outcomes = roomDayLocks.withLocks(roomDays, () -> {
+                Map<LocalDate, List<BookingView>> existingBookingsByDate = bookingRepository
+                        .findViewsByMeetingRoomIdAndDateBetween(meetingRoomId, bookingSeries.startDate(), bookingSeries.endDate())
+                        .stream()
+                        .collect(Collectors.groupingBy(BookingView::date));
+                // Room/days that are already held keep their bookings, which include those still queued by write-behind
+                roomDays.forEach(roomDay -> bookingIndex.preload(roomDay, existingBookingsByDate.getOrDefault(roomDay.date(), List.of())));
+
+                List<BookingCreationOutcome> occurrenceOutcomes = occurrences.stream()
+                        .map(occurrence -> new BookingCreationOutcome(occurrence, !bookingIndex.overlaps(occurrence)))
+                        .toList();
+                List<Booking> accepted = occurrenceOutcomes.stream()
+                        .filter(BookingCreationOutcome::created)
+                        .map(BookingCreationOutcome::booking)
+                        .toList();
+                roomDayOccupancyService.occupy(accepted.stream().map(BookingView::of).toList(),
+                        () -> bookingRepository.saveAll(accepted));
+                accepted.forEach(bookingIndex::add);
+                return occurrenceOutcomes;
+            });
+
+            outcomes.stream()
+                    .filter(BookingCreationOutcome::created)
+                    .forEach(outcome -> eventPublisher.publishEvent(BookingChange.created(BookingView.of(outcome.booking()))));
+            long created = outcomes.stream().filter(BookingCreationOutcome::created).count();
+            log.info("Booking series of {} occurrences processed for meeting room {}: {} created, {} overlapping",
+                    occurrences.size(), meetingRoomId, created, occurrences.size() - created);
+            operationMetrics.bookingsCreated(created);
+            operationMetrics.overlapRejections(occurrences.size() - created);
+            return outcomes;
+        });
     }
 
     /**
      * Retrieves bookings for a specific meeting room on a given date.
+     * Today's and upcoming days are served from the in-memory index, past days are read from the database, along with
+     * the archive if the day is old enough to have been archived. Either way the bookings are returned as views, so no
+     * booking or meeting room entities are loaded.
      *
      * @param meetingRoomId the meeting room ID
      * @param date          the date of bookings
-     * @return list of bookings
+     * @return list of bookings, sorted by start time
+     */
+    public List<BookingView> getBookings(UUID meetingRoomId, LocalDate date) {
+        return operationMetrics.time(BOOKING_OPERATIONS, "list", () -> {
+            if (date.isBefore(LocalDate.now())) {
+                List<BookingView> bookings = bookingRepository.findViewsByMeetingRoomIdAndDate(meetingRoomId, date);
+                List<BookingView> archivedBookings = bookingArchive.getBookings(meetingRoomId, date);
+                return archivedBookings.isEmpty() ? bookings : BookingMerge.merge(bookings, archivedBookings, Integer.MAX_VALUE);
+            }
+            return bookingIndex.getBookings(meetingRoomId, date);
+        });
+    }
+
+    /**
+     * Retrieves a page of the bookings within a date range, ordered by date, start time and ID.
+     * The bookings are read from the database with a single index range scan per page, however far into the range the
+     * page is, plus one on the archive for pages old enough to hold archived bookings.
+     *
+     * @param meetingRoomId the meeting room ID, or null for the bookings of all meeting rooms
+     * @param dateFrom      the first date of the range, inclusive
+     * @param dateTo        the last date of the range, inclusive
+     * @param after         the booking to continue after, or null to start from the first booking of the range
+     * @param size          the maximum number of bookings in the page
+     * @return the page of bookings
+     * @throws InvalidRangeException If the range ends before it starts
+     */
+    public BookingPage getBookingsInRange(UUID meetingRoomId, LocalDate dateFrom, LocalDate dateTo, BookingKey after, int size) {
+        checkDateRange(dateFrom, dateTo);
+        // A position before the range, which this service never hands out, starts from the beginning of the range
+        BookingKey start = after != null && !after.date().isBefore(dateFrom) ? after : null;
+        return operationMetrics.time(BOOKING_OPERATIONS, "list_range", () -> {
+            // One more booking than requested is read to find out whether another page follows
+            Limit limit = Limit.of(size + 1);
+            List<BookingView> bookings;
+            if (start == null) {
+                bookings = meetingRoomId == null
+                        ? bookingRepository.findRangeFirstPage(dateFrom, dateTo, limit)
+                        : bookingRepository.findRangeFirstPage(meetingRoomId, dateFrom, dateTo, limit);
+            } else {
+                bookings = meetingRoomId == null
+                        ? bookingRepository.findRangePageAfter(start.date(), start.timeFrom(), start.id(), dateTo, limit)
+                        : bookingRepository.findRangePageAfter(meetingRoomId, start.date(), start.timeFrom(), start.id(), dateTo, limit);
+            }
+            bookings = BookingMerge.merge(bookings, bookingArchive.getBookingsInRange(meetingRoomId, dateFrom, dateTo, start, limit), size + 1);
+            boolean hasNext = bookings.size() > size;
+            return new BookingPage(hasNext ? List.copyOf(bookings.subList(0, size)) : bookings, hasNext);
+        });
+    }
+
+    /**
+     * Passes the bookings within a date range to a consumer one at a time, ordered by date, start time and ID.
+     * The bookings are streamed from the database in a read-only transaction as views, so no entity is attached to
+     * the persistence context and memory use stays flat however many bookings the range holds. Archived bookings of the
+     * range are streamed alongside and merged in order.
+     *
+     * @param meetingRoomId the meeting room ID, or null for the bookings of all meeting rooms
+     * @param dateFrom      the first date of the range, inclusive
+     * @param dateTo        the last date of the range, inclusive
+     * @param consumer      receives every booking of the range
+     * @return the number of bookings that were passed to the consumer
+     * @throws InvalidRangeException If the range ends before it starts
      */
-    public List<Booking> getBookings(UUID meetingRoomId, LocalDate date) {
-        return bookingRepository.findByMeetingRoomIdAndDate(meetingRoomId, date);
+    @Transactional(readOnly = true)
+    public long exportBookings(UUID meetingRoomId, LocalDate dateFrom, LocalDate dateTo, Consumer<BookingView> consumer) {
+        checkDateRange(dateFrom, dateTo);
+        return operationMetrics.time(BOOKING_OPERATIONS, "export", () -> {
+            long exported = 0;
+            try (Stream<BookingView> bookings = meetingRoomId == null
+                    ? bookingRepository.streamViewsByDateBetween(dateFrom, dateTo)
+                    : bookingRepository.streamViewsByMeetingRoomIdAndDateBetween(meetingRoomId, dateFrom, dateTo);
+                 Stream<BookingView> archivedBookings = bookingArchive.streamBookingsInRange(meetingRoomId, dateFrom, dateTo)) {
+                Iterator<BookingView> iterator = BookingMerge.merge(bookings.iterator(), archivedBookings.iterator());
+                while (iterator.hasNext()) {
+                    consumer.accept(iterator.next());
+                    exported++;
+                }
+            }
+            log.info("Exported {} bookings from {} to {}", exported, dateFrom, dateTo);
+            return exported;
+        });
     }
 
     /**
-     * Deletes a booking by ID, ensuring it isn't in the past.
+     * Retrieves the bookings of the given meeting rooms and dates that are held in memory, which include the bookings
+     * still queued by write-behind. Room/days that are not held are left out, since all their bookings are in the
+     * database. Callers that write against the bookings must hold the locks of the room/days.
+     *
+     * @param roomDays the meeting rooms and dates
+     * @return the held bookings of each room/day
+     */
+    public Map<RoomDay, List<BookingView>> getHeldBookings(Collection<RoomDay> roomDays) {
+        Map<RoomDay, List<BookingView>> heldBookings = new HashMap<>();
+        roomDays.forEach(roomDay -> heldBookings.put(roomDay, bookingIndex.getHeldBookings(roomDay)));
+        return heldBookings;
+    }
+
+    /**
+     * Adds bookings that were saved without going through this service to the in-memory index, and changes the versions
+     * of their room/days. Callers must hold the locks of the room/days while saving the bookings and calling this
+     * method, so no booking is created against the outdated bookings.
+     *
+     * @param bookings the bookings that were saved
+     */
+    public void addSavedBookings(Collection<BookingView> bookings) {
+        bookingIndex.addSaved(bookings);
+    }
+
+    /**
+     * Retrieves a booking by ID, from the archive if it is not found among the bookings.
+     *
+     * @param bookingId the booking ID
+     * @return the booking
+     * @throws ResourceNotFoundException If the booking does not exist
+     */
+    public BookingView getBooking(UUID bookingId) {
+        return operationMetrics.time(BOOKING_OPERATIONS, "get", () -> bookingRepository.findViewById(bookingId)
+                .or(() -> bookingArchive.findById(bookingId))
+                .orElseThrow(() -> {
+                    log.error("There is no booking with id {}", bookingId);
+                    return new ResourceNotFoundException("There is no booking with id " + bookingId);
+                }));
+    }
+
+    /**
+     * Retrieves the version of the bookings of a meeting room on a given date without reading them.
+     * The version changes every time a booking of the room/day is created or deleted through this service,
+     * and differs between application instances and restarts.
+     *
+     * @param meetingRoomId the meeting room ID
+     * @param date          the date of bookings
+     * @return an opaque version string
+     */
+    public String getBookingsVersion(UUID meetingRoomId, LocalDate date) {
+        return instanceId + "-" + bookingIndex.getVersion(meetingRoomId, date);
+    }
+
+    /**
+     * Deletes a booking by ID, ensuring it isn't in the past. The booking is deleted under the lock of its room/day
+     * with a statement that reports whether it still existed, so a booking canceled twice concurrently only frees its
+     * minutes once.
      *
      * @param bookingId the booking ID
      * @throws PastBookingException If the booking end datetime is in the past
      * @throws ResourceNotFoundException If the booking does not exist
      */
     public void deleteBooking(UUID bookingId) {
-        Optional<Booking> bookingOpt = bookingRepository.findById(bookingId);
-        if (bookingOpt.isEmpty()) {
-            log.error("There is no booking with id {}", bookingId);
-            throw new ResourceNotFoundException("There is no booking with id " + bookingId);
+        operationMetrics.time(BOOKING_OPERATIONS, "delete", () -> {
+            Optional<Booking> bookingOpt = bookingRepository.findById(bookingId);
+            if (bookingOpt.isEmpty() && bookingArchive.findById(bookingId).isPresent()) {
+                log.error("Attempt to cancel an archived booking with ID: {}", bookingId);
+                operationMetrics.pastCancelRejections(1);
+                throw new PastBookingException("A booking that has already ended cannot be canceled");
+            }
+            if (bookingOpt.isEmpty()) {
+                log.error("There is no booking with id {}", bookingId);
+                throw new ResourceNotFoundException("There is no booking with id " + bookingId);
+            }
+            Booking booking = bookingOpt.get();
+
+            if (bookingIsInThePast(booking)){
+                log.error("Attempt to cancel a booking in the past with ID: {}", bookingId);
+                operationMetrics.pastCancelRejections(1);
+                throw new PastBookingException("A booking that has already ended cannot be canceled");
+            }
+
+            roomDayLocks.withLock(booking.getMeetingRoom().getId(), booking.getDate(), () -> {
+                roomDayOccupancyService.vacate(BookingView.of(booking), () -> {
+                    // The booking was read before the lock was taken, so a concurrent cancellation may have deleted it
+                    // already; its minutes may have been booked again since, and must not be cleared a second time
+                    if (bookingRepository.deleteByIdIn(List.of(bookingId)) == 0) {
+                        log.error("Booking with ID {} was deleted concurrently", bookingId);
+                        throw new ResourceNotFoundException("There is no booking with id " + bookingId);
+                    }
+                });
+                bookingIndex.remove(booking);
+                return booking;
+            });
+            eventPublisher.publishEvent(BookingChange.deleted(BookingView.of(booking)));
+            log.info("Successfully deleted booking with ID: {}", bookingId);
+        });
+    }
+
+    /**
+     * Cancels several bookings by ID. The bookings are read with a single query and all of them that have not ended
+     * yet are deleted with a single statement, which checks the end of each booking against the same instant again, so
+     * a booking that ends in the meantime is never deleted.
+     *
+     * @param bookingIds the booking IDs
+     * @return the outcome of each distinct booking ID, in the order they were given
+     * @throws ConcurrencyFailureException if one of the bookings was deleted concurrently
+     */
+    public List<BookingCancellationOutcome> deleteBookings(Collection<UUID> bookingIds) {
+        return operationMetrics.time(BOOKING_OPERATIONS, "delete_bulk", () -> {
+            Set<UUID> ids = new LinkedHashSet<>(bookingIds);
+            Map<UUID, BookingView> bookings = bookingRepository.findViewsByIdIn(ids).stream()
+                    .collect(Collectors.toMap(BookingView::id, booking -> booking));
+            // Archived bookings have ended, so they are reported as past rather than not found
+            Set<UUID> missing = new HashSet<>(ids);
+            missing.removeAll(bookings.keySet());
+            bookingArchive.findByIds(missing).forEach(booking -> bookings.put(booking.id(), booking));
+            return cancel(ids, bookings);
+        });
+    }
+
+    /**
+     * Cancels all bookings of an employee within a date range, as {@link #deleteBookings(Collection)} does.
+     *
+     * @param employeeEmail the email of the employee
+     * @param dateFrom      the first date of the range, inclusive
+     * @param dateTo        the last date of the range, inclusive
+     * @return the outcome of each booking of the employee, ordered by date and start time
+     * @throws InvalidRangeException       if the end date is before the start date
+     * @throws ConcurrencyFailureException if one of the bookings was deleted concurrently
+     */
+    public List<BookingCancellationOutcome> deleteBookingsOfEmployee(String employeeEmail, LocalDate dateFrom, LocalDate dateTo) {
+        checkDateRange(dateFrom, dateTo);
+        return operationMetrics.time(BOOKING_OPERATIONS, "delete_bulk", () -> {
+            Map<UUID, BookingView> bookings = new LinkedHashMap<>();
+            bookingRepository.findViewsByEmployeeEmailAndDateBetween(employeeEmail, dateFrom, dateTo)
+                    .forEach(booking -> bookings.put(booking.id(), booking));
+            return cancel(bookings.keySet(), bookings);
+        });
+    }
+
+    private List<BookingCancellationOutcome> cancel(Set<UUID> ids, Map<UUID, BookingView> bookings) {
+        LocalDateTime now = now();
+        List<BookingView> deletable = bookings.values().stream()
+                .filter(booking -> !LocalDateTime.of(booking.date(), booking.timeTo()).isBefore(now))
+                .toList();
+        List<UUID> deletableIds = deletable.stream().map(BookingView::id).toList();
+
+        if (!deletable.isEmpty()) {
+            Set<RoomDay> roomDays = deletable.stream().map(BookingView::roomDay).collect(Collectors.toSet());
+            roomDayLocks.withLocks(roomDays, () -> {
+                roomDayOccupancyService.vacateAll(deletable, () -> {
+                    int deleted = bookingRepository.deleteNotEndedByIdIn(deletableIds, now.toLocalDate(), now.toLocalTime());
+                    if (deleted != deletable.size()) {
+                        // Another request deleted some of the bookings after they were read; roll back the occupancy
+                        throw new ConcurrencyFailureException("The bookings were changed concurrently");
+                    }
+                    return deleted;
+                });
+                deletable.forEach(bookingIndex::remove);
+                return deletable;
+            });
+            deletable.forEach(booking -> eventPublisher.publishEvent(BookingChange.deleted(booking)));
+        }
+
+        Set<UUID> deleted = new HashSet<>(deletableIds);
+        List<BookingCancellationOutcome> outcomes = ids.stream()
+                .map(id -> new BookingCancellationOutcome(id, !bookings.containsKey(id)
+                        ? BookingCancellationOutcome.Status.NOT_FOUND
+                        : deleted.contains(id) ? BookingCancellationOutcome.Status.DELETED : BookingCancellationOutcome.Status.PAST))
+                .toList();
+        long past = bookings.size() - deleted.size();
+        log.info("Bulk cancellation of {} bookings processed: {} deleted, {} not found, {} in the past",
+                ids.size(), deleted.size(), ids.size() - bookings.size(), past);
+        operationMetrics.pastCancelRejections(past);
+        return outcomes;
+    }
+
+    /**
+     * Saves a new booking along with the occupancy of its room/day, and adds it to the index. If write-behind is
+     * enabled, the booking only gets its ID and is added to the index, and is saved by {@link #writeBehind(Booking)}.
+     *
+     * @param booking the booking to save
+     */
+    private void save(Booking booking) {
+        if (bookingWriteBehind.isEnabled()) {
+            booking.setId(TimeOrderedUuidGenerator.next());
+            bookingIndex.addQueued(booking);
+        } else {
+            roomDayOccupancyService.occupy(List.of(BookingView.of(booking)), () -> bookingRepository.save(booking));
+            bookingIndex.add(booking);
         }
-        Booking booking = bookingOpt.get();
+    }
 
-        if (bookingIsInThePast(booking)){
-            log.error("Attempt to cancel a booking in the past with ID: {}", bookingId);
-            throw new PastBookingException("A booking that has already ended cannot be canceled");
+    /**
+     * Queues a booking that was added to the index to be saved, if write-behind is enabled. The booking alone is removed
+     * from the index again if it cannot be queued or saved, so the other queued bookings of its room/day stay.
+     *
+     * @param booking the booking to queue
+     * @return completes when the booking is saved
+     */
+    private CompletableFuture<Void> writeBehind(Booking booking) {
+        if (!bookingWriteBehind.isEnabled()) {
+            return CompletableFuture.completedFuture(null);
+        }
+        BookingView view = BookingView.of(booking);
+        CompletableFuture<Void> written;
+        try {
+            written = bookingWriteBehind.enqueue(view);
+        } catch (WriteQueueFullException e) {
+            bookingIndex.dropQueued(view);
+            throw e;
         }
+        written.whenCompleteAsync((ignored, failure) -> {
+            if (failure != null) {
+                bookingIndex.dropQueued(view);
+            } else {
+                bookingIndex.written(view);
+            }
+        }, writeCompletionExecutor);
+        return written;
+    }
 
-        bookingRepository.deleteById(bookingId);
-        log.info("Successfully deleted booking with ID: {}", bookingId);
+    private void checkDateRange(LocalDate dateFrom, LocalDate dateTo) {
+        if (dateTo.isBefore(dateFrom)) {
+            throw new InvalidRangeException("The end date must not be before the start date.");
+        }
     }
 
     /**
@@ -85,14 +556,15 @@ public class BookingService {
     }
 
     /**
-     * Validates if the booking overlaps with existing ones.
+     * Validates if the booking overlaps with existing ones, using the in-memory index.
      *
      * @param booking the booking to check
      * @throws BookingOverlapException If the booking overlaps with an existing booking
      */
     private void checkForBookingOverlap(Booking booking) {
-        if (bookingRepository.existsByMeetingRoomIdAndDateAndTimeOverlap(booking)) {
+        if (bookingIndex.overlaps(booking)) {
             log.error("Booking overlap detected for booking: {}", booking);
+            operationMetrics.overlapRejections(1);
             throw new BookingOverlapException("Booking overlaps with an existing booking");
         }
     }
@@ -0,0 +1,226 @@
+package com.acme.booking.domain.service;
+
+import com.acme.booking.domain.model.BookingView;
+import com.acme.booking.exception.WriteQueueFullException;
+import com.acme.booking.monitoring.OperationMetrics;
+import com.acme.booking.repository.BookingBatchWriter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+
+import static com.acme.booking.monitoring.OperationMetrics.BOOKING_OPERATIONS;
+
+/**
+ * Writes accepted bookings to the database behind the requests that created them, grouping the bookings of concurrent
+ * requests into a single transaction.
+ *
+ * <p>Bookings are appended to a bounded queue that a single thread drains. A group is written as soon as it holds
+ * {@code booking.write-behind.batch-size} bookings or {@code booking.write-behind.max-delay} after its first booking
+ * was queued, whichever comes first, with one JDBC batch and one update of the occupancy of every room/day involved.
+ * When the queue is full, callers wait up to {@code booking.write-behind.enqueue-timeout} for space before being
+ * turned away, so a database that falls behind slows down the requests instead of letting the queue grow.
+ *
+ * <p>With {@link Acknowledgement#FLUSH}, the default, a request returns once its booking is committed. With
+ * {@link Acknowledgement#ENQUEUE}, it returns once the booking is queued: a booking acknowledged this way is lost if the
+ * application stops abruptly before the queue is written, and is missing from the queries that read the database until
+ * then. If a group cannot be written, its bookings are written one at a time, so only the failing ones are lost.
+ *
+ * <p>Write-behind is disabled by default and enabled with {@code booking.write-behind.enabled}.
+ */
+@Component
+@Slf4j
+public class BookingWriteBehind implements InitializingBean, DisposableBean {
+
+    /**
+     * When a request that created a booking is answered.
+     */
+    public enum Acknowledgement {
+        /**
+         * Once the booking is committed.
+         */
+        FLUSH,
+        /**
+         * Once the booking is queued.
+         */
+        ENQUEUE
+    }
+
+    private static final Duration IDLE_POLL = Duration.ofMillis(100);
+
+    private final BookingBatchWriter bookingBatchWriter;
+    private final RoomDayOccupancyService roomDayOccupancyService;
+    private final OperationMetrics operationMetrics;
+    private final boolean enabled;
+    private final Acknowledgement acknowledgement;
+    private final int batchSize;
+    private final Duration maxDelay;
+    private final Duration enqueueTimeout;
+    private final BlockingQueue<PendingWrite> queue;
+    private volatile boolean running;
+    private Thread flusher;
+
+    public BookingWriteBehind(BookingBatchWriter bookingBatchWriter,
+                              RoomDayOccupancyService roomDayOccupancyService,
+                              OperationMetrics operationMetrics,
+                              @Value("${booking.write-behind.enabled:false}") boolean enabled,
+                              @Value("${booking.write-behind.acknowledgement:FLUSH}") Acknowledgement acknowledgement,
+                              @Value("${booking.write-behind.queue-capacity:10000}") int queueCapacity,
+                              @Value("${booking.write-behind.batch-size:200}") int batchSize,
+                              @Value("${booking.write-behind.max-delay:5ms}") Duration maxDelay,
+                              @Value("${booking.write-behind.enqueue-timeout:1s}") Duration enqueueTimeout) {
+        if (queueCapacity < 1 || batchSize < 1) {
+            throw new IllegalArgumentException("The write-behind queue capacity and batch size must be positive");
+        }
+        this.bookingBatchWriter = bookingBatchWriter;
+        this.roomDayOccupancyService = roomDayOccupancyService;
+        this.operationMetrics = operationMetrics;
+        this.enabled = enabled;
+        this.acknowledgement = acknowledgement;
+        this.batchSize = batchSize;
+        this.maxDelay = maxDelay;
+        this.enqueueTimeout = enqueueTimeout;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        operationMetrics.registerSize("booking.write.behind.queue", queue, BlockingQueue::size);
+    }
+
+    /**
+     * @return true if bookings are written behind, false if they are written by the requests that create them
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Queues a booking to be written.
+     *
+     * @param booking the booking to write, with its ID
+     * @return completes when the booking is committed, or exceptionally if it could not be written
+     * @throws WriteQueueFullException if the queue stays full for longer than the enqueue timeout
+     */
+    public CompletableFuture<Void> enqueue(BookingView booking) {
+        PendingWrite write = new PendingWrite(booking, new CompletableFuture<>());
+        try {
+            if (!running || !queue.offer(write, enqueueTimeout.toNanos(), TimeUnit.NANOSECONDS)) {
+                log.warn("Booking write-behind queue is full or stopped, rejecting booking: {}", booking);
+                throw new WriteQueueFullException("Too many bookings are waiting to be saved, please try again later.");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new WriteQueueFullException("Interrupted while waiting to queue the booking.");
+        }
+        return write.completion();
+    }
+
+    /**
+     * Waits for a queued booking to be committed if requests are acknowledged after the flush, and returns right away
+     * otherwise.
+     *
+     * @param written the completion of the write
+     */
+    public void acknowledge(CompletableFuture<Void> written) {
+        if (acknowledgement != Acknowledgement.FLUSH) {
+            return;
+        }
+        try {
+            written.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        flusher = Thread.ofPlatform().name("booking-write-behind").daemon().start(this::flushContinuously);
+        log.info("Booking write-behind enabled: batches of up to {} bookings every {}, acknowledged on {}",
+                batchSize, maxDelay, acknowledgement);
+    }
+
+    /**
+     * Stops accepting bookings and writes the ones still queued.
+     */
+    @Override
+    public void destroy() throws InterruptedException {
+        if (flusher == null) {
+            return;
+        }
+        running = false;
+        flusher.join();
+    }
+
+    private void flushContinuously() {
+        try {
+            while (running || !queue.isEmpty()) {
+                PendingWrite first = queue.poll(IDLE_POLL.toNanos(), TimeUnit.NANOSECONDS);
+                if (first != null) {
+                    flush(collectBatch(first));
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("Booking write-behind interrupted with {} bookings queued", queue.size());
+        }
+    }
+
+    private List<PendingWrite> collectBatch(PendingWrite first) throws InterruptedException {
+        List<PendingWrite> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        long deadline = System.nanoTime() + maxDelay.toNanos();
+        while (batch.size() < batchSize) {
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                queue.drainTo(batch, batchSize - batch.size());
+                break;
+            }
+            PendingWrite next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                break;
+            }
+            batch.add(next);
+        }
+        return batch;
+    }
+
+    private void flush(List<PendingWrite> batch) {
+        try {
+            write(batch);
+            batch.forEach(write -> write.completion().complete(null));
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                log.error("Failed to write booking: {}", batch.getFirst().booking(), e);
+                batch.getFirst().completion().completeExceptionally(e);
+                return;
+            }
+            log.warn("Failed to write a group of {} bookings, writing them one at a time", batch.size(), e);
+            batch.forEach(write -> flush(List.of(write)));
+        }
+    }
+
+    private void write(List<PendingWrite> batch) {
+        List<BookingView> bookings = batch.stream().map(PendingWrite::booking).toList();
+        operationMetrics.time(BOOKING_OPERATIONS, "flush", () -> roomDayOccupancyService.occupy(bookings, () -> {
+            bookingBatchWriter.insert(bookings);
+            return bookings;
+        }));
+    }
+
+    private record PendingWrite(BookingView booking, CompletableFuture<Void> completion) {
+    }
+}
@@ -1,15 +1,39 @@
 package com.acme.booking.domain.service;
 
 import com.acme.booking.domain.model.MeetingRoom;
+import com.acme.booking.domain.model.MeetingRoomPage;
 import com.acme.booking.exception.ResourceAlreadyExistsException;
 import com.acme.booking.exception.ResourceNotFoundException;
+import com.acme.booking.monitoring.OperationMetrics;
 import com.acme.booking.repository.MeetingRoomRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static com.acme.booking.configuration.CacheConfiguration.MEETING_ROOMS_CACHE;
+import static com.acme.booking.configuration.CacheConfiguration.MEETING_ROOM_CACHE;
+import static com.acme.booking.configuration.CacheConfiguration.MEETING_ROOM_PAGES_CACHE;
+import static com.acme.booking.monitoring.OperationMetrics.MEETING_ROOM_OPERATIONS;
 
 @Service
 @RequiredArgsConstructor
@@ -17,46 +41,215 @@ import java.util.UUID;
 public class MeetingRoomService {
 
     private final MeetingRoomRepository meetingRoomRepository;
+    private final OperationMetrics operationMetrics;
+    private final CacheManager cacheManager;
+    private final ReentrantLock creationLock = new ReentrantLock();
 
     /**
-     * Creates a new meeting room if the name is unique and returns the updated list of meeting rooms.
+     * Creates a new meeting room if the name is unique.
+     * If the list of meeting rooms is cached, the new room is added to it rather than evicting it, so the list doesn't
+     * have to be read again. Rooms are created one at a time, so the name check and the update of the cached list
+     * cannot interleave.
      *
      * @param name the name of the meeting room to create
-     * @return a list of all meeting rooms after the new room is created
+     * @return the meeting room that was created
      * @throws ResourceAlreadyExistsException if a room with the given name already exists
      */
-    public List<MeetingRoom> createMeetingRoom(String name) {
-        if (meetingRoomRepository.existsByNameIgnoreCase(name)){
-            log.error("A room with the name '{}' already exists", name);
-            throw new ResourceAlreadyExistsException(String.format("A room with the name '%s' already exists", name));
+    @CacheEvict(cacheNames = MEETING_ROOM_PAGES_CACHE, allEntries = true)
+    public MeetingRoom createMeetingRoom(String name) {
+        return operationMetrics.time(MEETING_ROOM_OPERATIONS, "create", () -> withCreationLock(() -> {
+            MeetingRoom meetingRoom = save(name);
+            List<MeetingRoom> cachedMeetingRooms = getCachedMeetingRooms();
+            if (cachedMeetingRooms != null) {
+                cacheMeetingRooms(added(cachedMeetingRooms, meetingRoom));
+            }
+            return meetingRoom;
+        }));
+    }
+
+    /**
+     * Creates a new meeting room if the name is unique, and returns all meeting rooms including the new one. The list
+     * is the cached one with the new room added, or is read and cached if it isn't cached yet, while rooms are still
+     * created one at a time, so it always holds the new room.
+     *
+     * @param name the name of the meeting room to create
+     * @return all meeting rooms
+     * @throws ResourceAlreadyExistsException if a room with the given name already exists
+     */
+    @CacheEvict(cacheNames = MEETING_ROOM_PAGES_CACHE, allEntries = true)
+    public List<MeetingRoom> createMeetingRoomAndGetAll(String name) {
+        return operationMetrics.time(MEETING_ROOM_OPERATIONS, "create", () -> withCreationLock(() -> {
+            MeetingRoom meetingRoom = save(name);
+            List<MeetingRoom> cachedMeetingRooms = getCachedMeetingRooms();
+            List<MeetingRoom> meetingRooms = cachedMeetingRooms != null
+                    ? added(cachedMeetingRooms, meetingRoom)
+                    : readAll();
+            cacheMeetingRooms(meetingRooms);
+            return meetingRooms;
+        }));
+    }
+
+    /**
+     * Creates meeting rooms with IDs handed out beforehand as part of the current transaction, so they are only kept if
+     * it commits. No other room is created until the transaction completes, so the name check holds until then, and the
+     * rooms are added to the cached list of meeting rooms once they are committed.
+     *
+     * @param names the names of the meeting rooms to create, by ID
+     * @throws ResourceAlreadyExistsException if a room with one of the names already exists
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void createMeetingRooms(Map<UUID, String> names) {
+        creationLock.lock();
+        try {
+            List<MeetingRoom> meetingRooms = new ArrayList<>();
+            names.forEach((id, name) -> {
+                checkNameIsFree(name);
+                meetingRoomRepository.insert(id, name);
+                meetingRooms.add(MeetingRoom.builder().id(id).name(name).build());
+            });
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    List<MeetingRoom> cachedMeetingRooms = getCachedMeetingRooms();
+                    if (cachedMeetingRooms != null) {
+                        List<MeetingRoom> updatedMeetingRooms = new ArrayList<>(cachedMeetingRooms);
+                        updatedMeetingRooms.addAll(meetingRooms);
+                        cacheMeetingRooms(List.copyOf(updatedMeetingRooms));
+                    }
+                    Cache meetingRoomPagesCache = cacheManager.getCache(MEETING_ROOM_PAGES_CACHE);
+                    if (meetingRoomPagesCache != null) {
+                        meetingRoomPagesCache.clear();
+                    }
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    creationLock.unlock();
+                }
+            });
+        } catch (RuntimeException e) {
+            creationLock.unlock();
+            throw e;
         }
-        meetingRoomRepository.save(new MeetingRoom(name));
-        log.info("Meeting room '{}' created successfully", name);
-        return getAll();
+        log.info("Meeting rooms {} created, pending the commit of the transaction", names.values());
     }
 
     /**
-     * Retrieves all meeting rooms.
+     * Retrieves all meeting rooms. The list is cached until the cache entry expires and meeting rooms that are created
+     * in the meantime are added to it, so only the database reads are timed. It is read and cached while no room is
+     * being created, so a list read before a room was created never replaces the list the room was added to.
      *
      * @return a list of meeting rooms
      */
     public List<MeetingRoom> getAll() {
-        return meetingRoomRepository.findAll();
+        List<MeetingRoom> cachedMeetingRooms = getCachedMeetingRooms();
+        if (cachedMeetingRooms != null) {
+            return cachedMeetingRooms;
+        }
+        return withCreationLock(() -> {
+            // Cached by a concurrent read or creation while this one waited for the lock
+            List<MeetingRoom> meetingRooms = getCachedMeetingRooms();
+            if (meetingRooms == null) {
+                meetingRooms = readAll();
+                cacheMeetingRooms(meetingRooms);
+            }
+            return meetingRooms;
+        });
+    }
+
+    /**
+     * Retrieves a page of meeting rooms, ordered by name and ID. Pages are cached until a meeting room is created or
+     * the cache entry expires, so only the database reads are timed.
+     *
+     * @param afterName the name of the meeting room to continue after, or null to start from the first meeting room
+     * @param afterId   the ID of the meeting room to continue after, or null to start from the first meeting room
+     * @param size      the maximum number of meeting rooms in the page
+     * @return the page of meeting rooms
+     */
+    @Cacheable(MEETING_ROOM_PAGES_CACHE)
+    public MeetingRoomPage getPage(String afterName, UUID afterId, int size) {
+        return operationMetrics.time(MEETING_ROOM_OPERATIONS, "list_page", () -> {
+            // One more meeting room than requested is read to find out whether another page follows
+            Limit limit = Limit.of(size + 1);
+            List<MeetingRoom> meetingRooms = afterName == null
+                    ? meetingRoomRepository.findFirstPage(limit)
+                    : meetingRoomRepository.findPageAfter(afterName, afterId, limit);
+            boolean hasNext = meetingRooms.size() > size;
+            return new MeetingRoomPage(List.copyOf(hasNext ? meetingRooms.subList(0, size) : meetingRooms), hasNext);
+        });
+    }
+
+    /**
+     * Finds the meeting rooms with the given IDs in a single query. IDs that don't belong to any meeting room are ignored.
+     *
+     * @param ids the UUIDs of the meeting rooms to find
+     * @return the meeting rooms that were found, by ID
+     */
+    public Map<UUID, MeetingRoom> findAllById(Collection<UUID> ids) {
+        return operationMetrics.time(MEETING_ROOM_OPERATIONS, "find_all", () -> meetingRoomRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(MeetingRoom::getId, Function.identity())));
     }
 
     /**
-     * Finds a meeting room by its ID.
+     * Finds a meeting room by its ID. Meeting rooms that are found are cached, so only the database lookups are timed.
      *
      * @param id the UUID of the meeting room to find
      * @return the MeetingRoom object if found
      * @throws ResourceNotFoundException if the meeting room with the given ID is not found
      */
+    @Cacheable(MEETING_ROOM_CACHE)
     public MeetingRoom findById(UUID id) {
         log.info("Finding meeting room with ID: {}", id);
-        return meetingRoomRepository.findById(id)
+        return operationMetrics.time(MEETING_ROOM_OPERATIONS, "find", () -> meetingRoomRepository.findById(id)
                 .orElseThrow(() ->{
                     log.error("The meeting room with ID '{}' was not found", id);
                     return new ResourceNotFoundException(String.format("The meeting room with ID '%s' was not found", id));
-                });
+                }));
+    }
+
+    private <T> T withCreationLock(Supplier<T> action) {
+        creationLock.lock();
+        try {
+            return action.get();
+        } finally {
+            creationLock.unlock();
+        }
+    }
+
+    private MeetingRoom save(String name) {
+        checkNameIsFree(name);
+        MeetingRoom meetingRoom = meetingRoomRepository.save(new MeetingRoom(name));
+        log.info("Meeting room '{}' created successfully", name);
+        return meetingRoom;
+    }
+
+    private void checkNameIsFree(String name) {
+        if (meetingRoomRepository.existsByNameIgnoreCase(name)){
+            log.error("A room with the name '{}' already exists", name);
+            throw new ResourceAlreadyExistsException(String.format("A room with the name '%s' already exists", name));
+        }
+    }
+
+    private List<MeetingRoom> readAll() {
+        return operationMetrics.time(MEETING_ROOM_OPERATIONS, "list", () -> List.copyOf(meetingRoomRepository.findAll()));
+    }
+
+    private static List<MeetingRoom> added(List<MeetingRoom> meetingRooms, MeetingRoom meetingRoom) {
+        List<MeetingRoom> updatedMeetingRooms = new ArrayList<>(meetingRooms);
+        updatedMeetingRooms.add(meetingRoom);
+        return List.copyOf(updatedMeetingRooms);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<MeetingRoom> getCachedMeetingRooms() {
+        Cache meetingRoomsCache = cacheManager.getCache(MEETING_ROOMS_CACHE);
+        return meetingRoomsCache != null ? meetingRoomsCache.get(SimpleKey.EMPTY, List.class) : null;
+    }
+
+    private void cacheMeetingRooms(List<MeetingRoom> meetingRooms) {
+        Cache meetingRoomsCache = cacheManager.getCache(MEETING_ROOMS_CACHE);
+        if (meetingRoomsCache != null) {
+            meetingRoomsCache.put(SimpleKey.EMPTY, meetingRooms);
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,71 @@
+package com.acme.booking.domain.service;
+
+import com.acme.booking.configuration.ReactiveDatabaseCondition;
+import com.acme.booking.domain.model.Booking;
+import com.acme.booking.domain.model.BookingView;
+import com.acme.booking.exception.BookingOverlapException;
+import com.acme.booking.exception.PastBookingException;
+import com.acme.booking.exception.ResourceNotFoundException;
+import com.acme.booking.repository.ReactiveBookingRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Non-blocking variant of {@link BookingService}.
+ *
+ * <p>Bookings are read through R2DBC. Writes are delegated to {@link BookingService} on the bounded elastic scheduler,
+ * so they keep the same rules, room/day locks, in-memory index and metrics as the blocking API without holding up
+ * the caller's thread.
+ */
+@Service
+@Conditional(ReactiveDatabaseCondition.class)
+@RequiredArgsConstructor
+public class ReactiveBookingService {
+
+    private final BookingService bookingService;
+    private final ReactiveBookingRepository reactiveBookingRepository;
+
+    /**
+     * Creates a booking and checks for overlap with other bookings.
+     *
+     * @param booking the booking to create
+     * @return list of bookings for the same room and date, or an error with {@link BookingOverlapException}
+     * or {@link PastBookingException} if the booking is rejected
+     */
+    public Mono<List<BookingView>> createBooking(Booking booking) {
+        return Mono.fromCallable(() -> bookingService.createBooking(booking))
+                .subscribeOn(Schedulers.boundedElastic());
+    }
+
+    /**
+     * Retrieves bookings for a specific meeting room on a given date.
+     *
+     * @param meetingRoomId the meeting room ID
+     * @param date          the date of bookings
+     * @return the bookings, sorted by start time
+     */
+    public Flux<BookingView> getBookings(UUID meetingRoomId, LocalDate date) {
+        return reactiveBookingRepository.findViewsByMeetingRoomIdAndDate(meetingRoomId, date);
+    }
+
+    /**
+     * Deletes a booking by ID, ensuring it isn't in the past.
+     *
+     * @param bookingId the booking ID
+     * @return completes once the booking is deleted, or an error with {@link ResourceNotFoundException} or
+     * {@link PastBookingException} if it cannot be
+     */
+    public Mono<Void> deleteBooking(UUID bookingId) {
+        return Mono.fromRunnable(() -> bookingService.deleteBooking(bookingId))
+                .subscribeOn(Schedulers.boundedElastic())
+                .then();
+    }
+}
@@ -0,0 +1,169 @@
+package com.acme.booking.domain.service;
+
+import com.acme.booking.domain.model.RoomDay;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Striped locks keyed by meeting room and date.
+ *
+ * <p>Writes that check for overlaps and then save must not interleave for the same room/day, while writes for
+ * unrelated rooms or days should proceed in parallel. Each room/day is hashed to one of a fixed number of stripes,
+ * so the memory used is bounded and only room/days sharing a stripe wait for each other.
+ *
+ * <p>Every stripe keeps track of how many acquisitions it served and how many of them had to wait for another
+ * holder, which shows whether the number of stripes is too low for the load. The totals over all stripes are published
+ * as the {@code booking.locks.acquisitions} and {@code booking.locks.contended} metrics. The counts of the busiest stripe
+ * are published as the {@code booking.locks.stripe.acquisitions.max} and {@code booking.locks.stripe.contended.max}
+ * gauges rather than tagging the counters by stripe, which would publish two series per stripe: a busiest stripe far
+ * above the average shows hot room/days, or room/days colliding on a stripe.
+ */
+@Component
+@Slf4j
+public class RoomDayLocks implements MeterBinder {
+
+    private final ReentrantLock[] stripes;
+    private final AtomicLongArray acquisitions;
+    private final AtomicLongArray contendedAcquisitions;
+
+    public RoomDayLocks(@Value("${booking.locking.stripes:64}") int stripeCount) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException("The number of lock stripes must be positive");
+        }
+        this.stripes = new ReentrantLock[stripeCount];
+        for (int i = 0; i < stripeCount; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        this.acquisitions = new AtomicLongArray(stripeCount);
+        this.contendedAcquisitions = new AtomicLongArray(stripeCount);
+    }
+
+    /**
+     * Runs an action while holding the lock of a meeting room and date.
+     *
+     * @param meetingRoomId the meeting room ID
+     * @param date          the date
+     * @param action        the action to run
+     * @return the result of the action
+     */
+    public <T> T withLock(UUID meetingRoomId, LocalDate date, Supplier<T> action) {
+        int stripe = stripeOf(meetingRoomId, date);
+        lock(stripe);
+        try {
+            return action.get();
+        } finally {
+            stripes[stripe].unlock();
+        }
+    }
+
+    /**
+     * Runs an action while holding the locks of several meeting rooms and dates.
+     * The stripes are always acquired in ascending order, so concurrent callers cannot deadlock.
+     *
+     * @param roomDays the meeting rooms and dates to lock
+     * @param action   the action to run
+     * @return the result of the action
+     */
+    public <T> T withLocks(Collection<RoomDay> roomDays, Supplier<T> action) {
+        int[] lockedStripes = roomDays.stream()
+                .mapToInt(roomDay -> stripeOf(roomDay.meetingRoomId(), roomDay.date()))
+                .distinct()
+                .sorted()
+                .toArray();
+        int acquired = 0;
+        try {
+            for (int stripe : lockedStripes) {
+                lock(stripe);
+                acquired++;
+            }
+            return action.get();
+        } finally {
+            for (int i = acquired - 1; i >= 0; i--) {
+                stripes[lockedStripes[i]].unlock();
+            }
+        }
+    }
+
+    /**
+     * @return the number of stripes
+     */
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    /**
+     * @param stripe the stripe index
+     * @return the number of times the stripe was acquired
+     */
+    public long getAcquisitions(int stripe) {
+        return acquisitions.get(stripe);
+    }
+
+    /**
+     * @param stripe the stripe index
+     * @return the number of times the stripe was already held by another thread when it was requested
+     */
+    public long getContendedAcquisitions(int stripe) {
+        return contendedAcquisitions.get(stripe);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("booking.locks.acquisitions", acquisitions, RoomDayLocks::sum)
+                .description("Room/day lock acquisitions")
+                .register(registry);
+        FunctionCounter.builder("booking.locks.contended", contendedAcquisitions, RoomDayLocks::sum)
+                .description("Room/day lock acquisitions that had to wait for another holder")
+                .register(registry);
+        Gauge.builder("booking.locks.stripe.acquisitions.max", acquisitions, RoomDayLocks::max)
+                .description("Room/day lock acquisitions of the busiest stripe")
+                .register(registry);
+        Gauge.builder("booking.locks.stripe.contended.max", contendedAcquisitions, RoomDayLocks::max)
+                .description("Room/day lock acquisitions that had to wait for another holder, on the most contended stripe")
+                .register(registry);
+    }
+
+    private static double sum(AtomicLongArray counters) {
+        long sum = 0;
+        for (int i = 0; i < counters.length(); i++) {
+            sum += counters.get(i);
+        }
+        return sum;
+    }
+
+    private static double max(AtomicLongArray counters) {
+        long max = 0;
+        for (int i = 0; i < counters.length(); i++) {
+            max = Math.max(max, counters.get(i));
+        }
+        return max;
+    }
+
+    private void lock(int stripe) {
+        ReentrantLock lock = stripes[stripe];
+        acquisitions.incrementAndGet(stripe);
+        if (!lock.tryLock()) {
+            contendedAcquisitions.incrementAndGet(stripe);
+            log.debug("Waiting for lock stripe {}", stripe);
+            lock.lock();
+        }
+    }
+
+    int stripeOf(UUID meetingRoomId, LocalDate date) {
+        int hash = Objects.hash(meetingRoomId, date);
+        return Math.floorMod(hash ^ (hash >>> 16), stripes.length);
+    }
+}
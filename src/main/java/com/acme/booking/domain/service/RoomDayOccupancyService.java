@@ -0,0 +1,189 @@
+package com.acme.booking.domain.service;
+
+import com.acme.booking.domain.model.BookingView;
+import com.acme.booking.domain.model.RoomDay;
+import com.acme.booking.domain.model.RoomDayOccupancy;
+import com.acme.booking.exception.BookingOverlapException;
+import com.acme.booking.repository.BookingRepository;
+import com.acme.booking.repository.RoomDayOccupancyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps the {@link RoomDayOccupancy} of every room/day in step with its bookings.
+ *
+ * <p>Bookings are saved and deleted through this service, in the same transaction as the occupancy of their room/day.
+ * The occupancy is the database's own guarantee against double booking: a booking is only saved if its minutes are
+ * free in the mask, and the mask is written with a version check, so a concurrent writer that changed it first makes
+ * the transaction fail rather than both bookings being saved. The occupancy of a room/day is created from its bookings
+ * the first time one of them is written.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RoomDayOccupancyService {
+
+    private final RoomDayOccupancyRepository roomDayOccupancyRepository;
+    private final BookingRepository bookingRepository;
+
+    /**
+     * Marks the minutes of new bookings as booked and saves the bookings, in a single transaction.
+     *
+     * @param bookings the bookings to save, which must not overlap with each other
+     * @param save     saves the bookings
+     * @return the result of saving the bookings
+     * @throws BookingOverlapException     if a booking overlaps with a booking that is already saved
+     * @throws ConcurrencyFailureException if the occupancy of a room/day was changed concurrently
+     */
+    @Transactional
+    public <T> T occupy(Collection<BookingView> bookings, Supplier<T> save) {
+        if (bookings.isEmpty()) {
+            return save.get();
+        }
+        Map<RoomDay, RoomDayOccupancy> occupancies = occupancies(roomDays(bookings));
+        for (BookingView booking : bookings) {
+            RoomDayOccupancy occupancy = occupancies.get(booking.roomDay());
+            if (!occupancy.isFree(booking.timeFrom(), booking.timeTo())) {
+                log.error("Booking overlap detected by the room/day occupancy for booking: {}", booking);
+                throw new BookingOverlapException("Booking overlaps with an existing booking");
+            }
+            occupancy.occupy(booking.timeFrom(), booking.timeTo());
+        }
+        write(occupancies.values());
+        return save.get();
+    }
+
+    /**
+     * Marks the minutes of new bookings as booked and saves them, in a single transaction, skipping the bookings whose
+     * minutes are already booked instead of failing.
+     *
+     * @param bookings the bookings to save, which must not overlap with each other
+     * @param save     saves the bookings it is given
+     * @return the bookings that were saved, in the order they were given
+     * @throws ConcurrencyFailureException if the occupancy of a room/day was changed concurrently
+     */
+    @Transactional
+    public List<BookingView> occupyFree(Collection<BookingView> bookings, Consumer<List<BookingView>> save) {
+        if (bookings.isEmpty()) {
+            return List.of();
+        }
+        Map<RoomDay, RoomDayOccupancy> occupancies = occupancies(roomDays(bookings));
+        List<BookingView> free = new ArrayList<>();
+        for (BookingView booking : bookings) {
+            RoomDayOccupancy occupancy = occupancies.get(booking.roomDay());
+            if (occupancy.isFree(booking.timeFrom(), booking.timeTo())) {
+                occupancy.occupy(booking.timeFrom(), booking.timeTo());
+                free.add(booking);
+            }
+        }
+        write(occupancies.values());
+        save.accept(free);
+        return free;
+    }
+
+    /**
+     * Marks the minutes of a booking as free and deletes the booking, in a single transaction.
+     *
+     * @param booking the booking to delete
+     * @param delete  deletes the booking
+     * @throws ConcurrencyFailureException if the occupancy of the room/day was changed concurrently
+     */
+    @Transactional
+    public void vacate(BookingView booking, Runnable delete) {
+        // Without an occupancy there is nothing to clear; it will be created from the remaining bookings when needed
+        roomDayOccupancyRepository.findById(booking.roomDay()).ifPresent(occupancy -> {
+            occupancy.vacate(booking.timeFrom(), booking.timeTo());
+            write(List.of(occupancy));
+        });
+        delete.run();
+    }
+
+    /**
+     * Marks the minutes of several bookings as free and deletes the bookings, in a single transaction.
+     *
+     * @param bookings the bookings to delete
+     * @param delete   deletes the bookings
+     * @return the result of deleting the bookings
+     * @throws ConcurrencyFailureException if the occupancy of a room/day was changed concurrently
+     */
+    @Transactional
+    public <T> T vacateAll(Collection<BookingView> bookings, Supplier<T> delete) {
+        if (!bookings.isEmpty()) {
+            Set<RoomDay> roomDays = roomDays(bookings);
+            Map<RoomDay, RoomDayOccupancy> occupancies = existingOccupancies(roomDays);
+            bookings.stream()
+                    .filter(booking -> occupancies.containsKey(booking.roomDay()))
+                    .forEach(booking -> occupancies.get(booking.roomDay()).vacate(booking.timeFrom(), booking.timeTo()));
+            write(occupancies.values());
+        }
+        return delete.get();
+    }
+
+    private Map<RoomDay, RoomDayOccupancy> occupancies(Set<RoomDay> roomDays) {
+        Map<RoomDay, RoomDayOccupancy> occupancies = existingOccupancies(roomDays);
+        Set<RoomDay> missing = new HashSet<>(roomDays);
+        missing.removeAll(occupancies.keySet());
+        if (!missing.isEmpty()) {
+            missing.forEach(roomDay -> occupancies.put(roomDay, new RoomDayOccupancy(roomDay)));
+            bookingRepository.findViewsByMeetingRoomIdInAndDateBetween(meetingRoomIds(missing), firstDate(missing), lastDate(missing)).stream()
+                    .filter(existing -> missing.contains(existing.roomDay()))
+                    .forEach(existing -> occupancies.get(existing.roomDay()).occupy(existing.timeFrom(), existing.timeTo()));
+        }
+        return occupancies;
+    }
+
+    private Map<RoomDay, RoomDayOccupancy> existingOccupancies(Set<RoomDay> roomDays) {
+        Map<RoomDay, RoomDayOccupancy> occupancies = new HashMap<>();
+        roomDayOccupancyRepository.findByMeetingRoomIdInAndDateBetween(meetingRoomIds(roomDays), firstDate(roomDays), lastDate(roomDays)).stream()
+                .filter(occupancy -> roomDays.contains(new RoomDay(occupancy.getMeetingRoomId(), occupancy.getDate())))
+                .forEach(occupancy -> occupancies.put(new RoomDay(occupancy.getMeetingRoomId(), occupancy.getDate()), occupancy));
+        return occupancies;
+    }
+
+    /**
+     * Writes occupancies right away rather than at commit, so a concurrent change is detected before any booking is
+     * written.
+     */
+    private void write(Collection<RoomDayOccupancy> occupancies) {
+        try {
+            roomDayOccupancyRepository.saveAllAndFlush(occupancies);
+        } catch (DataIntegrityViolationException e) {
+            // Another writer created the occupancy of the same room/day first
+            throw new ConcurrencyFailureException("The bookings of the meeting room were changed concurrently", e);
+        }
+    }
+
+    private static Set<UUID> meetingRoomIds(Set<RoomDay> roomDays) {
+        return roomDays.stream().map(RoomDay::meetingRoomId).collect(Collectors.toSet());
+    }
+
+    private static LocalDate firstDate(Set<RoomDay> roomDays) {
+        return roomDays.stream().map(RoomDay::date).min(Comparator.naturalOrder()).orElseThrow();
+    }
+
+    private static LocalDate lastDate(Set<RoomDay> roomDays) {
+        return roomDays.stream().map(RoomDay::date).max(Comparator.naturalOrder()).orElseThrow();
+    }
+
+    private static Set<RoomDay> roomDays(Collection<BookingView> bookings) {
+        return bookings.stream().map(BookingView::roomDay).collect(Collectors.toSet());
+    }
+}
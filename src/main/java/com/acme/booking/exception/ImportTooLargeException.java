@@ -0,0 +1,7 @@
+package com.acme.booking.exception;
+
+public class ImportTooLargeException extends RuntimeException {
+    public ImportTooLargeException(String message) {
+        super(message);
+    }
+}
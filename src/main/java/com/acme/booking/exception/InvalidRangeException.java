@@ -0,0 +1,7 @@
+package com.acme.booking.exception;
+
+public class InvalidRangeException extends RuntimeException {
+    public InvalidRangeException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,59 @@
+package com.acme.booking.facade;
+
+import com.acme.booking.controller.dto.AvailabilityDto;
+import com.acme.booking.controller.dto.RoomOccupancyDto;
+import com.acme.booking.domain.model.RoomAvailability;
+import com.acme.booking.domain.service.AvailabilityService;
+import com.acme.booking.facade.mapper.MeetingRoomMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+@Component
+@RequiredArgsConstructor
+public class AvailabilityFacade {
+
+    private static final int HOURS_PER_DAY = 24;
+
+    private final AvailabilityService availabilityService;
+    private final MeetingRoomMapper meetingRoomMapper;
+
+    /**
+     * Retrieves the meeting rooms that are free in a time range, along with the hourly occupancy of every meeting room on that date.
+     *
+     * @param date     the date
+     * @param timeFrom the start of the time range
+     * @param timeTo   the end of the time range
+     * @return the availability of the meeting rooms
+     */
+    public AvailabilityDto getAvailability(LocalDate date, LocalTime timeFrom, LocalTime timeTo) {
+        List<RoomAvailability> roomAvailabilities = availabilityService.getAvailability(date, timeFrom, timeTo);
+
+        return AvailabilityDto.builder()
+                .date(date)
+                .timeFrom(timeFrom)
+                .timeTo(timeTo)
+                .freeMeetingRooms(roomAvailabilities.stream()
+                        .filter(RoomAvailability::free)
+                        .map(roomAvailability -> meetingRoomMapper.toDto(roomAvailability.meetingRoom()))
+                        .toList())
+                .occupancy(roomAvailabilities.stream()
+                        .map(this::toOccupancyDto)
+                        .toList())
+                .build();
+    }
+
+    private RoomOccupancyDto toOccupancyDto(RoomAvailability roomAvailability) {
+        return RoomOccupancyDto.builder()
+                .meetingRoomId(roomAvailability.meetingRoom().getId())
+                .name(roomAvailability.meetingRoom().getName())
+                .occupiedHours(IntStream.range(0, HOURS_PER_DAY)
+                        .mapToObj(roomAvailability::isOccupied)
+                        .toList())
+                .build();
+    }
+}
@@ -0,0 +1,62 @@
+package com.acme.booking.facade;
+
+import com.acme.booking.domain.model.BookingChange;
+import com.acme.booking.domain.service.BookingChangeFeed;
+import com.acme.booking.facade.mapper.BookingMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.UUID;
+
+@Component
+public class BookingChangeFacade {
+
+    private final BookingChangeFeed bookingChangeFeed;
+    private final BookingMapper bookingMapper;
+    private final Duration timeout;
+
+    public BookingChangeFacade(BookingChangeFeed bookingChangeFeed,
+                               BookingMapper bookingMapper,
+                               @Value("${booking.change-feed.timeout:30m}") Duration timeout) {
+        this.bookingChangeFeed = bookingChangeFeed;
+        this.bookingMapper = bookingMapper;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Streams the changes of the bookings of a meeting room, or of all meeting rooms, as server-sent events named
+     * {@code created}, {@code deleted} or {@code resync}. The stream ends after the configured timeout, and clients
+     * are expected to reconnect.
+     *
+     * @param meetingRoomId the meeting room ID, or null for the changes of all meeting rooms
+     * @return the emitter of the events
+     */
+    public SseEmitter subscribe(UUID meetingRoomId) {
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        BookingChangeFeed.Subscription subscription = bookingChangeFeed.subscribe(meetingRoomId, change -> send(emitter, change));
+        emitter.onCompletion(subscription::cancel);
+        emitter.onTimeout(subscription::cancel);
+        emitter.onError(error -> subscription.cancel());
+        return emitter;
+    }
+
+    private void send(SseEmitter emitter, BookingChange change) {
+        SseEmitter.SseEventBuilder event = SseEmitter.event().name(change.type().name().toLowerCase(Locale.ROOT));
+        if (change.booking() != null) {
+            event.id(change.booking().id().toString()).data(bookingMapper.toDto(change.booking()));
+        } else {
+            event.data("");
+        }
+        try {
+            emitter.send(event);
+        } catch (IOException e) {
+            // The client went away
+            throw new UncheckedIOException(e);
+        }
+    }
+}
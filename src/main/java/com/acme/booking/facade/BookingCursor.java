@@ -0,0 +1,44 @@
+package com.acme.booking.facade;
+
+import com.acme.booking.domain.model.BookingKey;
+import com.acme.booking.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Encodes the position of a booking as an opaque string, which clients send back to continue after that booking.
+ */
+final class BookingCursor {
+
+    private static final String SEPARATOR = "|";
+
+    private BookingCursor() {
+    }
+
+    static String encode(BookingKey key) {
+        String cursor = key.date() + SEPARATOR + key.timeFrom() + SEPARATOR + key.id();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(cursor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @param cursor a cursor created by {@link #encode(BookingKey)}
+     * @return the position of the booking the cursor points to
+     * @throws InvalidCursorException if the cursor wasn't created by {@link #encode(BookingKey)}
+     */
+    static BookingKey decode(String cursor) {
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split("\\|", -1);
+            if (parts.length != 3) {
+                throw new InvalidCursorException("The cursor is not valid");
+            }
+            return new BookingKey(LocalDate.parse(parts[0]), LocalTime.parse(parts[1]), UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidCursorException("The cursor is not valid");
+        }
+    }
+}
@@ -1,26 +1,72 @@
 package com.acme.booking.facade;
 
+import com.acme.booking.controller.dto.BatchBookingResultDto;
+import com.acme.booking.controller.dto.BookingCancellationResultDto;
 import com.acme.booking.controller.dto.BookingDto;
+import com.acme.booking.controller.dto.BookingPageDto;
+import com.acme.booking.controller.dto.BookingSeriesDto;
 import com.acme.booking.controller.dto.CreateBookingDto;
+import com.acme.booking.controller.dto.CreateBookingSeriesDto;
 import com.acme.booking.domain.model.Booking;
+import com.acme.booking.domain.model.BookingCancellationOutcome;
+import com.acme.booking.domain.model.BookingCreationOutcome;
+import com.acme.booking.domain.model.BookingKey;
+import com.acme.booking.domain.model.BookingPage;
+import com.acme.booking.domain.model.BookingSeries;
+import com.acme.booking.domain.model.BookingView;
 import com.acme.booking.domain.model.MeetingRoom;
 import com.acme.booking.domain.service.BookingService;
 import com.acme.booking.domain.service.MeetingRoomService;
+import com.acme.booking.facade.export.BookingExportFormat;
+import com.acme.booking.facade.export.BookingExportWriter;
 import com.acme.booking.facade.mapper.BookingMapper;
-import lombok.RequiredArgsConstructor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
+import org.springframework.util.function.ThrowingSupplier;
 
+import java.io.OutputStream;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Component
-@RequiredArgsConstructor
 public class BookingFacade {
 
     private final BookingService bookingService;
     private final MeetingRoomService meetingRoomService;
     private final BookingMapper bookingMapper;
+    private final Validator validator;
+    private final ObjectWriter bookingJsonWriter;
+    private final int defaultRangePageSize;
+    private final int maxRangePageSize;
+
+    public BookingFacade(BookingService bookingService,
+                         MeetingRoomService meetingRoomService,
+                         BookingMapper bookingMapper,
+                         Validator validator,
+                         ObjectMapper objectMapper,
+                         @Value("${booking.range.page-size:500}") int defaultRangePageSize,
+                         @Value("${booking.range.max-page-size:5000}") int maxRangePageSize) {
+        if (defaultRangePageSize < 1 || maxRangePageSize < defaultRangePageSize) {
+            throw new IllegalArgumentException("The page size must be positive and not exceed the maximum page size");
+        }
+        this.bookingService = bookingService;
+        this.meetingRoomService = meetingRoomService;
+        this.bookingMapper = bookingMapper;
+        this.validator = validator;
+        this.bookingJsonWriter = objectMapper.writerFor(BookingDto.class);
+        this.defaultRangePageSize = defaultRangePageSize;
+        this.maxRangePageSize = maxRangePageSize;
+    }
 
     /**
      * Creates a booking and returns the resulting DTOs.
@@ -31,7 +77,81 @@ public class BookingFacade {
     public List<BookingDto> createBooking(CreateBookingDto createBookingDto) {
         MeetingRoom meetingRoom = meetingRoomService.findById(createBookingDto.getMeetingRoomId());
         Booking booking = bookingMapper.toModel(createBookingDto, meetingRoom);
-        return bookingMapper.toDto(bookingService.createBooking(booking));
+        return bookingMapper.toViewDtos(bookingService.createBooking(booking));
+    }
+
+    /**
+     * Creates a booking and returns only the booking that was created.
+     *
+     * @param createBookingDto the booking to create
+     * @return the booking that was created
+     */
+    public BookingDto createAndGetBooking(CreateBookingDto createBookingDto) {
+        MeetingRoom meetingRoom = meetingRoomService.findById(createBookingDto.getMeetingRoomId());
+        Booking booking = bookingMapper.toModel(createBookingDto, meetingRoom);
+        bookingService.createBooking(booking);
+        return bookingMapper.toDto(booking);
+    }
+
+    /**
+     * Creates a batch of bookings. Each booking is validated on its own and the meeting rooms of the batch are loaded
+     * with a single query, so one invalid or overlapping booking doesn't prevent the rest of the batch from being created.
+     *
+     * @param createBookingDtos the bookings to create
+     * @return the result of each booking, in the order they were given
+     */
+    public List<BatchBookingResultDto> createBookings(List<CreateBookingDto> createBookingDtos) {
+        BatchBookingResultDto[] results = new BatchBookingResultDto[createBookingDtos.size()];
+        Map<UUID, MeetingRoom> meetingRooms = meetingRoomService.findAllById(createBookingDtos.stream()
+                .filter(Objects::nonNull)
+                .map(CreateBookingDto::getMeetingRoomId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet()));
+
+        List<Booking> bookings = new ArrayList<>();
+        List<Integer> bookingIndexes = new ArrayList<>();
+        for (int i = 0; i < createBookingDtos.size(); i++) {
+            CreateBookingDto createBookingDto = createBookingDtos.get(i);
+            String validationError = validate(createBookingDto);
+            if (validationError != null) {
+                results[i] = batchResult(i, BatchBookingResultDto.Status.INVALID, null, validationError);
+            } else if (!meetingRooms.containsKey(createBookingDto.getMeetingRoomId())) {
+                results[i] = batchResult(i, BatchBookingResultDto.Status.NOT_FOUND, null,
+                        String.format("The meeting room with ID '%s' was not found", createBookingDto.getMeetingRoomId()));
+            } else {
+                bookings.add(bookingMapper.toModel(createBookingDto, meetingRooms.get(createBookingDto.getMeetingRoomId())));
+                bookingIndexes.add(i);
+            }
+        }
+
+        List<BookingCreationOutcome> outcomes = bookingService.createBookings(bookings);
+        for (int i = 0; i < outcomes.size(); i++) {
+            BookingCreationOutcome outcome = outcomes.get(i);
+            int index = bookingIndexes.get(i);
+            results[index] = outcome.created()
+                    ? batchResult(index, BatchBookingResultDto.Status.CREATED, bookingMapper.toDto(outcome.booking()), null)
+                    : batchResult(index, BatchBookingResultDto.Status.CONFLICT, null, "Booking overlaps with an existing booking");
+        }
+        return List.of(results);
+    }
+
+    /**
+     * Creates the bookings of a recurring series. Occurrences that overlap with existing bookings are skipped.
+     *
+     * @param createBookingSeriesDto the series to create
+     * @return the bookings that were created and the dates of the occurrences that were skipped
+     */
+    public BookingSeriesDto createBookingSeries(CreateBookingSeriesDto createBookingSeriesDto) {
+        MeetingRoom meetingRoom = meetingRoomService.findById(createBookingSeriesDto.getMeetingRoomId());
+        BookingSeries bookingSeries = bookingMapper.toModel(createBookingSeriesDto, meetingRoom);
+        Map<Boolean, List<Booking>> bookingsByCreated = bookingService.createBookingSeries(bookingSeries).stream()
+                .collect(Collectors.partitioningBy(BookingCreationOutcome::created,
+                        Collectors.mapping(BookingCreationOutcome::booking, Collectors.toList())));
+
+        return BookingSeriesDto.builder()
+                .bookings(bookingMapper.toDto(bookingsByCreated.get(true)))
+                .conflictingDates(bookingsByCreated.get(false).stream().map(Booking::getDate).toList())
+                .build();
     }
 
     /**
@@ -42,9 +162,74 @@ public class BookingFacade {
      * @return list of booking DTOs
      */
     public List<BookingDto> getBookings(UUID meetingRoomId, LocalDate date) {
-        List<Booking> bookings = bookingService.getBookings(meetingRoomId, date);
+        List<BookingView> bookings = bookingService.getBookings(meetingRoomId, date);
+
+        return bookingMapper.toViewDtos(bookings);
+    }
+
+    /**
+     * Retrieves a page of the bookings within a date range, ordered by date, start time and ID.
+     *
+     * @param meetingRoomId the meeting room ID, or null for the bookings of all meeting rooms
+     * @param dateFrom      the first date of the range, inclusive
+     * @param dateTo        the last date of the range, inclusive
+     * @param cursor        the cursor returned with the previous page, or null for the first page
+     * @param size          the number of bookings per page, or null for the default page size.
+     *                      Sizes above the maximum page size are reduced to it
+     * @return the page of bookings, with the cursor of the next page if there is one
+     */
+    public BookingPageDto getBookingsInRange(UUID meetingRoomId, LocalDate dateFrom, LocalDate dateTo, String cursor, Integer size) {
+        int pageSize = size == null ? defaultRangePageSize : Math.min(size, maxRangePageSize);
+        BookingKey after = cursor == null ? null : BookingCursor.decode(cursor);
+        BookingPage page = bookingService.getBookingsInRange(meetingRoomId, dateFrom, dateTo, after, pageSize);
 
-        return bookingMapper.toDto(bookings);
+        List<BookingView> bookings = page.bookings();
+        return BookingPageDto.builder()
+                .bookings(bookingMapper.toViewDtos(bookings))
+                .nextCursor(page.hasNext() ? BookingCursor.encode(BookingKey.of(bookings.get(bookings.size() - 1))) : null)
+                .build();
+    }
+
+    /**
+     * Exports the bookings within a date range, ordered by date, start time and ID. Bookings are mapped and written
+     * one at a time as they are read from the database, so the export never holds more than one of them in memory.
+     * The output is only opened once the range has been accepted.
+     *
+     * @param meetingRoomId the meeting room ID, or null for the bookings of all meeting rooms
+     * @param dateFrom      the first date of the range, inclusive
+     * @param dateTo        the last date of the range, inclusive
+     * @param format        the format to export the bookings in
+     * @param output        opens the output stream to write the export to
+     * @return the number of bookings that were exported
+     */
+    public long exportBookings(UUID meetingRoomId, LocalDate dateFrom, LocalDate dateTo, BookingExportFormat format,
+                               ThrowingSupplier<OutputStream> output) {
+        BookingExportWriter writer = new BookingExportWriter(format, bookingJsonWriter, output);
+        long exported = bookingService.exportBookings(meetingRoomId, dateFrom, dateTo,
+                booking -> writer.write(bookingMapper.toDto(booking)));
+        writer.finish();
+        return exported;
+    }
+
+    /**
+     * Retrieves a booking by ID.
+     *
+     * @param bookingId the booking ID
+     * @return the booking
+     */
+    public BookingDto getBooking(UUID bookingId) {
+        return bookingMapper.toDto(bookingService.getBooking(bookingId));
+    }
+
+    /**
+     * Retrieves the version of the bookings for a specific meeting room on a given date.
+     *
+     * @param meetingRoomId the meeting room ID
+     * @param date          the date of bookings
+     * @return an opaque version string that changes whenever the bookings change
+     */
+    public String getBookingsVersion(UUID meetingRoomId, LocalDate date) {
+        return bookingService.getBookingsVersion(meetingRoomId, date);
     }
 
     /**
@@ -55,4 +240,62 @@ public class BookingFacade {
     public void deleteBooking(UUID bookingId) {
         bookingService.deleteBooking(bookingId);
     }
+
+    /**
+     * Cancels several bookings by ID.
+     *
+     * @param bookingIds the booking IDs
+     * @return the IDs of the bookings that were deleted, that don't exist and that have already ended
+     */
+    public BookingCancellationResultDto deleteBookings(List<UUID> bookingIds) {
+        return cancellationResult(bookingService.deleteBookings(bookingIds));
+    }
+
+    /**
+     * Cancels all bookings of an employee within a date range.
+     *
+     * @param employeeEmail the email of the employee
+     * @param dateFrom      the first date of the range, inclusive
+     * @param dateTo        the last date of the range, inclusive
+     * @return the IDs of the bookings that were deleted and that have already ended
+     */
+    public BookingCancellationResultDto deleteBookingsOfEmployee(String employeeEmail, LocalDate dateFrom, LocalDate dateTo) {
+        return cancellationResult(bookingService.deleteBookingsOfEmployee(employeeEmail, dateFrom, dateTo));
+    }
+
+    private String validate(CreateBookingDto createBookingDto) {
+        if (createBookingDto == null) {
+            return "The booking must not be null";
+        }
+        Set<ConstraintViolation<CreateBookingDto>> violations = validator.validate(createBookingDto);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(violation -> violation.getPropertyPath().toString().isEmpty()
+                        ? violation.getMessage()
+                        : violation.getPropertyPath() + ": " + violation.getMessage())
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    private BatchBookingResultDto batchResult(int index, BatchBookingResultDto.Status status, BookingDto booking, String message) {
+        return BatchBookingResultDto.builder()
+                .index(index)
+                .status(status)
+                .booking(booking)
+                .message(message)
+                .build();
+    }
+
+    private BookingCancellationResultDto cancellationResult(List<BookingCancellationOutcome> outcomes) {
+        Map<BookingCancellationOutcome.Status, List<UUID>> idsByStatus = outcomes.stream()
+                .collect(Collectors.groupingBy(BookingCancellationOutcome::status,
+                        Collectors.mapping(BookingCancellationOutcome::bookingId, Collectors.toList())));
+        return BookingCancellationResultDto.builder()
+                .deleted(idsByStatus.getOrDefault(BookingCancellationOutcome.Status.DELETED, List.of()))
+                .notFound(idsByStatus.getOrDefault(BookingCancellationOutcome.Status.NOT_FOUND, List.of()))
+                .past(idsByStatus.getOrDefault(BookingCancellationOutcome.Status.PAST, List.of()))
+                .build();
+    }
 }
@@ -0,0 +1,40 @@
+package com.acme.booking.facade;
+
+import com.acme.booking.controller.dto.BookingImportReportDto;
+import com.acme.booking.controller.dto.BookingImportReportDto.RejectedLineDto;
+import com.acme.booking.domain.model.BookingImportResult;
+import com.acme.booking.domain.service.BookingImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.Reader;
+
+@Component
+@RequiredArgsConstructor
+public class ImportFacade {
+
+    private final BookingImportService bookingImportService;
+
+    /**
+     * Imports bookings from CSV.
+     *
+     * @param csv    the CSV to read
+     * @param length the length of the CSV in bytes, or -1 if it is not known up front
+     * @return the report of the import
+     */
+    public BookingImportReportDto importBookings(Reader csv, long length) {
+        BookingImportResult result = bookingImportService.importBookings(csv, length);
+
+        return BookingImportReportDto.builder()
+                .rows(result.rows())
+                .imported(result.imported())
+                .rejected(result.rejected())
+                .meetingRoomsCreated(result.roomsCreated())
+                .elapsedMillis(result.elapsed().toMillis())
+                .rowsPerSecond(BookingImportService.rowsPerSecond(result))
+                .rejections(result.rejections().stream()
+                        .map(rejection -> new RejectedLineDto(rejection.lineNumber(), rejection.reason()))
+                        .toList())
+                .build();
+    }
+}
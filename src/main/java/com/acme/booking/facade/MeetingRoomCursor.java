@@ -0,0 +1,47 @@
+package com.acme.booking.facade;
+
+import com.acme.booking.domain.model.MeetingRoom;
+import com.acme.booking.exception.InvalidCursorException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in the list of meeting rooms, which is ordered by name and ID. Clients receive it as an opaque string
+ * and send it back to continue after the meeting room it points to.
+ *
+ * @param name the name of the last meeting room that was returned
+ * @param id   the ID of the last meeting room that was returned
+ */
+record MeetingRoomCursor(String name, UUID id) {
+
+    private static final char SEPARATOR = ':';
+    private static final int UUID_LENGTH = 36;
+
+    static MeetingRoomCursor after(MeetingRoom meetingRoom) {
+        return new MeetingRoomCursor(meetingRoom.getName(), meetingRoom.getId());
+    }
+
+    /**
+     * @param cursor a cursor created by {@link #encode()}
+     * @return the decoded cursor
+     * @throws InvalidCursorException if the cursor wasn't created by {@link #encode()}
+     */
+    static MeetingRoomCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            if (decoded.length() <= UUID_LENGTH || decoded.charAt(UUID_LENGTH) != SEPARATOR) {
+                throw new InvalidCursorException("The cursor is not valid");
+            }
+            return new MeetingRoomCursor(decoded.substring(UUID_LENGTH + 1), UUID.fromString(decoded.substring(0, UUID_LENGTH)));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidCursorException("The cursor is not valid");
+        }
+    }
+
+    String encode() {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString((id.toString() + SEPARATOR + name).getBytes(StandardCharsets.UTF_8));
+    }
+}
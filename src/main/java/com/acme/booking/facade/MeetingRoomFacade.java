@@ -1,20 +1,37 @@
 package com.acme.booking.facade;
 
 import com.acme.booking.controller.dto.MeetingRoomDto;
+import com.acme.booking.controller.dto.MeetingRoomPageDto;
 import com.acme.booking.domain.model.MeetingRoom;
+import com.acme.booking.domain.model.MeetingRoomPage;
 import com.acme.booking.domain.service.MeetingRoomService;
 import com.acme.booking.facade.mapper.MeetingRoomMapper;
-import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import java.util.List;
+import java.util.UUID;
 
 @Component
-@RequiredArgsConstructor
 public class MeetingRoomFacade {
 
     private final MeetingRoomService meetingRoomService;
     private final MeetingRoomMapper meetingRoomMapper;
+    private final int defaultPageSize;
+    private final int maxPageSize;
+
+    public MeetingRoomFacade(MeetingRoomService meetingRoomService,
+                             MeetingRoomMapper meetingRoomMapper,
+                             @Value("${booking.meeting-rooms.page-size:100}") int defaultPageSize,
+                             @Value("${booking.meeting-rooms.max-page-size:1000}") int maxPageSize) {
+        if (defaultPageSize < 1 || maxPageSize < defaultPageSize) {
+            throw new IllegalArgumentException("The page size must be positive and not exceed the maximum page size");
+        }
+        this.meetingRoomService = meetingRoomService;
+        this.meetingRoomMapper = meetingRoomMapper;
+        this.defaultPageSize = defaultPageSize;
+        this.maxPageSize = maxPageSize;
+    }
 
     /**
      * Creates a new meeting room with the given name and returns the updated list of meeting rooms.
@@ -23,8 +40,28 @@ public class MeetingRoomFacade {
      * @return a list of all meeting rooms
      */
     public List<MeetingRoomDto> createMeetingRoom(String name) {
-        List<MeetingRoom> meetingRooms = meetingRoomService.createMeetingRoom(name);
-        return meetingRoomMapper.toDto(meetingRooms);
+        return meetingRoomMapper.toDto(meetingRoomService.createMeetingRoomAndGetAll(name));
+    }
+
+    /**
+     * Creates a new meeting room with the given name and returns only that meeting room.
+     *
+     * @param name the name of the meeting room to create
+     * @return the meeting room that was created
+     */
+    public MeetingRoomDto createAndGetMeetingRoom(String name) {
+        MeetingRoom meetingRoom = meetingRoomService.createMeetingRoom(name);
+        return meetingRoomMapper.toDto(meetingRoom);
+    }
+
+    /**
+     * Retrieves a meeting room by ID.
+     *
+     * @param id the meeting room ID
+     * @return the meeting room
+     */
+    public MeetingRoomDto getMeetingRoom(UUID id) {
+        return meetingRoomMapper.toDto(meetingRoomService.findById(id));
     }
 
     /**
@@ -35,4 +72,26 @@ public class MeetingRoomFacade {
     public List<MeetingRoomDto> getAll() {
         return meetingRoomMapper.toDto(meetingRoomService.getAll());
     }
+
+    /**
+     * Retrieves a page of meeting rooms, ordered by name and ID.
+     *
+     * @param cursor the cursor returned with the previous page, or null for the first page
+     * @param size   the number of meeting rooms per page, or null for the default page size.
+     *               Sizes above the maximum page size are reduced to it
+     * @return the page of meeting rooms, with the cursor of the next page if there is one
+     */
+    public MeetingRoomPageDto getPage(String cursor, Integer size) {
+        int pageSize = size == null ? defaultPageSize : Math.min(size, maxPageSize);
+        MeetingRoomCursor after = cursor == null ? null : MeetingRoomCursor.decode(cursor);
+        MeetingRoomPage page = after == null
+                ? meetingRoomService.getPage(null, null, pageSize)
+                : meetingRoomService.getPage(after.name(), after.id(), pageSize);
+
+        List<MeetingRoom> meetingRooms = page.meetingRooms();
+        return MeetingRoomPageDto.builder()
+                .meetingRooms(meetingRoomMapper.toDto(meetingRooms))
+                .nextCursor(page.hasNext() ? MeetingRoomCursor.after(meetingRooms.get(meetingRooms.size() - 1)).encode() : null)
+                .build();
+    }
 }
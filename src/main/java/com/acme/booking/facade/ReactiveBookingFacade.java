@@ -0,0 +1,64 @@
+package com.acme.booking.facade;
+
+import com.acme.booking.configuration.ReactiveDatabaseCondition;
+import com.acme.booking.controller.dto.BookingDto;
+import com.acme.booking.controller.dto.CreateBookingDto;
+import com.acme.booking.domain.service.MeetingRoomService;
+import com.acme.booking.domain.service.ReactiveBookingService;
+import com.acme.booking.facade.mapper.BookingMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+@Component
+@Conditional(ReactiveDatabaseCondition.class)
+@RequiredArgsConstructor
+public class ReactiveBookingFacade {
+
+    private final ReactiveBookingService reactiveBookingService;
+    private final MeetingRoomService meetingRoomService;
+    private final BookingMapper bookingMapper;
+
+    /**
+     * Creates a booking and returns the resulting DTOs.
+     *
+     * @param createBookingDto the booking to create
+     * @return list of bookings with the same date and meeting room as the one that was created
+     */
+    public Mono<List<BookingDto>> createBooking(CreateBookingDto createBookingDto) {
+        return Mono.fromCallable(() -> meetingRoomService.findById(createBookingDto.getMeetingRoomId()))
+                .subscribeOn(Schedulers.boundedElastic())
+                .map(meetingRoom -> bookingMapper.toModel(createBookingDto, meetingRoom))
+                .flatMap(reactiveBookingService::createBooking)
+                .map(bookingMapper::toViewDtos);
+    }
+
+    /**
+     * Retrieves bookings for a specific meeting room on a given date.
+     *
+     * @param meetingRoomId the meeting room ID
+     * @param date          the date of bookings
+     * @return the booking DTOs
+     */
+    public Flux<BookingDto> getBookings(UUID meetingRoomId, LocalDate date) {
+        return reactiveBookingService.getBookings(meetingRoomId, date)
+                .map(bookingMapper::toDto);
+    }
+
+    /**
+     * Deletes a booking by ID.
+     *
+     * @param bookingId the booking ID
+     * @return completes once the booking is deleted
+     */
+    public Mono<Void> deleteBooking(UUID bookingId) {
+        return reactiveBookingService.deleteBooking(bookingId);
+    }
+}
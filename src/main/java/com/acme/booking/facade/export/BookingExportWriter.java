@@ -0,0 +1,99 @@
+package com.acme.booking.facade.export;
+
+import com.acme.booking.controller.dto.BookingDto;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.util.function.ThrowingSupplier;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Writes exported bookings to an output stream one at a time, in one of the {@link BookingExportFormat}s.
+ *
+ * <p>The output stream is only opened when the first booking is written or the export is finished, so callers can
+ * still report an error instead of a partial export if the export is rejected before it starts.
+ */
+public class BookingExportWriter {
+
+    private static final List<String> CSV_COLUMNS = List.of("id", "meetingRoomId", "employeeEmail", "date", "timeFrom", "timeTo");
+
+    private final BookingExportFormat format;
+    private final ObjectWriter jsonWriter;
+    private final ThrowingSupplier<OutputStream> output;
+    private Writer writer;
+
+    /**
+     * @param format     the format to write
+     * @param jsonWriter writes a {@link BookingDto} as JSON
+     * @param output     opens the output stream to write to
+     */
+    public BookingExportWriter(BookingExportFormat format, ObjectWriter jsonWriter, ThrowingSupplier<OutputStream> output) {
+        this.format = format;
+        this.jsonWriter = jsonWriter;
+        this.output = output;
+    }
+
+    /**
+     * Writes a booking.
+     *
+     * @param booking the booking to write
+     * @throws UncheckedIOException if the booking cannot be written
+     */
+    public void write(BookingDto booking) {
+        try {
+            Writer out = open();
+            switch (format) {
+                case NDJSON -> out.write(jsonWriter.writeValueAsString(booking));
+                case CSV -> out.write(csvRow(booking));
+            }
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Writes whatever is still buffered. The output stream itself is left open.
+     *
+     * @throws UncheckedIOException if the buffered bookings cannot be written
+     */
+    public void finish() {
+        try {
+            open().flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Writer open() throws IOException {
+        if (writer == null) {
+            writer = new BufferedWriter(new OutputStreamWriter(output.get(), StandardCharsets.UTF_8));
+            if (format == BookingExportFormat.CSV) {
+                writer.write(String.join(",", CSV_COLUMNS));
+                writer.write('\n');
+            }
+        }
+        return writer;
+    }
+
+    private static String csvRow(BookingDto booking) {
+        return List.of(booking.getId(), booking.getMeetingRoomId(), booking.getEmployeeEmail(), booking.getDate(),
+                        booking.getTimeFrom(), booking.getTimeTo()).stream()
+                .map(value -> csvField(String.valueOf(value)))
+                .collect(Collectors.joining(","));
+    }
+
+    private static String csvField(String value) {
+        if (value.contains(",") || value.contains("\"") || value.contains("\n") || value.contains("\r")) {
+            return "\"" + value.replace("\"", "\"\"") + "\"";
+        }
+        return value;
+    }
+}
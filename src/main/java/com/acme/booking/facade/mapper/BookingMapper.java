@@ -2,7 +2,10 @@ package com.acme.booking.facade.mapper;
 
 import com.acme.booking.controller.dto.BookingDto;
 import com.acme.booking.controller.dto.CreateBookingDto;
+import com.acme.booking.controller.dto.CreateBookingSeriesDto;
 import com.acme.booking.domain.model.Booking;
+import com.acme.booking.domain.model.BookingSeries;
+import com.acme.booking.domain.model.BookingView;
 import com.acme.booking.domain.model.MeetingRoom;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
@@ -18,7 +21,14 @@ public interface BookingMapper {
     @Mapping(target = "id", ignore = true)
     Booking toModel(CreateBookingDto bookingDto, MeetingRoom meetingRoom);
 
+    @Mapping(target = "meetingRoom", source = "meetingRoom")
+    @Mapping(target = "startDate", source = "bookingSeriesDto.date")
+    BookingSeries toModel(CreateBookingSeriesDto bookingSeriesDto, MeetingRoom meetingRoom);
+
     @Mapping(target = "meetingRoomId", source = "meetingRoom.id")
     BookingDto toDto(Booking booking);
     List<BookingDto> toDto(List<Booking> bookings);
+
+    BookingDto toDto(BookingView bookingView);
+    List<BookingDto> toViewDtos(List<BookingView> bookingViews);
 }
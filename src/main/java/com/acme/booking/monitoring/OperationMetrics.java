@@ -0,0 +1,139 @@
+package com.acme.booking.monitoring;
+
+import com.acme.booking.exception.BookingOverlapException;
+import com.acme.booking.exception.PastBookingException;
+import com.acme.booking.exception.ResourceAlreadyExistsException;
+import com.acme.booking.exception.ResourceNotFoundException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * Metrics of the booking and meeting room operations.
+ *
+ * <ul>
+ *     <li>{@value #BOOKING_OPERATIONS} and {@value #MEETING_ROOM_OPERATIONS}: timers tagged with the {@code operation}
+ *     and its {@code outcome}, which is {@code success} or the reason the operation failed</li>
+ *     <li>{@value #BOOKINGS_CREATED}: the number of bookings created, whether one at a time, in batch or as a series</li>
+ *     <li>{@value #BOOKING_REJECTIONS}: the number of bookings rejected, tagged with the {@code reason}, which is
+ *     {@code overlap} or {@code past_cancel}</li>
+ * </ul>
+ *
+ * <p>Tags never contain meeting room or booking IDs, so the number of time series stays bounded.
+ */
+@Component
+public class OperationMetrics {
+
+    public static final String BOOKING_OPERATIONS = "booking.operations";
+    public static final String MEETING_ROOM_OPERATIONS = "meeting.room.operations";
+    public static final String BOOKINGS_CREATED = "booking.creations";
+    public static final String BOOKING_REJECTIONS = "booking.rejections";
+
+    public static final String SUCCESS = "success";
+    public static final String OVERLAP = "overlap";
+    public static final String PAST_CANCEL = "past_cancel";
+
+    private final MeterRegistry meterRegistry;
+    private final Counter bookingsCreated;
+    private final Counter overlapRejections;
+    private final Counter pastCancelRejections;
+
+    public OperationMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        this.bookingsCreated = Counter.builder(BOOKINGS_CREATED)
+                .description("Bookings created")
+                .register(meterRegistry);
+        this.overlapRejections = rejections(OVERLAP);
+        this.pastCancelRejections = rejections(PAST_CANCEL);
+    }
+
+    /**
+     * Runs an operation and records how long it took and whether it succeeded.
+     *
+     * @param metric    the name of the timer
+     * @param operation the operation tag
+     * @param action    the operation to run
+     * @return the result of the operation
+     */
+    public <T> T time(String metric, String operation, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = SUCCESS;
+        try {
+            return action.get();
+        } catch (RuntimeException e) {
+            outcome = outcomeOf(e);
+            throw e;
+        } finally {
+            sample.stop(Timer.builder(metric)
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    /**
+     * Runs an operation that has no result and records how long it took and whether it succeeded.
+     *
+     * @param metric    the name of the timer
+     * @param operation the operation tag
+     * @param action    the operation to run
+     */
+    public void time(String metric, String operation, Runnable action) {
+        time(metric, operation, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Registers a gauge that reports the size of an object, for as long as the object is reachable.
+     *
+     * @param name         the name of the gauge
+     * @param object       the object to report on
+     * @param sizeFunction the function that computes the size
+     */
+    public <T> void registerSize(String name, T object, ToDoubleFunction<T> sizeFunction) {
+        Gauge.builder(name, object, sizeFunction).register(meterRegistry);
+    }
+
+    public void bookingsCreated(long count) {
+        bookingsCreated.increment(count);
+    }
+
+    public void overlapRejections(long count) {
+        overlapRejections.increment(count);
+    }
+
+    public void pastCancelRejections(long count) {
+        pastCancelRejections.increment(count);
+    }
+
+    private Counter rejections(String reason) {
+        return Counter.builder(BOOKING_REJECTIONS)
+                .description("Bookings rejected")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+
+    private static String outcomeOf(RuntimeException e) {
+        if (e instanceof BookingOverlapException) {
+            return OVERLAP;
+        }
+        if (e instanceof PastBookingException) {
+            return PAST_CANCEL;
+        }
+        if (e instanceof ResourceNotFoundException) {
+            return "not_found";
+        }
+        if (e instanceof ResourceAlreadyExistsException) {
+            return "already_exists";
+        }
+        return "error";
+    }
+}
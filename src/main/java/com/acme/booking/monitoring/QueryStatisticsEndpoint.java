@@ -0,0 +1,84 @@
+package com.acme.booking.monitoring;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.QueryStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Actuator endpoint, exposed at {@code /actuator/queries}, that reports the Hibernate statistics of the application:
+ * the number of statements, entity loads and collection fetches, the execution count and timings of every query,
+ * and the queries that took longer than {@code hibernate.log_slow_query} milliseconds.
+ *
+ * <p>The statistics are only collected when {@code hibernate.generate_statistics} is enabled.
+ */
+@Component
+@Endpoint(id = "queries")
+@RequiredArgsConstructor
+public class QueryStatisticsEndpoint {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    @ReadOperation
+    public QueryStatisticsReport queries() {
+        Statistics statistics = statistics();
+        List<QueryReport> queries = Arrays.stream(statistics.getQueries())
+                .map(query -> QueryReport.of(query, statistics.getQueryStatistics(query)))
+                .sorted(Comparator.comparingLong(QueryReport::executionCount).reversed())
+                .toList();
+        return new QueryStatisticsReport(
+                statistics.isStatisticsEnabled(),
+                statistics.getPrepareStatementCount(),
+                statistics.getEntityLoadCount(),
+                statistics.getCollectionFetchCount(),
+                statistics.getQueryExecutionCount(),
+                statistics.getQueryExecutionMaxTimeQueryString(),
+                statistics.getQueryExecutionMaxTime(),
+                queries,
+                statistics.getSlowQueries());
+    }
+
+    /**
+     * Clears the statistics collected so far.
+     */
+    @DeleteOperation
+    public void clear() {
+        statistics().clear();
+    }
+
+    private Statistics statistics() {
+        return entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    public record QueryStatisticsReport(boolean enabled,
+                                        long statementCount,
+                                        long entityLoadCount,
+                                        long collectionFetchCount,
+                                        long queryExecutionCount,
+                                        String slowestQuery,
+                                        long slowestQueryTimeMs,
+                                        List<QueryReport> queries,
+                                        Map<String, Long> slowQueries) {
+    }
+
+    public record QueryReport(String query, long executionCount, long executionRowCount, long averageTimeMs, long maxTimeMs) {
+
+        static QueryReport of(String query, QueryStatistics queryStatistics) {
+            return new QueryReport(query,
+                    queryStatistics.getExecutionCount(),
+                    queryStatistics.getExecutionRowCount(),
+                    queryStatistics.getExecutionAvgTime(),
+                    queryStatistics.getExecutionMaxTime());
+        }
+    }
+}
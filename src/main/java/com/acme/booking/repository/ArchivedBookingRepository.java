@@ -0,0 +1,203 @@
+package com.acme.booking.repository;
+
+import com.acme.booking.domain.model.ArchivedBooking;
+import com.acme.booking.domain.model.BookingView;
+import com.acme.booking.repository.projection.BookedTimeRange;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static com.acme.booking.repository.BookingRepository.STREAM_FETCH_SIZE;
+
+/**
+ * Reads the archived bookings with the same views and orderings as {@link BookingRepository}, so they can be merged
+ * with the bookings that have not been archived.
+ */
+@Repository
+public interface ArchivedBookingRepository extends JpaRepository<ArchivedBooking, UUID> {
+
+    /**
+     * Copies bookings into the archive with a single statement, without loading them.
+     *
+     * @param ids the IDs of the bookings to copy
+     * @return the number of bookings copied
+     */
+    @Modifying
+    @Query(value = "INSERT INTO booking_archive (id, meeting_room_id, employee_email, date, time_from, time_to) " +
+            "SELECT id, meeting_room_id, employee_email, date, time_from, time_to " +
+            "FROM booking " +
+            "WHERE id IN :ids", nativeQuery = true)
+    int copyFromBookings(Collection<UUID> ids);
+
+    /**
+     * Retrieves an archived booking as a view.
+     *
+     * @param id the booking ID
+     * @return the booking view, if the booking is archived
+     */
+    @Query("SELECT new com.acme.booking.domain.model.BookingView(b.id, b.meetingRoomId, b.employeeEmail, b.date, b.timeFrom, b.timeTo) " +
+            "FROM ArchivedBooking b " +
+            "WHERE b.id = :id")
+    Optional<BookingView> findViewById(UUID id);
+
+    /**
+     * Retrieves several archived bookings as views with a single query.
+     *
+     * @param ids the booking IDs
+     * @return the views of the bookings that are archived
+     */
+    @Query("SELECT new com.acme.booking.domain.model.BookingView(b.id, b.meetingRoomId, b.employeeEmail, b.date, b.timeFrom, b.timeTo) " +
+            "FROM ArchivedBooking b " +
+            "WHERE b.id IN :ids")
+    List<BookingView> findViewsByIdIn(Collection<UUID> ids);
+
+    /**
+     * Retrieves the archived bookings of a meeting room on a given date as views.
+     *
+     * @param meetingRoomId the meeting room ID
+     * @param date          the date of bookings
+     * @return the booking views, sorted by start time
+     */
+    @Query("SELECT new com.acme.booking.domain.model.BookingView(b.id, b.meetingRoomId, b.employeeEmail, b.date, b.timeFrom, b.timeTo) " +
+            "FROM ArchivedBooking b " +
+            "WHERE b.meetingRoomId = :meetingRoomId AND b.date = :date " +
+            "ORDER BY b.timeFrom")
+    List<BookingView> findViewsByMeetingRoomIdAndDate(UUID meetingRoomId, LocalDate date);
+
+    /**
+     * Retrieves the archived bookings of several meeting rooms within a date range as views.
+     *
+     * @param meetingRoomIds the meeting room IDs
+     * @param dateFrom       the first date of the range, inclusive
+     * @param dateTo         the last date of the range, inclusive
+     * @return the booking views
+     */
+    @Query("SELECT new com.acme.booking.domain.model.BookingView(b.id, b.meetingRoomId, b.employeeEmail, b.date, b.timeFrom, b.timeTo) " +
+            "FROM ArchivedBooking b " +
+            "WHERE b.meetingRoomId IN :meetingRoomIds AND b.date BETWEEN :dateFrom AND :dateTo")
+    List<BookingView> findViewsByMeetingRoomIdInAndDateBetween(Collection<UUID> meetingRoomIds, LocalDate dateFrom, LocalDate dateTo);
+
+    /**
+     * Retrieves the first archived bookings of a meeting room within a date range as views, ordered by date, start time
+     * and ID.
+     *
+     * @param meetingRoomId the meeting room ID
+     * @param dateFrom      the first date of the range, inclusive
+     * @param dateTo        the last date of the range, inclusive
+     * @param limit         the maximum number of bookings to retrieve
+     * @return the booking views
+     */
+    @Query("SELECT new com.acme.booking.domain.model.BookingView(b.id, b.meetingRoomId, b.employeeEmail, b.date, b.timeFrom, b.timeTo) " +
+            "FROM ArchivedBooking b " +
+            "WHERE b.meetingRoomId = :meetingRoomId AND b.date BETWEEN :dateFrom AND :dateTo " +
+            "ORDER BY b.date, b.timeFrom, b.id")
+    List<BookingView> findRangeFirstPage(UUID meetingRoomId, LocalDate dateFrom, LocalDate dateTo, Limit limit);
+
+    /**
+     * Retrieves the archived bookings of a meeting room that follow a given booking within a date range as views,
+     * ordered by date, start time and ID.
+     *
+     * @param meetingRoomId the meeting room ID
+     * @param afterDate     the date of the booking to continue after
+     * @param afterTimeFrom the start time of the booking to continue after
+     * @param afterId       the ID of the booking to continue after
+     * @param dateTo        the last date of the range, inclusive
+     * @param limit         the maximum number of bookings to retrieve
+     * @return the booking views
+     */
+    @Query("SELECT new com.acme.booking.domain.model.BookingView(b.id, b.meetingRoomId, b.employeeEmail, b.date, b.timeFrom, b.timeTo) " +
+            "FROM ArchivedBooking b " +
+            "WHERE b.meetingRoomId = :meetingRoomId AND b.date BETWEEN :afterDate AND :dateTo " +
+            "AND (b.date > :afterDate OR b.timeFrom > :afterTimeFrom OR (b.timeFrom = :afterTimeFrom AND b.id > :afterId)) " +
+            "ORDER BY b.date, b.timeFrom, b.id")
+    List<BookingView> findRangePageAfter(UUID meetingRoomId, LocalDate afterDate, LocalTime afterTimeFrom, UUID afterId,
+                                         LocalDate dateTo, Limit limit);
+
+    /**
+     * Retrieves the first archived bookings of all meeting rooms within a date range as views, ordered by date, start
+     * time and ID.
+     *
+     * @param dateFrom the first date of the range, inclusive
+     * @param dateTo   the last date of the range, inclusive
+     * @param limit    the maximum number of bookings to retrieve
+     * @return the booking views
+     */
+    @Query("SELECT new com.acme.booking.domain.model.BookingView(b.id, b.meetingRoomId, b.employeeEmail, b.date, b.timeFrom, b.timeTo) " +
+            "FROM ArchivedBooking b " +
+            "WHERE b.date BETWEEN :dateFrom AND :dateTo " +
+            "ORDER BY b.date, b.timeFrom, b.id")
+    List<BookingView> findRangeFirstPage(LocalDate dateFrom, LocalDate dateTo, Limit limit);
+
+    /**
+     * Retrieves the archived bookings of all meeting rooms that follow a given booking within a date range as views,
+     * ordered by date, start time and ID.
+     *
+     * @param afterDate     the date of the booking to continue after
+     * @param afterTimeFrom the start time of the booking to continue after
+     * @param afterId       the ID of the booking to continue after
+     * @param dateTo        the last date of the range, inclusive
+     * @param limit         the maximum number of bookings to retrieve
+     * @return the booking views
+     */
+    @Query("SELECT new com.acme.booking.domain.model.BookingView(b.id, b.meetingRoomId, b.employeeEmail, b.date, b.timeFrom, b.timeTo) " +
+            "FROM ArchivedBooking b " +
+            "WHERE b.date BETWEEN :afterDate AND :dateTo " +
+            "AND (b.date > :afterDate OR b.timeFrom > :afterTimeFrom OR (b.timeFrom = :afterTimeFrom AND b.id > :afterId)) " +
+            "ORDER BY b.date, b.timeFrom, b.id")
+    List<BookingView> findRangePageAfter(LocalDate afterDate, LocalTime afterTimeFrom, UUID afterId, LocalDate dateTo, Limit limit);
+
+    /**
+     * Streams the archived bookings of a meeting room within a date range as views, ordered by date, start time and ID.
+     * The stream must be consumed within a transaction and closed afterwards.
+     *
+     * @param meetingRoomId the meeting room ID
+     * @param dateFrom      the first date of the range, inclusive
+     * @param dateTo        the last date of the range, inclusive
+     * @return the booking views
+     */
+    @Query("SELECT new com.acme.booking.domain.model.BookingView(b.id, b.meetingRoomId, b.employeeEmail, b.date, b.timeFrom, b.timeTo) " +
+            "FROM ArchivedBooking b " +
+            "WHERE b.meetingRoomId = :meetingRoomId AND b.date BETWEEN :dateFrom AND :dateTo " +
+            "ORDER BY b.date, b.timeFrom, b.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    Stream<BookingView> streamViewsByMeetingRoomIdAndDateBetween(UUID meetingRoomId, LocalDate dateFrom, LocalDate dateTo);
+
+    /**
+     * Streams the archived bookings of all meeting rooms within a date range as views, ordered by date, start time and
+     * ID. The stream must be consumed within a transaction and closed afterwards.
+     *
+     * @param dateFrom the first date of the range, inclusive
+     * @param dateTo   the last date of the range, inclusive
+     * @return the booking views
+     */
+    @Query("SELECT new com.acme.booking.domain.model.BookingView(b.id, b.meetingRoomId, b.employeeEmail, b.date, b.timeFrom, b.timeTo) " +
+            "FROM ArchivedBooking b " +
+            "WHERE b.date BETWEEN :dateFrom AND :dateTo " +
+            "ORDER BY b.date, b.timeFrom, b.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    Stream<BookingView> streamViewsByDateBetween(LocalDate dateFrom, LocalDate dateTo);
+
+    /**
+     * Retrieves the archived booked time ranges of all meeting rooms on a given date.
+     *
+     * @param date the date of bookings
+     * @return the booked time ranges
+     */
+    @Query("SELECT new com.acme.booking.repository.projection.BookedTimeRange(b.meetingRoomId, b.timeFrom, b.timeTo) " +
+            "FROM ArchivedBooking b " +
+            "WHERE b.date = :date")
+    List<BookedTimeRange> findBookedTimeRangesByDate(LocalDate date);
+}
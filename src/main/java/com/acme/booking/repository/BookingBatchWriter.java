@@ -0,0 +1,45 @@
+package com.acme.booking.repository;
+
+import com.acme.booking.domain.model.BookingView;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.Time;
+import java.util.Collection;
+
+/**
+ * Inserts bookings with JDBC batch statements, bypassing the persistence context.
+ *
+ * <p>Bookings are inserted with the IDs they already have, so callers can hand them out before the insert. Used where
+ * many bookings are written at once and no entity is needed afterwards.
+ */
+@Repository
+@RequiredArgsConstructor
+public class BookingBatchWriter {
+
+    private static final String INSERT_BOOKING = "INSERT INTO booking (id, meeting_room_id, employee_email, date, time_from, time_to) " +
+            "VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Inserts bookings in a single batch. Joins the current transaction, if there is one.
+     *
+     * @param bookings the bookings to insert, with their IDs
+     */
+    public void insert(Collection<BookingView> bookings) {
+        if (bookings.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(INSERT_BOOKING, bookings, bookings.size(), (statement, booking) -> {
+            statement.setObject(1, booking.id());
+            statement.setObject(2, booking.meetingRoomId());
+            statement.setString(3, booking.employeeEmail());
+            statement.setDate(4, Date.valueOf(booking.date()));
+            statement.setTime(5, Time.valueOf(booking.timeFrom()));
+            statement.setTime(6, Time.valueOf(booking.timeTo()));
+        });
+    }
+}
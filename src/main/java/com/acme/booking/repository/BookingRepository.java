@@ -1,18 +1,270 @@
 package com.acme.booking.repository;
 
 import com.acme.booking.domain.model.Booking;
+import com.acme.booking.domain.model.BookingView;
+import com.acme.booking.repository.projection.BookedTimeRange;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, UUID> {
 
-    List<Booking> findByMeetingRoomIdAndDate(UUID meetingRoomId, LocalDate date);
+    /**
+     * The number of rows fetched from the database at a time by the streaming queries.
+     */
+    String STREAM_FETCH_SIZE = "1000";
+
+    /**
+     * Retrieves a booking as a view, without loading the booking itself.
+     *
+     * @param id the booking ID
+     * @return the booking view, if the booking exists
+     */
+    @Query("SELECT new com.acme.booking.domain.model.BookingView(b.id, b.meetingRoom.id, b.employeeEmail, b.date, b.timeFrom, b.timeTo) " +
+            "FROM Booking b " +
+            "WHERE b.id = :id")
+    Optional<BookingView> findViewById(UUID id);
+
+    /**
+     * Retrieves several bookings as views with a single query, without loading the bookings themselves.
+     *
+     * @param ids the booking IDs
+     * @return the views of the bookings that exist
+     */
+    @Query("SELECT new com.acme.booking.domain.model.BookingView(b.id, b.meetingRoom.id, b.employeeEmail, b.date, b.timeFrom, b.timeTo) " +
+            "FROM Booking b " +
+            "WHERE b.id IN :ids")
+    List<BookingView> findViewsByIdIn(Collection<UUID> ids);
+
+    /**
+     * Retrieves the bookings of an employee within a date range as views, without loading the bookings themselves.
+     *
+     * @param employeeEmail the email of the employee
+     * @param dateFrom      the first date of the range, inclusive
+     * @param dateTo        the last date of the range, inclusive
+     * @return the booking views, sorted by date and start time
+     */
+    @Query("SELECT new com.acme.booking.domain.model.BookingView(b.id, b.meetingRoom.id, b.employeeEmail, b.date, b.timeFrom, b.timeTo) " +
+            "FROM Booking b " +
+            "WHERE b.employeeEmail = :employeeEmail AND b.date BETWEEN :dateFrom AND :dateTo " +
+            "ORDER BY b.date, b.timeFrom")
+    List<BookingView> findViewsByEmployeeEmailAndDateBetween(String employeeEmail, LocalDate dateFrom, LocalDate dateTo);
+
+    /**
+     * Deletes the bookings with the given IDs that have not ended yet, with a single statement. A booking has ended once
+     * its end time on its date is before the given date and time, the same rule the cancellation of a single booking
+     * follows.
+     *
+     * @param ids  the booking IDs
+     * @param date the current date
+     * @param time the current time
+     * @return the number of bookings deleted
+     */
+    @Modifying
+    @Query("DELETE FROM Booking b " +
+            "WHERE b.id IN :ids AND (b.date > :date OR (b.date = :date AND b.timeTo >= :time))")
+    int deleteNotEndedByIdIn(Collection<UUID> ids, LocalDate date, LocalTime time);
+
+    /**
+     * Retrieves the IDs of the bookings that ended before a given date and time, oldest first.
+     *
+     * @param date  the date of the instant
+     * @param time  the time of the instant
+     * @param limit the maximum number of IDs to retrieve
+     * @return the booking IDs
+     */
+    @Query("SELECT b.id " +
+            "FROM Booking b " +
+            "WHERE b.date <= :date AND (b.date < :date OR b.timeTo < :time) " +
+            "ORDER BY b.date, b.timeFrom, b.id")
+    List<UUID> findIdsEndedBefore(LocalDate date, LocalTime time, Limit limit);
+
+    /**
+     * Deletes bookings with a single statement, without loading them.
+     *
+     * @param ids the booking IDs
+     * @return the number of bookings deleted
+     */
+    @Modifying
+    @Query("DELETE FROM Booking b WHERE b.id IN :ids")
+    int deleteByIdIn(Collection<UUID> ids);
+
+    /**
+     * Retrieves the bookings of a meeting room on a given date as views, without loading the bookings themselves.
+     *
+     * @param meetingRoomId the meeting room ID
+     * @param date          the date of bookings
+     * @return the booking views, sorted by start time
+     */
+    @Query("SELECT new com.acme.booking.domain.model.BookingView(b.id, b.meetingRoom.id, b.employeeEmail, b.date, b.timeFrom, b.timeTo) " +
+            "FROM Booking b " +
+            "WHERE b.meetingRoom.id = :meetingRoomId AND b.date = :date " +
+            "ORDER BY b.timeFrom")
+    List<BookingView> findViewsByMeetingRoomIdAndDate(UUID meetingRoomId, LocalDate date);
+
+    /**
+     * Retrieves the bookings of all meeting rooms from a given date onwards as views.
+     *
+     * @param date the first date of bookings
+     * @return the booking views
+     */
+    @Query("SELECT new com.acme.booking.domain.model.BookingView(b.id, b.meetingRoom.id, b.employeeEmail, b.date, b.timeFrom, b.timeTo) " +
+            "FROM Booking b " +
+            "WHERE b.date >= :date")
+    List<BookingView> findViewsByDateGreaterThanEqual(LocalDate date);
+
+    /**
+     * Retrieves the bookings of a meeting room within a date range as views.
+     *
+     * @param meetingRoomId the meeting room ID
+     * @param dateFrom      the first date of the range, inclusive
+     * @param dateTo        the last date of the range, inclusive
+     * @return the booking views
+     */
+    @Query("SELECT new com.acme.booking.domain.model.BookingView(b.id, b.meetingRoom.id, b.employeeEmail, b.date, b.timeFrom, b.timeTo) " +
+            "FROM Booking b " +
+            "WHERE b.meetingRoom.id = :meetingRoomId AND b.date BETWEEN :dateFrom AND :dateTo")
+    List<BookingView> findViewsByMeetingRoomIdAndDateBetween(UUID meetingRoomId, LocalDate dateFrom, LocalDate dateTo);
+
+    /**
+     * Retrieves the bookings of several meeting rooms within a date range as views.
+     *
+     * @param meetingRoomIds the meeting room IDs
+     * @param dateFrom       the first date of the range, inclusive
+     * @param dateTo         the last date of the range, inclusive
+     * @return the booking views
+     */
+    @Query("SELECT new com.acme.booking.domain.model.BookingView(b.id, b.meetingRoom.id, b.employeeEmail, b.date, b.timeFrom, b.timeTo) " +
+            "FROM Booking b " +
+            "WHERE b.meetingRoom.id IN :meetingRoomIds AND b.date BETWEEN :dateFrom AND :dateTo")
+    List<BookingView> findViewsByMeetingRoomIdInAndDateBetween(Collection<UUID> meetingRoomIds, LocalDate dateFrom, LocalDate dateTo);
+
+    /**
+     * Retrieves the first bookings of a meeting room within a date range as views, ordered by date, start time and ID.
+     *
+     * @param meetingRoomId the meeting room ID
+     * @param dateFrom      the first date of the range, inclusive
+     * @param dateTo        the last date of the range, inclusive
+     * @param limit         the maximum number of bookings to retrieve
+     * @return the booking views
+     */
+    @Query("SELECT new com.acme.booking.domain.model.BookingView(b.id, b.meetingRoom.id, b.employeeEmail, b.date, b.timeFrom, b.timeTo) " +
+            "FROM Booking b " +
+            "WHERE b.meetingRoom.id = :meetingRoomId AND b.date BETWEEN :dateFrom AND :dateTo " +
+            "ORDER BY b.date, b.timeFrom, b.id")
+    List<BookingView> findRangeFirstPage(UUID meetingRoomId, LocalDate dateFrom, LocalDate dateTo, Limit limit);
+
+    /**
+     * Retrieves the bookings of a meeting room that follow a given booking within a date range as views, ordered by
+     * date, start time and ID. The range starts at the date of the given booking, so the index on the meeting room,
+     * date and start time seeks straight to the first booking of the page.
+     *
+     * @param meetingRoomId the meeting room ID
+     * @param afterDate     the date of the booking to continue after
+     * @param afterTimeFrom the start time of the booking to continue after
+     * @param afterId       the ID of the booking to continue after
+     * @param dateTo        the last date of the range, inclusive
+     * @param limit         the maximum number of bookings to retrieve
+     * @return the booking views
+     */
+    @Query("SELECT new com.acme.booking.domain.model.BookingView(b.id, b.meetingRoom.id, b.employeeEmail, b.date, b.timeFrom, b.timeTo) " +
+            "FROM Booking b " +
+            "WHERE b.meetingRoom.id = :meetingRoomId AND b.date BETWEEN :afterDate AND :dateTo " +
+            "AND (b.date > :afterDate OR b.timeFrom > :afterTimeFrom OR (b.timeFrom = :afterTimeFrom AND b.id > :afterId)) " +
+            "ORDER BY b.date, b.timeFrom, b.id")
+    List<BookingView> findRangePageAfter(UUID meetingRoomId, LocalDate afterDate, LocalTime afterTimeFrom, UUID afterId,
+                                         LocalDate dateTo, Limit limit);
+
+    /**
+     * Retrieves the first bookings of all meeting rooms within a date range as views, ordered by date, start time and ID.
+     *
+     * @param dateFrom the first date of the range, inclusive
+     * @param dateTo   the last date of the range, inclusive
+     * @param limit    the maximum number of bookings to retrieve
+     * @return the booking views
+     */
+    @Query("SELECT new com.acme.booking.domain.model.BookingView(b.id, b.meetingRoom.id, b.employeeEmail, b.date, b.timeFrom, b.timeTo) " +
+            "FROM Booking b " +
+            "WHERE b.date BETWEEN :dateFrom AND :dateTo " +
+            "ORDER BY b.date, b.timeFrom, b.id")
+    List<BookingView> findRangeFirstPage(LocalDate dateFrom, LocalDate dateTo, Limit limit);
+
+    /**
+     * Retrieves the bookings of all meeting rooms that follow a given booking within a date range as views, ordered by
+     * date, start time and ID. The range starts at the date of the given booking, so the index on the date and start
+     * time seeks straight to the first booking of the page.
+     *
+     * @param afterDate     the date of the booking to continue after
+     * @param afterTimeFrom the start time of the booking to continue after
+     * @param afterId       the ID of the booking to continue after
+     * @param dateTo        the last date of the range, inclusive
+     * @param limit         the maximum number of bookings to retrieve
+     * @return the booking views
+     */
+    @Query("SELECT new com.acme.booking.domain.model.BookingView(b.id, b.meetingRoom.id, b.employeeEmail, b.date, b.timeFrom, b.timeTo) " +
+            "FROM Booking b " +
+            "WHERE b.date BETWEEN :afterDate AND :dateTo " +
+            "AND (b.date > :afterDate OR b.timeFrom > :afterTimeFrom OR (b.timeFrom = :afterTimeFrom AND b.id > :afterId)) " +
+            "ORDER BY b.date, b.timeFrom, b.id")
+    List<BookingView> findRangePageAfter(LocalDate afterDate, LocalTime afterTimeFrom, UUID afterId, LocalDate dateTo, Limit limit);
+
+    /**
+     * Streams the bookings of a meeting room within a date range as views, ordered by date, start time and ID.
+     * Rows are fetched from the database in batches as the stream is consumed, so the whole range is never held in memory.
+     * The stream must be consumed within a transaction and closed afterwards.
+     *
+     * @param meetingRoomId the meeting room ID
+     * @param dateFrom      the first date of the range, inclusive
+     * @param dateTo        the last date of the range, inclusive
+     * @return the booking views
+     */
+    @Query("SELECT new com.acme.booking.domain.model.BookingView(b.id, b.meetingRoom.id, b.employeeEmail, b.date, b.timeFrom, b.timeTo) " +
+            "FROM Booking b " +
+            "WHERE b.meetingRoom.id = :meetingRoomId AND b.date BETWEEN :dateFrom AND :dateTo " +
+            "ORDER BY b.date, b.timeFrom, b.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    Stream<BookingView> streamViewsByMeetingRoomIdAndDateBetween(UUID meetingRoomId, LocalDate dateFrom, LocalDate dateTo);
+
+    /**
+     * Streams the bookings of all meeting rooms within a date range as views, ordered by date, start time and ID.
+     * Rows are fetched from the database in batches as the stream is consumed, so the whole range is never held in memory.
+     * The stream must be consumed within a transaction and closed afterwards.
+     *
+     * @param dateFrom the first date of the range, inclusive
+     * @param dateTo   the last date of the range, inclusive
+     * @return the booking views
+     */
+    @Query("SELECT new com.acme.booking.domain.model.BookingView(b.id, b.meetingRoom.id, b.employeeEmail, b.date, b.timeFrom, b.timeTo) " +
+            "FROM Booking b " +
+            "WHERE b.date BETWEEN :dateFrom AND :dateTo " +
+            "ORDER BY b.date, b.timeFrom, b.id")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    Stream<BookingView> streamViewsByDateBetween(LocalDate dateFrom, LocalDate dateTo);
+
+    /**
+     * Retrieves the booked time ranges of all meeting rooms on a given date, without loading the bookings themselves.
+     *
+     * @param date the date of bookings
+     * @return the booked time ranges
+     */
+    @Query("SELECT new com.acme.booking.repository.projection.BookedTimeRange(b.meetingRoom.id, b.timeFrom, b.timeTo) " +
+            "FROM Booking b " +
+            "WHERE b.date = :date")
+    List<BookedTimeRange> findBookedTimeRangesByDate(LocalDate date);
 
     /**
      * Checks if a booking exists for the specified meeting room, date, and time range that overlaps with another booking.
@@ -27,6 +279,9 @@ public interface BookingRepository extends JpaRepository<Booking, UUID> {
      *     </ul>
      * </ul>
      *
+     * <p>The application checks overlaps against the in-memory index instead. This query is only kept as the baseline
+     * of {@code BookingOverlapBenchmark}.
+     *
      * @param booking the booking object containing the meeting room, date, and time range to check for overlap
      * @return {@code true} if an overlapping booking exists, otherwise {@code false}
      */
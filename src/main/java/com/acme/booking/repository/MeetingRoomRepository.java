@@ -1,12 +1,53 @@
 package com.acme.booking.repository;
 
 import com.acme.booking.domain.model.MeetingRoom;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
 public interface MeetingRoomRepository extends JpaRepository<MeetingRoom, UUID> {
     boolean existsByNameIgnoreCase(String name);
+
+    Optional<MeetingRoom> findByNameIgnoreCase(String name);
+
+    /**
+     * Inserts a meeting room with an ID handed out beforehand, as part of the current transaction.
+     *
+     * @param id   the meeting room ID
+     * @param name the meeting room name
+     */
+    @Modifying
+    @Query(value = "INSERT INTO meeting_room (id, name) VALUES (:id, :name)", nativeQuery = true)
+    void insert(UUID id, String name);
+
+    /**
+     * Retrieves the first meeting rooms, ordered by name and ID.
+     *
+     * @param limit the maximum number of meeting rooms to retrieve
+     * @return the meeting rooms
+     */
+    @Query("SELECT m FROM MeetingRoom m ORDER BY m.name, m.id")
+    List<MeetingRoom> findFirstPage(Limit limit);
+
+    /**
+     * Retrieves the meeting rooms that follow a given meeting room, ordered by name and ID.
+     * The range condition on the name lets the name index seek straight to the first meeting room of the page,
+     * so every page costs the same no matter how far into the list it is.
+     *
+     * @param name  the name of the meeting room to continue after
+     * @param id    the ID of the meeting room to continue after
+     * @param limit the maximum number of meeting rooms to retrieve
+     * @return the meeting rooms
+     */
+    @Query("SELECT m FROM MeetingRoom m " +
+            "WHERE m.name >= :name AND (m.name > :name OR m.id > :id) " +
+            "ORDER BY m.name, m.id")
+    List<MeetingRoom> findPageAfter(String name, UUID id, Limit limit);
 }
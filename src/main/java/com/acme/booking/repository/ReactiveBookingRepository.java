@@ -0,0 +1,110 @@
+package com.acme.booking.repository;
+
+import com.acme.booking.configuration.ReactiveDatabaseCondition;
+import com.acme.booking.domain.model.BookingView;
+import io.r2dbc.h2.H2ConnectionConfiguration;
+import io.r2dbc.h2.H2ConnectionFactory;
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Conditional;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * Non-blocking access to the bookings through R2DBC.
+ *
+ * <p>It connects to {@code spring.r2dbc.url} when it is set, and otherwise to the same H2 database as the JDBC
+ * {@code DataSource}, so it sees everything JPA writes. If neither is available, the reactive booking API is switched
+ * off, see {@link ReactiveDatabaseCondition}. The connection pool is owned by this repository rather than exposed as a {@code ConnectionFactory} bean,
+ * because such a bean would make the JDBC {@code DataSource} back off.
+ */
+@Repository
+@Conditional(ReactiveDatabaseCondition.class)
+public class ReactiveBookingRepository implements DisposableBean {
+
+    private final ConnectionPool connectionPool;
+    private final DatabaseClient databaseClient;
+
+    public ReactiveBookingRepository(DataSourceProperties dataSourceProperties,
+                                     @Value("${spring.r2dbc.url:}") String r2dbcUrl,
+                                     @Value("${spring.r2dbc.username:}") String r2dbcUsername,
+                                     @Value("${spring.r2dbc.password:}") String r2dbcPassword,
+                                     @Value("${booking.reactive.pool.max-size:20}") int maxPoolSize) {
+        ConnectionFactory connectionFactory = StringUtils.hasText(r2dbcUrl)
+                ? connectionFactory(r2dbcUrl, r2dbcUsername, r2dbcPassword)
+                : h2ConnectionFactory(dataSourceProperties);
+        this.connectionPool = new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .maxSize(maxPoolSize)
+                .build());
+        this.databaseClient = DatabaseClient.create(connectionPool);
+    }
+
+    /**
+     * Retrieves the bookings of a meeting room on a given date as views, including the archived ones.
+     *
+     * @param meetingRoomId the meeting room ID
+     * @param date          the date of bookings
+     * @return the booking views, sorted by start time
+     */
+    public Flux<BookingView> findViewsByMeetingRoomIdAndDate(UUID meetingRoomId, LocalDate date) {
+        return databaseClient.sql("SELECT id, meeting_room_id, employee_email, date, time_from, time_to " +
+                        "FROM booking " +
+                        "WHERE meeting_room_id = :meetingRoomId AND date = :date " +
+                        "UNION " +
+                        "SELECT id, meeting_room_id, employee_email, date, time_from, time_to " +
+                        "FROM booking_archive " +
+                        "WHERE meeting_room_id = :meetingRoomId AND date = :date " +
+                        "ORDER BY time_from")
+                .bind("meetingRoomId", meetingRoomId)
+                .bind("date", date)
+                .map(ReactiveBookingRepository::toView)
+                .all();
+    }
+
+    @Override
+    public void destroy() {
+        connectionPool.dispose();
+    }
+
+    private static ConnectionFactory connectionFactory(String url, String username, String password) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (StringUtils.hasText(username)) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (StringUtils.hasText(password)) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        return ConnectionFactories.get(options.build());
+    }
+
+    private static ConnectionFactory h2ConnectionFactory(DataSourceProperties dataSourceProperties) {
+        return new H2ConnectionFactory(H2ConnectionConfiguration.builder()
+                .url(dataSourceProperties.determineUrl().substring(ReactiveDatabaseCondition.H2_JDBC_URL_PREFIX.length()))
+                .username(dataSourceProperties.determineUsername())
+                .password(dataSourceProperties.determinePassword())
+                .build());
+    }
+
+    private static BookingView toView(Readable row) {
+        return new BookingView(
+                row.get("id", UUID.class),
+                row.get("meeting_room_id", UUID.class),
+                row.get("employee_email", String.class),
+                row.get("date", LocalDate.class),
+                row.get("time_from", LocalTime.class),
+                row.get("time_to", LocalTime.class));
+    }
+}
@@ -0,0 +1,41 @@
+package com.acme.booking.repository;
+
+import com.acme.booking.domain.model.RoomDay;
+import com.acme.booking.domain.model.RoomDayOccupancy;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface RoomDayOccupancyRepository extends JpaRepository<RoomDayOccupancy, RoomDay> {
+
+    /**
+     * Retrieves the occupancy of several meeting rooms over a date range with a single query.
+     *
+     * @param meetingRoomIds the meeting room IDs
+     * @param dateFrom       the first date of the range, inclusive
+     * @param dateTo         the last date of the range, inclusive
+     * @return the occupancy of every room/day of the range that has one
+     */
+    List<RoomDayOccupancy> findByMeetingRoomIdInAndDateBetween(Collection<UUID> meetingRoomIds, LocalDate dateFrom, LocalDate dateTo);
+
+    /**
+     * Deletes the occupancy of the room/days before a date that hold any of the given archived bookings, with a single
+     * statement. Every booking of such a room/day has ended, so no booking is checked against its occupancy anymore.
+     *
+     * @param archivedBookingIds the IDs of the archived bookings
+     * @param date               the first date whose occupancy is kept
+     * @return the number of occupancies deleted
+     */
+    @Modifying
+    @Query("DELETE FROM RoomDayOccupancy o " +
+            "WHERE o.date < :date AND EXISTS (SELECT 1 FROM ArchivedBooking b " +
+            "WHERE b.id IN :archivedBookingIds AND b.meetingRoomId = o.meetingRoomId AND b.date = o.date)")
+    int deleteArchivedBefore(Collection<UUID> archivedBookingIds, LocalDate date);
+}
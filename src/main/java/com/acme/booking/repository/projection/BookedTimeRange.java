@@ -0,0 +1,14 @@
+package com.acme.booking.repository.projection;
+
+import java.time.LocalTime;
+import java.util.UUID;
+
+/**
+ * The time range a meeting room is booked for, without the rest of the booking.
+ *
+ * @param meetingRoomId the meeting room ID
+ * @param timeFrom      the start time of the booking
+ * @param timeTo        the end time of the booking
+ */
+public record BookedTimeRange(UUID meetingRoomId, LocalTime timeFrom, LocalTime timeTo) {
+}
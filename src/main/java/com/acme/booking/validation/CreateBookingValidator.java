@@ -1,6 +1,7 @@
 package com.acme.booking.validation;
 
 import com.acme.booking.controller.dto.CreateBookingDto;
+import com.acme.booking.domain.model.RoomDayOccupancy;
 import jakarta.validation.ConstraintValidator;
 import jakarta.validation.ConstraintValidatorContext;
 import lombok.extern.slf4j.Slf4j;
@@ -34,6 +35,13 @@ public class CreateBookingValidator implements ConstraintValidator<ValidBooking,
 
         context.disableDefaultConstraintViolation();
 
+        if (!RoomDayOccupancy.isWholeMinute(timeFrom) || !RoomDayOccupancy.isWholeMinute(timeTo)) {
+            log.error("Booking times {} - {} are not whole minutes. Validation failed.", timeFrom, timeTo);
+            context.buildConstraintViolationWithTemplate("The booking times must be whole minutes.")
+                    .addConstraintViolation();
+            return false;
+        }
+
         if (bookingEnd.isBefore(now)) {
             log.error("Booking end time for {} is in the past: {}. Validation failed.", createBookingDto, bookingEnd);
             context.buildConstraintViolationWithTemplate("Booking end datetime cannot be in the past.")
@@ -58,4 +66,4 @@ public class CreateBookingValidator implements ConstraintValidator<ValidBooking,
 
         return true;
     }
-}
\ No newline at end of file
+}
@@ -1,14 +1,29 @@
 package com.acme.booking;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.CacheManager;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.util.Objects;
+
 @SpringBootTest
 @AutoConfigureMockMvc
 public class BookingApplicationBaseIntegrationTest {
 
     @Autowired
     protected MockMvc mockMvc;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    /**
+     * Tests change the database directly through the repositories, so nothing cached by a previous test can be reused.
+     */
+    @BeforeEach
+    void clearCaches() {
+        cacheManager.getCacheNames().forEach(cacheName -> Objects.requireNonNull(cacheManager.getCache(cacheName)).clear());
+    }
 }
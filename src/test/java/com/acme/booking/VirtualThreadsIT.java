@@ -0,0 +1,72 @@
+package com.acme.booking;
+
+import com.acme.booking.domain.model.MeetingRoom;
+import com.acme.booking.repository.BookingRepository;
+import com.acme.booking.repository.MeetingRoomRepository;
+import org.apache.tomcat.util.threads.VirtualThreadExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+
+import static com.acme.booking.utils.BookingUtils.generateCreateBookingDto;
+import static com.acme.booking.utils.MeetingRoomUtils.DEFAULT_MEETING_ROOM_NAME;
+import static com.acme.booking.utils.MeetingRoomUtils.generateMeetingRoomWithoutId;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@ActiveProfiles({"test", "virtual-threads"})
+class VirtualThreadsIT {
+
+    @Autowired
+    private ServletWebServerApplicationContext applicationContext;
+
+    @Autowired
+    private TaskExecutor applicationTaskExecutor;
+
+    @Autowired
+    private TestRestTemplate restTemplate;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private MeetingRoomRepository meetingRoomRepository;
+
+    @BeforeEach
+    void init() {
+        bookingRepository.deleteAll();
+        meetingRoomRepository.deleteAll();
+    }
+
+    @Test
+    void given_virtualThreadsProfileIsActive_when_applicationStarts_then_requestsAndAsyncTasksRunOnVirtualThreads() {
+        // When
+        TomcatWebServer webServer = (TomcatWebServer) applicationContext.getWebServer();
+
+        // Then
+        assertThat(webServer.getTomcat().getConnector().getProtocolHandler().getExecutor()).isInstanceOf(VirtualThreadExecutor.class);
+        assertThat(applicationTaskExecutor).isInstanceOfSatisfying(SimpleAsyncTaskExecutor.class,
+                executor -> assertThat(executor.isActive()).isTrue());
+    }
+
+    @Test
+    void given_virtualThreadsProfileIsActive_when_creatingBooking_then_bookingIsCreated() {
+        // Given
+        MeetingRoom meetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
+
+        // When
+        ResponseEntity<String> response = restTemplate.postForEntity("/api/booking/create", generateCreateBookingDto(meetingRoom.getId()), String.class);
+
+        // Then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+    }
+}
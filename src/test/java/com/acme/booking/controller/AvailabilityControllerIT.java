@@ -0,0 +1,88 @@
+package com.acme.booking.controller;
+
+import com.acme.booking.BookingApplicationBaseIntegrationTest;
+import com.acme.booking.domain.model.Booking;
+import com.acme.booking.domain.model.MeetingRoom;
+import com.acme.booking.repository.BookingRepository;
+import com.acme.booking.repository.MeetingRoomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+import static com.acme.booking.utils.BookingUtils.generateBookingWithoutId;
+import static com.acme.booking.utils.MeetingRoomUtils.generateMeetingRoomWithoutId;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class AvailabilityControllerIT extends BookingApplicationBaseIntegrationTest {
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private MeetingRoomRepository meetingRoomRepository;
+
+    @BeforeEach
+    void init() {
+        bookingRepository.deleteAll();
+        meetingRoomRepository.deleteAll();
+    }
+
+    @Test
+    void given_oneMeetingRoomIsBooked_when_requestingAvailability_then_onlyTheOtherMeetingRoomIsFreeAndOccupancyIsReturned() throws Exception {
+        // Given
+        MeetingRoom bookedMeetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId("Booked Meeting Room"));
+        MeetingRoom freeMeetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId("Free Meeting Room"));
+
+        Booking booking = generateBookingWithoutId().toBuilder()
+                .meetingRoom(bookedMeetingRoom)
+                .timeFrom(LocalTime.of(12, 30))
+                .timeTo(LocalTime.of(13, 30))
+                .build();
+        bookingRepository.save(booking);
+
+        // When && Then
+        mockMvc.perform(get("/api/availability")
+                        .param("date", booking.getDate().toString())
+                        .param("timeFrom", "13:00")
+                        .param("timeTo", "14:00"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.freeMeetingRooms.size()").value(1))
+                .andExpect(jsonPath("$.freeMeetingRooms[0].id").value(freeMeetingRoom.getId().toString()))
+                .andExpect(jsonPath("$.occupancy.size()").value(2))
+                .andExpect(jsonPath("$.occupancy[?(@.name == 'Booked Meeting Room')].occupiedHours[11]").value(false))
+                .andExpect(jsonPath("$.occupancy[?(@.name == 'Booked Meeting Room')].occupiedHours[12]").value(true))
+                .andExpect(jsonPath("$.occupancy[?(@.name == 'Booked Meeting Room')].occupiedHours[13]").value(true))
+                .andExpect(jsonPath("$.occupancy[?(@.name == 'Booked Meeting Room')].occupiedHours[14]").value(false));
+    }
+
+    @Test
+    void given_bookingEndsWhenRequestedRangeStarts_when_requestingAvailability_then_meetingRoomIsFree() throws Exception {
+        // Given
+        MeetingRoom meetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId("Meeting Room"));
+        Booking booking = generateBookingWithoutId().toBuilder().meetingRoom(meetingRoom).build();
+        bookingRepository.save(booking);
+
+        // When && Then
+        mockMvc.perform(get("/api/availability")
+                        .param("date", booking.getDate().toString())
+                        .param("timeFrom", booking.getTimeTo().toString())
+                        .param("timeTo", booking.getTimeTo().plusHours(1).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.freeMeetingRooms.size()").value(1));
+    }
+
+    @Test
+    void given_timeToIsBeforeTimeFrom_when_requestingAvailability_then_badRequestIsReturned() throws Exception {
+        // When && Then
+        mockMvc.perform(get("/api/availability")
+                        .param("date", LocalDate.now().toString())
+                        .param("timeFrom", "14:00")
+                        .param("timeTo", "13:00"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("The end time must be after the start time."));
+    }
+}
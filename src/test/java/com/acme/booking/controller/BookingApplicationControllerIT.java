@@ -3,6 +3,7 @@ package com.acme.booking.controller;
 import com.acme.booking.BookingApplicationBaseIntegrationTest;
 import com.acme.booking.controller.dto.BookingDto;
 import com.acme.booking.controller.dto.CreateBookingDto;
+import com.acme.booking.controller.dto.CreateBookingSeriesDto;
 import com.acme.booking.domain.model.Booking;
 import com.acme.booking.domain.model.MeetingRoom;
 import com.acme.booking.facade.mapper.BookingMapper;
@@ -14,9 +15,12 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.web.servlet.MvcResult;
 
 import java.time.LocalDate;
 import java.time.LocalTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,7 +28,9 @@ import static com.acme.booking.utils.BookingUtils.generateBookingWithoutId;
 import static com.acme.booking.utils.BookingUtils.generateCreateBookingDto;
 import static com.acme.booking.utils.MeetingRoomUtils.DEFAULT_MEETING_ROOM_NAME;
 import static com.acme.booking.utils.MeetingRoomUtils.generateMeetingRoomWithoutId;
+import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -65,6 +71,41 @@ class BookingApplicationControllerIT extends BookingApplicationBaseIntegrationTe
                 .andExpect(jsonPath("$.size()").value(1));
     }
 
+    @Test
+    void given_minimalReturnIsPreferred_when_creatingBooking_then_onlyCreatedBookingAndItsLocationAreReturned() throws Exception {
+        // Given
+        MeetingRoom meetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
+
+        CreateBookingDto createBookingDto = generateCreateBookingDto(meetingRoom.getId());
+
+        bookingRepository.save(Booking.builder()
+                .meetingRoom(meetingRoom)
+                .employeeEmail(createBookingDto.getEmployeeEmail())
+                .date(createBookingDto.getDate())
+                .timeFrom(createBookingDto.getTimeFrom().plusHours(1))
+                .timeTo(createBookingDto.getTimeTo().plusHours(1))
+                .build());
+
+        // When
+        String location = mockMvc.perform(post("/api/booking/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Prefer", "return=minimal")
+                        .content(objectMapper.writeValueAsString(createBookingDto)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Preference-Applied", "return=minimal"))
+                .andExpect(jsonPath("$.id").exists())
+                .andExpect(jsonPath("$.timeFrom").value("10:00:00"))
+                .andReturn()
+                .getResponse()
+                .getHeader("Location");
+
+        // Then
+        mockMvc.perform(get(location))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.meetingRoomId").value(meetingRoom.getId().toString()))
+                .andExpect(jsonPath("$.timeFrom").value("10:00:00"));
+    }
+
     @Test
     void given_anotherBookingAlreadyExistsForTheSameRoomAndDate_when_creatingBooking_then_bothBookingsAreReturned() throws Exception {
         // Given
@@ -151,6 +192,25 @@ class BookingApplicationControllerIT extends BookingApplicationBaseIntegrationTe
                 .andExpect(jsonPath("$['Validation error']").value("The booking duration must be at least 1 hour and in 1-hour increments."));
     }
 
+    @Test
+    void given_bookingTimesHaveSeconds_when_creatingBooking_then_shouldReturnRelevantValidationError() throws Exception {
+        // Given
+        CreateBookingDto createBookingDto = CreateBookingDto.builder()
+                .meetingRoomId(UUID.randomUUID())
+                .employeeEmail("employee@example.com")
+                .date(LocalDate.now().plusDays(1))
+                .timeFrom(LocalTime.of(9, 0, 30))
+                .timeTo(LocalTime.of(10, 0, 30))
+                .build();
+
+        // When && Then
+        mockMvc.perform(post("/api/booking/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createBookingDto)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$['Validation error']").value("The booking times must be whole minutes."));
+    }
+
     @Test
     void given_bookingTimeToIsBeforeTimeFrom_when_creatingBooking_then_shouldReturnRelevantValidationError() throws Exception {
         // Given
@@ -261,6 +321,133 @@ class BookingApplicationControllerIT extends BookingApplicationBaseIntegrationTe
                 .andExpect(jsonPath("$['employeeEmail']").value("must not be null"));
     }
 
+    @Test
+    void given_batchWithValidOverlappingInvalidAndUnknownRoomBookings_when_creatingBookingsInBatch_then_resultIsReportedPerBooking() throws Exception {
+        // Given
+        MeetingRoom meetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
+
+        CreateBookingDto createBookingDto = generateCreateBookingDto(meetingRoom.getId());
+        CreateBookingDto nextHourBookingDto = generateCreateBookingDto(meetingRoom.getId());
+        nextHourBookingDto.setTimeFrom(createBookingDto.getTimeTo());
+        nextHourBookingDto.setTimeTo(createBookingDto.getTimeTo().plusHours(1));
+        CreateBookingDto overlappingBookingDto = generateCreateBookingDto(meetingRoom.getId());
+        CreateBookingDto invalidBookingDto = generateCreateBookingDto(meetingRoom.getId());
+        invalidBookingDto.setTimeTo(createBookingDto.getTimeFrom().plusMinutes(30));
+        CreateBookingDto unknownRoomBookingDto = generateCreateBookingDto(UUID.randomUUID());
+
+        List<CreateBookingDto> batch = List.of(createBookingDto, nextHourBookingDto, overlappingBookingDto, invalidBookingDto, unknownRoomBookingDto);
+
+        // When && Then
+        mockMvc.perform(post("/api/booking/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(batch)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(5))
+                .andExpect(jsonPath("$[0].status").value("CREATED"))
+                .andExpect(jsonPath("$[0].booking.id").isNotEmpty())
+                .andExpect(jsonPath("$[1].status").value("CREATED"))
+                .andExpect(jsonPath("$[2].status").value("CONFLICT"))
+                .andExpect(jsonPath("$[3].status").value("INVALID"))
+                .andExpect(jsonPath("$[3].message").value("The booking duration must be at least 1 hour and in 1-hour increments."))
+                .andExpect(jsonPath("$[4].status").value("NOT_FOUND"));
+
+        assertEquals(2, bookingRepository.findAll().size());
+    }
+
+    @Test
+    void given_bookingAlreadyExists_when_creatingOverlappingBookingInBatch_then_conflictIsReported() throws Exception {
+        // Given
+        MeetingRoom meetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
+        CreateBookingDto createBookingDto = generateCreateBookingDto(meetingRoom.getId());
+
+        bookingRepository.save(bookingMapper.toModel(createBookingDto, meetingRoom));
+
+        // When && Then
+        mockMvc.perform(post("/api/booking/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(createBookingDto))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].status").value("CONFLICT"))
+                .andExpect(jsonPath("$[0].message").value("Booking overlaps with an existing booking"));
+
+        assertEquals(1, bookingRepository.findAll().size());
+    }
+
+    @Test
+    void given_bookingExistsOnTheSecondWeek_when_creatingWeeklyBookingSeries_then_otherOccurrencesAreCreatedAndConflictIsReported() throws Exception {
+        // Given
+        MeetingRoom meetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
+        CreateBookingDto createBookingDto = generateCreateBookingDto(meetingRoom.getId());
+        LocalDate secondWeek = createBookingDto.getDate().plusWeeks(1);
+
+        Booking existingBooking = bookingMapper.toModel(createBookingDto, meetingRoom);
+        existingBooking.setDate(secondWeek);
+        bookingRepository.save(existingBooking);
+
+        CreateBookingSeriesDto createBookingSeriesDto = CreateBookingSeriesDto.builder()
+                .meetingRoomId(meetingRoom.getId())
+                .employeeEmail(createBookingDto.getEmployeeEmail())
+                .date(createBookingDto.getDate())
+                .timeFrom(createBookingDto.getTimeFrom())
+                .timeTo(createBookingDto.getTimeTo())
+                .frequency(CreateBookingSeriesDto.Frequency.WEEKLY)
+                .occurrences(4)
+                .build();
+
+        // When && Then
+        mockMvc.perform(post("/api/booking/series")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createBookingSeriesDto)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.bookings.size()").value(3))
+                .andExpect(jsonPath("$.conflictingDates.size()").value(1))
+                .andExpect(jsonPath("$.conflictingDates[0]").value(secondWeek.toString()));
+
+        assertEquals(4, bookingRepository.findAll().size());
+    }
+
+    @Test
+    void given_bookingSeriesStartsInThePast_when_creatingBookingSeries_then_shouldReturnRelevantValidationError() throws Exception {
+        // Given
+        CreateBookingSeriesDto createBookingSeriesDto = CreateBookingSeriesDto.builder()
+                .meetingRoomId(UUID.randomUUID())
+                .employeeEmail("employee@example.com")
+                .date(LocalDate.now().minusDays(1))
+                .timeFrom(LocalTime.of(10, 0))
+                .timeTo(LocalTime.of(11, 0))
+                .frequency(CreateBookingSeriesDto.Frequency.DAILY)
+                .occurrences(5)
+                .build();
+
+        // When && Then
+        mockMvc.perform(post("/api/booking/series")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createBookingSeriesDto)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$['Validation error']").value("Booking end datetime cannot be in the past."));
+    }
+
+    @Test
+    void given_bookingSeriesIntervalIsTooLarge_when_creatingBookingSeries_then_shouldReturnBadRequest() throws Exception {
+        // Given
+        CreateBookingSeriesDto createBookingSeriesDto = CreateBookingSeriesDto.builder()
+                .meetingRoomId(UUID.randomUUID())
+                .employeeEmail("employee@example.com")
+                .date(LocalDate.now().plusDays(1))
+                .timeFrom(LocalTime.of(10, 0))
+                .timeTo(LocalTime.of(11, 0))
+                .frequency(CreateBookingSeriesDto.Frequency.WEEKLY)
+                .interval(Integer.MAX_VALUE)
+                .occurrences(366)
+                .build();
+
+        // When && Then
+        mockMvc.perform(post("/api/booking/series")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createBookingSeriesDto)))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void given_bookingExists_when_requestingBookingsForThatDateAndMeetingRoom_then_bookingIsReturned() throws Exception {
         // Given
@@ -292,6 +479,60 @@ class BookingApplicationControllerIT extends BookingApplicationBaseIntegrationTe
     }
 
 
+    @Test
+    void given_bookingsHaveNotChanged_when_requestingBookingsWithTheirETag_then_notModifiedIsReturned() throws Exception {
+        // Given
+        MeetingRoom meetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
+        LocalDate date = LocalDate.now().plusDays(1);
+
+        String eTag = mockMvc.perform(get("/api/booking")
+                        .param("meetingRoomId", meetingRoom.getId().toString())
+                        .param("date", date.toString()))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        // When && Then
+        mockMvc.perform(get("/api/booking")
+                        .param("meetingRoomId", meetingRoom.getId().toString())
+                        .param("date", date.toString())
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void given_bookingWasCreatedAfterTheETagWasIssued_when_requestingBookingsWithThatETag_then_bookingsAreReturned() throws Exception {
+        // Given
+        MeetingRoom meetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
+        CreateBookingDto createBookingDto = generateCreateBookingDto(meetingRoom.getId());
+
+        String eTag = mockMvc.perform(get("/api/booking")
+                        .param("meetingRoomId", meetingRoom.getId().toString())
+                        .param("date", createBookingDto.getDate().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(0))
+                .andReturn()
+                .getResponse()
+                .getHeader("ETag");
+
+        mockMvc.perform(post("/api/booking/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createBookingDto)))
+                .andExpect(status().isCreated());
+
+        // When && Then
+        mockMvc.perform(get("/api/booking")
+                        .param("meetingRoomId", meetingRoom.getId().toString())
+                        .param("date", createBookingDto.getDate().toString())
+                        .header("If-None-Match", eTag))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", not(eTag)))
+                .andExpect(jsonPath("$.size()").value(1));
+    }
+
     @Test
     void given_bookingExists_when_deletingBooking_then_bookingIsDeleted() throws Exception {
         // Given
@@ -314,6 +555,236 @@ class BookingApplicationControllerIT extends BookingApplicationBaseIntegrationTe
         assertEquals(0, bookingRepository.findAll().size());
     }
 
+    @Test
+    void given_upcomingPastAndUnknownBookingIds_when_cancelingBookings_then_onlyUpcomingBookingIsDeletedAndEachIdIsReported() throws Exception {
+        // Given
+        MeetingRoom meetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
+        Booking upcoming = bookingRepository.save(generateBookingWithoutId().toBuilder().meetingRoom(meetingRoom).build());
+        Booking past = bookingRepository.save(generateBookingWithoutId().toBuilder()
+                .meetingRoom(meetingRoom)
+                .date(LocalDate.now().minusDays(1))
+                .build());
+        UUID unknown = UUID.randomUUID();
+
+        // When
+        mockMvc.perform(post("/api/booking/cancel")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(upcoming.getId(), past.getId(), unknown))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted[0]").value(upcoming.getId().toString()))
+                .andExpect(jsonPath("$.notFound[0]").value(unknown.toString()))
+                .andExpect(jsonPath("$.past[0]").value(past.getId().toString()));
+
+        // Then
+        assertEquals(List.of(past.getId()), bookingRepository.findAll().stream().map(Booking::getId).toList());
+    }
+
+    @Test
+    void given_employeeHasBookingsInAndOutsideTheRange_when_cancelingBookingsOfEmployee_then_onlyBookingsInTheRangeAreDeleted() throws Exception {
+        // Given
+        MeetingRoom meetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
+        LocalDate date = LocalDate.now().plusDays(1);
+        Booking inRange = bookingRepository.save(generateBookingWithoutId().toBuilder().meetingRoom(meetingRoom).build());
+        Booking outOfRange = bookingRepository.save(generateBookingWithoutId().toBuilder()
+                .meetingRoom(meetingRoom)
+                .date(date.plusDays(7))
+                .build());
+        Booking otherEmployee = bookingRepository.save(generateBookingWithoutId().toBuilder()
+                .meetingRoom(meetingRoom)
+                .employeeEmail("other@example.com")
+                .timeFrom(LocalTime.of(12, 0))
+                .timeTo(LocalTime.of(13, 0))
+                .build());
+
+        // When
+        mockMvc.perform(post("/api/booking/cancel/employee")
+                        .param("employeeEmail", inRange.getEmployeeEmail())
+                        .param("dateFrom", date.toString())
+                        .param("dateTo", date.plusDays(6).toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted.size()").value(1))
+                .andExpect(jsonPath("$.deleted[0]").value(inRange.getId().toString()))
+                .andExpect(jsonPath("$.notFound").isEmpty())
+                .andExpect(jsonPath("$.past").isEmpty());
+
+        // Then
+        mockMvc.perform(get("/api/booking")
+                        .param("meetingRoomId", meetingRoom.getId().toString())
+                        .param("date", date.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(1))
+                .andExpect(jsonPath("$[0].id").value(otherEmployee.getId().toString()));
+        assertEquals(2, bookingRepository.findAll().size());
+        assertTrue(bookingRepository.existsById(outOfRange.getId()));
+    }
+
+    @Test
+    void given_bookingWasCanceledInBulk_when_creatingBookingAtTheSameTime_then_bookingIsCreated() throws Exception {
+        // Given
+        MeetingRoom meetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
+        CreateBookingDto createBookingDto = generateCreateBookingDto(meetingRoom.getId());
+        mockMvc.perform(post("/api/booking/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createBookingDto)))
+                .andExpect(status().isCreated());
+        UUID bookingId = bookingRepository.findAll().get(0).getId();
+
+        mockMvc.perform(post("/api/booking/cancel")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(bookingId))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted[0]").value(bookingId.toString()));
+
+        // When & Then
+        mockMvc.perform(post("/api/booking/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createBookingDto)))
+                .andExpect(status().isCreated());
+    }
+
+    @Test
+    void given_bookingsAcrossSeveralDays_when_followingTheNextLinksOfTheRange_then_everyBookingOfTheRangeIsReturnedInOrder() throws Exception {
+        // Given
+        MeetingRoom meetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
+        MeetingRoom otherMeetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME + " 2"));
+        LocalDate dateFrom = LocalDate.now().minusDays(2);
+        for (int day = 0; day < 5; day++) {
+            for (int hour = 9; hour < 12; hour++) {
+                for (MeetingRoom room : List.of(meetingRoom, otherMeetingRoom)) {
+                    bookingRepository.save(Booking.builder()
+                            .meetingRoom(room)
+                            .employeeEmail("employee@example.com")
+                            .date(dateFrom.plusDays(day))
+                            .timeFrom(LocalTime.of(hour, 0))
+                            .timeTo(LocalTime.of(hour + 1, 0))
+                            .build());
+                }
+            }
+        }
+
+        // When
+        List<BookingDto> bookings = new ArrayList<>();
+        String nextPage = "/api/booking/range?meetingRoomId=" + meetingRoom.getId() + "&dateFrom=" + dateFrom
+                + "&dateTo=" + dateFrom.plusDays(3) + "&size=5";
+        while (nextPage != null) {
+            MockHttpServletResponse response = mockMvc.perform(get(nextPage))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse();
+            bookings.addAll(objectMapper.readValue(response.getContentAsString(), new TypeReference<List<BookingDto>>() {}));
+            String link = response.getHeader("Link");
+            nextPage = link == null ? null : link.substring(link.indexOf('<') + 1, link.indexOf('>'));
+        }
+
+        // Then
+        assertEquals(12, bookings.size());
+        assertTrue(bookings.stream().allMatch(booking -> booking.getMeetingRoomId().equals(meetingRoom.getId())));
+        assertEquals(dateFrom, bookings.get(0).getDate());
+        assertEquals(LocalTime.of(9, 0), bookings.get(0).getTimeFrom());
+        assertEquals(dateFrom.plusDays(3), bookings.get(11).getDate());
+        assertEquals(LocalTime.of(11, 0), bookings.get(11).getTimeFrom());
+    }
+
+    @Test
+    void given_noMeetingRoomIsGiven_when_requestingBookingsInRange_then_bookingsOfAllMeetingRoomsAreReturned() throws Exception {
+        // Given
+        MeetingRoom meetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
+        MeetingRoom otherMeetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME + " 2"));
+        Booking booking = bookingRepository.save(generateBookingWithoutId().toBuilder().meetingRoom(meetingRoom).build());
+        bookingRepository.save(booking.toBuilder().id(null).meetingRoom(otherMeetingRoom).build());
+
+        // When && Then
+        mockMvc.perform(get("/api/booking/range")
+                        .param("dateFrom", booking.getDate().toString())
+                        .param("dateTo", booking.getDate().toString()))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist("Link"))
+                .andExpect(jsonPath("$.size()").value(2));
+    }
+
+    @Test
+    void given_rangeEndsBeforeItStarts_when_requestingBookingsInRange_then_badRequestIsReturned() throws Exception {
+        // When && Then
+        mockMvc.perform(get("/api/booking/range")
+                        .param("dateFrom", LocalDate.now().toString())
+                        .param("dateTo", LocalDate.now().minusDays(1).toString()))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("The end date must not be before the start date."));
+    }
+
+    @Test
+    void given_bookingsExistInRange_when_exportingAsNdjson_then_oneJsonObjectPerBookingIsStreamedInOrder() throws Exception {
+        // Given
+        MeetingRoom meetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
+        Booking booking = bookingRepository.save(generateBookingWithoutId().toBuilder().meetingRoom(meetingRoom).build());
+        Booking nextDayBooking = bookingRepository.save(booking.toBuilder().id(null).date(booking.getDate().plusDays(1)).build());
+        bookingRepository.save(booking.toBuilder().id(null).date(booking.getDate().plusDays(2)).build());
+
+        // When
+        String export = mockMvc.perform(get("/api/booking/export")
+                        .param("dateFrom", booking.getDate().toString())
+                        .param("dateTo", nextDayBooking.getDate().toString()))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson;charset=UTF-8"))
+                .andExpect(header().string("Content-Disposition",
+                        "attachment; filename=\"bookings-" + booking.getDate() + "-" + nextDayBooking.getDate() + ".ndjson\""))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // Then
+        List<String> lines = export.lines().toList();
+        assertEquals(2, lines.size());
+        assertEquals(booking.getId(), objectMapper.readValue(lines.get(0), BookingDto.class).getId());
+        assertEquals(nextDayBooking.getId(), objectMapper.readValue(lines.get(1), BookingDto.class).getId());
+    }
+
+    @Test
+    void given_bookingsExistInRange_when_exportingAsCsv_then_headerAndOneRowPerBookingAreStreamed() throws Exception {
+        // Given
+        MeetingRoom meetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
+        Booking booking = bookingRepository.save(generateBookingWithoutId().toBuilder()
+                .meetingRoom(meetingRoom)
+                .employeeEmail("\"employee\"@example.com")
+                .build());
+
+        // When
+        String export = mockMvc.perform(get("/api/booking/export")
+                        .param("meetingRoomId", meetingRoom.getId().toString())
+                        .param("dateFrom", booking.getDate().toString())
+                        .param("dateTo", booking.getDate().toString())
+                        .param("format", "CSV"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("text/csv;charset=UTF-8"))
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // Then
+        assertEquals(List.of(
+                "id,meetingRoomId,employeeEmail,date,timeFrom,timeTo",
+                booking.getId() + "," + meetingRoom.getId() + ",\"\"\"employee\"\"@example.com\"," + booking.getDate() + ",10:00,11:00"
+        ), export.lines().toList());
+    }
+
+    @Test
+    void given_rangeEndsBeforeItStarts_when_exportingBookings_then_badRequestIsReturnedInsteadOfAnExport() throws Exception {
+        // When && Then
+        mockMvc.perform(get("/api/booking/export")
+                        .param("dateFrom", LocalDate.now().toString())
+                        .param("dateTo", LocalDate.now().minusDays(1).toString()))
+                .andExpect(status().isBadRequest())
+                .andExpect(header().doesNotExist("Content-Disposition"))
+                .andExpect(content().string("The end date must not be before the start date."));
+    }
+
+    @Test
+    void given_bookingDoesNotExist_when_requestingBooking_then_notFoundErrorIsReturned() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/booking/{id}", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void given_bookingDoesNotExist_when_deletingBooking_then_throwNotFoundError() throws Exception {
         // When && Then
@@ -321,4 +792,37 @@ class BookingApplicationControllerIT extends BookingApplicationBaseIntegrationTe
                         .param("id", UUID.randomUUID().toString()))
                 .andExpect(status().isNotFound());
     }
-}
\ No newline at end of file
+
+    @Test
+    void given_clientSubscribedToARoom_when_bookingIsCreatedAndDeleted_then_bothChangesAreStreamed() throws Exception {
+        // Given
+        MeetingRoom meetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
+        MvcResult subscription = mockMvc.perform(get("/api/booking/changes")
+                        .param("meetingRoomId", meetingRoom.getId().toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        MockHttpServletResponse created = mockMvc.perform(post("/api/booking/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .header("Prefer", "return=minimal")
+                        .content(objectMapper.writeValueAsString(generateCreateBookingDto(meetingRoom.getId()))))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse();
+        BookingDto booking = objectMapper.readValue(created.getContentAsString(), BookingDto.class);
+
+        // When
+        mockMvc.perform(delete("/api/booking")
+                        .param("id", booking.getId().toString()))
+                .andExpect(status().isOk());
+
+        // Then
+        MockHttpServletResponse stream = subscription.getResponse();
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!stream.getContentAsString().contains("event:deleted") && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        String events = stream.getContentAsString();
+        assertEquals(MediaType.TEXT_EVENT_STREAM_VALUE, stream.getContentType());
+        assertTrue(events.indexOf("event:created") < events.indexOf("event:deleted"), events);
+        assertTrue(events.contains("id:" + booking.getId()), events);
+    }
+}
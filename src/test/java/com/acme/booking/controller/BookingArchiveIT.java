@@ -0,0 +1,243 @@
+package com.acme.booking.controller;
+
+import com.acme.booking.BookingApplicationBaseIntegrationTest;
+import com.acme.booking.controller.dto.BookingDto;
+import com.acme.booking.domain.model.ArchivedBooking;
+import com.acme.booking.domain.model.Booking;
+import com.acme.booking.domain.model.MeetingRoom;
+import com.acme.booking.domain.model.RoomDay;
+import com.acme.booking.domain.model.RoomDayOccupancy;
+import com.acme.booking.domain.service.BookingArchive;
+import com.acme.booking.repository.ArchivedBookingRepository;
+import com.acme.booking.repository.BookingRepository;
+import com.acme.booking.repository.MeetingRoomRepository;
+import com.acme.booking.repository.RoomDayOccupancyRepository;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+import static com.acme.booking.utils.MeetingRoomUtils.DEFAULT_MEETING_ROOM_NAME;
+import static com.acme.booking.utils.MeetingRoomUtils.generateMeetingRoomWithoutId;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class BookingArchiveIT extends BookingApplicationBaseIntegrationTest {
+
+    private static final LocalDate OLD_DATE = LocalDate.now().minusDays(100);
+
+    @Autowired
+    private BookingArchive bookingArchive;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private ArchivedBookingRepository archivedBookingRepository;
+
+    @Autowired
+    private MeetingRoomRepository meetingRoomRepository;
+
+    @Autowired
+    private RoomDayOccupancyRepository roomDayOccupancyRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MeetingRoom meetingRoom;
+
+    @BeforeEach
+    void init() {
+        bookingRepository.deleteAll();
+        archivedBookingRepository.deleteAll();
+        roomDayOccupancyRepository.deleteAll();
+        meetingRoomRepository.deleteAll();
+        meetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
+    }
+
+    @Test
+    void given_bookingsOlderAndNewerThanTheHorizon_when_archiving_then_onlyTheOlderBookingsAreMoved() {
+        // Given
+        Booking old = saveBooking(OLD_DATE, 9);
+        Booking endedAfterTheHorizon = saveBooking(OLD_DATE.plusDays(20), 9);
+        Booking upcoming = saveBooking(LocalDate.now().plusDays(1), 9);
+
+        // When
+        long archived = bookingArchive.archive(LocalDateTime.now().minusDays(90));
+
+        // Then
+        assertEquals(1, archived);
+        assertEquals(List.of(old.getId()), archivedBookingRepository.findAll().stream().map(ArchivedBooking::getId).toList());
+        assertEquals(Set.of(endedAfterTheHorizon.getId(), upcoming.getId()),
+                bookingRepository.findAll().stream().map(Booking::getId).collect(Collectors.toSet()));
+    }
+
+    @Test
+    void given_occupiedRoomDaysOlderAndNewerThanTheHorizon_when_archiving_then_onlyTheOlderOccupancyIsDeleted() {
+        // Given
+        saveBooking(OLD_DATE, 9);
+        saveBooking(OLD_DATE.plusDays(20), 9);
+        RoomDay oldRoomDay = new RoomDay(meetingRoom.getId(), OLD_DATE);
+        RoomDay recentRoomDay = new RoomDay(meetingRoom.getId(), OLD_DATE.plusDays(20));
+        roomDayOccupancyRepository.saveAll(List.of(new RoomDayOccupancy(oldRoomDay), new RoomDayOccupancy(recentRoomDay)));
+
+        // When
+        bookingArchive.archive(LocalDateTime.now().minusDays(90));
+
+        // Then
+        assertEquals(List.of(recentRoomDay), roomDayOccupancyRepository.findAll().stream()
+                .map(occupancy -> new RoomDay(occupancy.getMeetingRoomId(), occupancy.getDate()))
+                .toList());
+    }
+
+    @Test
+    void given_bookingIsArchived_when_requestingItByIdAndByDate_then_archivedBookingIsReturned() throws Exception {
+        // Given
+        Booking booking = saveBooking(OLD_DATE, 9);
+        bookingArchive.archive(LocalDateTime.now().minusDays(90));
+
+        // When & Then
+        mockMvc.perform(get("/api/booking/{id}", booking.getId()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.id").value(booking.getId().toString()));
+        mockMvc.perform(get("/api/booking")
+                        .param("meetingRoomId", meetingRoom.getId().toString())
+                        .param("date", OLD_DATE.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(1))
+                .andExpect(jsonPath("$[0].id").value(booking.getId().toString()));
+    }
+
+    @Test
+    void given_rangeSpansArchivedAndCurrentBookings_when_followingTheNextLinksOfTheRange_then_everyBookingIsReturnedInOrder() throws Exception {
+        // Given
+        List<UUID> expected = new ArrayList<>();
+        for (int day = 0; day < 3; day++) {
+            for (int hour = 9; hour < 12; hour++) {
+                expected.add(saveBooking(OLD_DATE.plusDays(day * 5L), hour).getId());
+            }
+        }
+        // The bookings of the middle day end after the horizon and stay where they are
+        bookingArchive.archive(LocalDateTime.of(OLD_DATE.plusDays(5), LocalTime.MIN));
+        assertEquals(3, archivedBookingRepository.count());
+
+        // When
+        List<BookingDto> bookings = new ArrayList<>();
+        String nextPage = "/api/booking/range?meetingRoomId=" + meetingRoom.getId() + "&dateFrom=" + OLD_DATE
+                + "&dateTo=" + OLD_DATE.plusDays(10) + "&size=2";
+        while (nextPage != null) {
+            MockHttpServletResponse response = mockMvc.perform(get(nextPage))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse();
+            bookings.addAll(objectMapper.readValue(response.getContentAsString(), new TypeReference<List<BookingDto>>() {}));
+            String link = response.getHeader("Link");
+            nextPage = link == null ? null : link.substring(link.indexOf('<') + 1, link.indexOf('>'));
+        }
+
+        // Then
+        assertEquals(expected, bookings.stream().map(BookingDto::getId).toList());
+    }
+
+    @Test
+    void given_rangeSpansArchivedAndCurrentBookings_when_exportingThem_then_everyBookingIsExportedInOrder() throws Exception {
+        // Given
+        Booking archived = saveBooking(OLD_DATE, 9);
+        Booking current = saveBooking(OLD_DATE.plusDays(20), 9);
+        bookingArchive.archive(LocalDateTime.now().minusDays(90));
+
+        // When
+        String export = mockMvc.perform(get("/api/booking/export")
+                        .param("dateFrom", OLD_DATE.toString())
+                        .param("dateTo", OLD_DATE.plusDays(20).toString()))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getContentAsString();
+
+        // Then
+        List<String> lines = export.lines().toList();
+        assertEquals(2, lines.size());
+        assertTrue(lines.get(0).contains(archived.getId().toString()));
+        assertTrue(lines.get(1).contains(current.getId().toString()));
+    }
+
+    @Test
+    void given_bookingIsArchived_when_cancelingIt_then_itIsReportedAsPast() throws Exception {
+        // Given
+        Booking booking = saveBooking(OLD_DATE, 9);
+        bookingArchive.archive(LocalDateTime.now().minusDays(90));
+
+        // When & Then
+        mockMvc.perform(delete("/api/booking")
+                        .param("id", booking.getId().toString()))
+                .andExpect(status().isBadRequest());
+        mockMvc.perform(post("/api/booking/cancel")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(booking.getId()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.past[0]").value(booking.getId().toString()));
+        assertEquals(1, archivedBookingRepository.count());
+    }
+
+    @Test
+    void given_bookingIsArchived_when_importingAnOverlappingBooking_then_onlyThatLineIsRejected() throws Exception {
+        // Given
+        saveBooking(OLD_DATE, 9);
+        bookingArchive.archive(LocalDateTime.now().minusDays(90));
+        String csv = DEFAULT_MEETING_ROOM_NAME + ",a@example.com," + OLD_DATE + ",09:00,10:00\n" +
+                DEFAULT_MEETING_ROOM_NAME + ",b@example.com," + OLD_DATE + ",10:00,11:00\n";
+
+        // When
+        mockMvc.perform(post("/api/import/bookings")
+                        .contentType("text/csv")
+                        .content(csv))
+                // Then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.rejections[0].line").value(1));
+        assertEquals(1, bookingRepository.count());
+    }
+
+    @Test
+    void given_bookingIsArchived_when_requestingAvailability_then_itsMeetingRoomIsBusy() throws Exception {
+        // Given
+        saveBooking(OLD_DATE, 9);
+        bookingArchive.archive(LocalDateTime.now().minusDays(90));
+
+        // When
+        mockMvc.perform(get("/api/availability")
+                        .param("date", OLD_DATE.toString())
+                        .param("timeFrom", "09:00")
+                        .param("timeTo", "10:00"))
+                // Then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.freeMeetingRooms.size()").value(0))
+                .andExpect(jsonPath("$.occupancy[0].occupiedHours[9]").value(true));
+    }
+
+    private Booking saveBooking(LocalDate date, int hour) {
+        return bookingRepository.save(Booking.builder()
+                .meetingRoom(meetingRoom)
+                .employeeEmail("employee@example.com")
+                .date(date)
+                .timeFrom(LocalTime.of(hour, 0))
+                .timeTo(LocalTime.of(hour + 1, 0))
+                .build());
+    }
+}
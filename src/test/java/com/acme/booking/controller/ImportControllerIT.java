@@ -0,0 +1,181 @@
+package com.acme.booking.controller;
+
+import com.acme.booking.BookingApplicationBaseIntegrationTest;
+import com.acme.booking.domain.model.MeetingRoom;
+import com.acme.booking.facade.mapper.BookingMapper;
+import com.acme.booking.repository.BookingRepository;
+import com.acme.booking.repository.MeetingRoomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+
+import static com.acme.booking.utils.BookingUtils.generateCreateBookingDto;
+import static com.acme.booking.utils.MeetingRoomUtils.DEFAULT_MEETING_ROOM_NAME;
+import static com.acme.booking.utils.MeetingRoomUtils.generateMeetingRoomWithoutId;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class ImportControllerIT extends BookingApplicationBaseIntegrationTest {
+
+    private static final String HEADER = "meetingRoom,employeeEmail,date,timeFrom,timeTo\n";
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private MeetingRoomRepository meetingRoomRepository;
+
+    @Autowired
+    private BookingMapper bookingMapper;
+
+    private MeetingRoom meetingRoom;
+
+    @BeforeEach
+    void init() {
+        bookingRepository.deleteAll();
+        meetingRoomRepository.deleteAll();
+        meetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
+    }
+
+    @Test
+    void given_validCsv_when_importingBookings_then_allBookingsAreSaved() throws Exception {
+        // Given
+        LocalDate date = LocalDate.now().plusDays(1);
+        String csv = HEADER +
+                DEFAULT_MEETING_ROOM_NAME + ",a@example.com," + date + ",09:00,10:00\n" +
+                DEFAULT_MEETING_ROOM_NAME + ",b@example.com," + date + ",10:00,12:00\n" +
+                DEFAULT_MEETING_ROOM_NAME.toUpperCase() + ",c@example.com," + date.plusDays(1) + ",09:00,10:00\n";
+
+        // When
+        mockMvc.perform(post("/api/import/bookings")
+                        .contentType("text/csv")
+                        .content(csv))
+                // Then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rows").value(3))
+                .andExpect(jsonPath("$.imported").value(3))
+                .andExpect(jsonPath("$.rejected").value(0))
+                .andExpect(jsonPath("$.meetingRoomsCreated").value(0))
+                .andExpect(jsonPath("$.rejections").isEmpty());
+        assertEquals(3, bookingRepository.count());
+    }
+
+    @Test
+    void given_unknownMeetingRoom_when_importingBookings_then_meetingRoomIsCreatedOnce() throws Exception {
+        // Given
+        LocalDate date = LocalDate.now().plusDays(1);
+        String csv = "\"Room, North\",a@example.com," + date + ",09:00,10:00\n" +
+                "\"Room, North\",b@example.com," + date + ",10:00,11:00\n";
+
+        // When
+        mockMvc.perform(post("/api/import/bookings")
+                        .contentType("text/csv")
+                        .content(csv))
+                // Then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(2))
+                .andExpect(jsonPath("$.meetingRoomsCreated").value(1));
+        assertEquals(2, meetingRoomRepository.count());
+        assertTrue(meetingRoomRepository.findAll().stream().anyMatch(room -> room.getName().equals("Room, North")));
+    }
+
+    @Test
+    void given_overlappingBookings_when_importingBookings_then_overlapsAreRejected() throws Exception {
+        // Given
+        bookingRepository.save(bookingMapper.toModel(generateCreateBookingDto(meetingRoom.getId()), meetingRoom));
+        LocalDate date = LocalDate.now().plusDays(1);
+        String csv = HEADER +
+                DEFAULT_MEETING_ROOM_NAME + ",a@example.com," + date + ",10:00,11:00\n" +
+                DEFAULT_MEETING_ROOM_NAME + ",b@example.com," + date + ",13:00,14:00\n" +
+                DEFAULT_MEETING_ROOM_NAME + ",c@example.com," + date + ",13:00,15:00\n";
+
+        // When
+        mockMvc.perform(post("/api/import/bookings")
+                        .contentType("text/csv")
+                        .content(csv))
+                // Then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rows").value(3))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejected").value(2))
+                .andExpect(jsonPath("$.rejections[0].line").value(2))
+                .andExpect(jsonPath("$.rejections[1].line").value(4));
+        assertEquals(2, bookingRepository.count());
+    }
+
+    @Test
+    void given_malformedLines_when_importingBookings_then_onlyValidLinesAreSaved() throws Exception {
+        // Given
+        LocalDate date = LocalDate.now().plusDays(1);
+        String csv = DEFAULT_MEETING_ROOM_NAME + ",a@example.com," + date + ",09:00\n" +
+                DEFAULT_MEETING_ROOM_NAME + ",b@example.com,tomorrow,09:00,10:00\n" +
+                DEFAULT_MEETING_ROOM_NAME + ",c@example.com," + date + ",09:00,09:30\n" +
+                DEFAULT_MEETING_ROOM_NAME + ",d@example.com," + date + ",11:00,10:00\n" +
+                DEFAULT_MEETING_ROOM_NAME + ",e@example.com," + date + ",12:00,13:00\n" +
+                DEFAULT_MEETING_ROOM_NAME + ",f@example.com," + date + ",13:00:30,14:00:30\n";
+
+        // When
+        mockMvc.perform(post("/api/import/bookings")
+                        .contentType("text/csv")
+                        .content(csv))
+                // Then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.rows").value(6))
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejected").value(5))
+                .andExpect(jsonPath("$.rejections.size()").value(5));
+        assertEquals(1, bookingRepository.count());
+    }
+
+    @Test
+    void given_invalidEmployeeEmail_when_importingBookings_then_lineIsRejectedAndNoMeetingRoomIsCreated() throws Exception {
+        // Given
+        LocalDate date = LocalDate.now().plusDays(1);
+        String csv = HEADER +
+                DEFAULT_MEETING_ROOM_NAME + ",a@example.com," + date + ",09:00,10:00\n" +
+                "Room North,not-an-email," + date + ",09:00,10:00\n";
+
+        // When
+        mockMvc.perform(post("/api/import/bookings")
+                        .contentType("text/csv")
+                        .content(csv))
+                // Then
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.imported").value(1))
+                .andExpect(jsonPath("$.rejected").value(1))
+                .andExpect(jsonPath("$.rejections[0].line").value(3))
+                .andExpect(jsonPath("$.rejections[0].reason").value("The employee email must be a well-formed email address"))
+                .andExpect(jsonPath("$.meetingRoomsCreated").value(0));
+        assertEquals(1, meetingRoomRepository.count());
+    }
+
+    @Test
+    void given_dayWasReadBefore_when_importingBookings_then_importedBookingsAreReturned() throws Exception {
+        // Given
+        LocalDate date = LocalDate.now().plusDays(1);
+        mockMvc.perform(get("/api/booking")
+                        .param("meetingRoomId", meetingRoom.getId().toString())
+                        .param("date", date.toString()))
+                .andExpect(jsonPath("$.size()").value(0));
+
+        // When
+        mockMvc.perform(post("/api/import/bookings")
+                        .contentType("text/csv")
+                        .content(DEFAULT_MEETING_ROOM_NAME + ",a@example.com," + date + ",09:00,10:00\n"))
+                .andExpect(status().isOk());
+
+        // Then
+        mockMvc.perform(get("/api/booking")
+                        .param("meetingRoomId", meetingRoom.getId().toString())
+                        .param("date", date.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(1))
+                .andExpect(jsonPath("$[0].employeeEmail").value("a@example.com"));
+    }
+}
@@ -0,0 +1,70 @@
+package com.acme.booking.controller;
+
+import com.acme.booking.BookingApplicationBaseIntegrationTest;
+import com.acme.booking.repository.BookingRepository;
+import com.acme.booking.repository.MeetingRoomRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalDate;
+
+import static com.acme.booking.utils.MeetingRoomUtils.DEFAULT_MEETING_ROOM_NAME;
+import static com.acme.booking.utils.MeetingRoomUtils.generateMeetingRoomWithoutId;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = {
+        "booking.import.max-lines=3",
+        "booking.import.max-size=256B"
+})
+class ImportLimitsIT extends BookingApplicationBaseIntegrationTest {
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private MeetingRoomRepository meetingRoomRepository;
+
+    @BeforeEach
+    void init() {
+        bookingRepository.deleteAll();
+        meetingRoomRepository.deleteAll();
+        meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
+    }
+
+    @Test
+    void given_csvWithTooManyLines_when_importingBookings_then_payloadTooLargeIsReturned() throws Exception {
+        // Given
+        LocalDate date = LocalDate.now().plusDays(1);
+        String csv = DEFAULT_MEETING_ROOM_NAME + ",a@example.com," + date + ",09:00,10:00\n" +
+                DEFAULT_MEETING_ROOM_NAME + ",b@example.com," + date + ",10:00,11:00\n" +
+                DEFAULT_MEETING_ROOM_NAME + ",c@example.com," + date + ",11:00,12:00\n" +
+                DEFAULT_MEETING_ROOM_NAME + ",d@example.com," + date + ",12:00,13:00\n";
+
+        // When
+        mockMvc.perform(post("/api/import/bookings")
+                        .contentType("text/csv")
+                        .content(csv))
+                // Then
+                .andExpect(status().isPayloadTooLarge());
+        assertEquals(0, bookingRepository.count());
+    }
+
+    @Test
+    void given_csvLargerThanTheMaximumSize_when_importingBookings_then_payloadTooLargeIsReturned() throws Exception {
+        // Given
+        LocalDate date = LocalDate.now().plusDays(1);
+        String csv = DEFAULT_MEETING_ROOM_NAME + "," + "a".repeat(256) + "@example.com," + date + ",09:00,10:00\n";
+
+        // When
+        mockMvc.perform(post("/api/import/bookings")
+                        .contentType("text/csv")
+                        .content(csv))
+                // Then
+                .andExpect(status().isPayloadTooLarge());
+        assertEquals(0, bookingRepository.count());
+    }
+}
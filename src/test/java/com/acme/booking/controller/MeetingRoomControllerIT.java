@@ -6,13 +6,18 @@ import com.acme.booking.domain.model.MeetingRoom;
 import com.acme.booking.repository.MeetingRoomRepository;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockHttpServletResponse;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.UUID;
 
+import static com.acme.booking.configuration.CacheConfiguration.MEETING_ROOM_PAGES_CACHE;
 import static com.acme.booking.utils.MeetingRoomUtils.DEFAULT_MEETING_ROOM_NAME;
 import static com.acme.booking.utils.MeetingRoomUtils.generateMeetingRoomWithoutId;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -28,6 +33,9 @@ class MeetingRoomControllerIT extends BookingApplicationBaseIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @BeforeEach
     void init() {
         meetingRoomRepository.deleteAll();
@@ -55,6 +63,35 @@ class MeetingRoomControllerIT extends BookingApplicationBaseIntegrationTest {
                 .andExpect(jsonPath("$.size()").value(2));
     }
 
+    @Test
+    void given_minimalReturnIsPreferred_when_meetingRoomIsCreated_then_onlyCreatedMeetingRoomAndItsLocationAreReturned() throws Exception {
+        // Given
+        meetingRoomRepository.save(generateMeetingRoomWithoutId("Existing Meeting Room"));
+
+        // When
+        String location = mockMvc.perform(post("/api/meeting-room/create")
+                        .param("name", DEFAULT_MEETING_ROOM_NAME)
+                        .header("Prefer", "return=minimal"))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Preference-Applied", "return=minimal"))
+                .andExpect(jsonPath("$.name").value(DEFAULT_MEETING_ROOM_NAME))
+                .andReturn()
+                .getResponse()
+                .getHeader("Location");
+
+        // Then
+        mockMvc.perform(get(location))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.name").value(DEFAULT_MEETING_ROOM_NAME));
+    }
+
+    @Test
+    void given_meetingRoomDoesNotExist_when_meetingRoomIsRequested_then_notFoundErrorIsReturned() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/meeting-room/{id}", UUID.randomUUID()))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void given_meetingRoomsExist_when_allMeetingRoomsAreRequested_then_allMeetingRoomsAreReturned() throws Exception {
         // Given
@@ -81,6 +118,42 @@ class MeetingRoomControllerIT extends BookingApplicationBaseIntegrationTest {
         assertEquals(expectedMeetingRoomDtos, actualMeetingRoomDtos);
     }
 
+    @Test
+    void given_moreMeetingRoomsThanFitInAPage_when_followingTheNextLinks_then_everyMeetingRoomIsReturnedOnceInNameOrder() throws Exception {
+        // Given
+        for (String name : List.of("Room E", "Room B", "Room D", "Room A", "Room C")) {
+            meetingRoomRepository.save(generateMeetingRoomWithoutId(name));
+        }
+
+        // When
+        List<String> names = new ArrayList<>();
+        String nextPage = "/api/meeting-room?size=2";
+        int pages = 0;
+        while (nextPage != null) {
+            MockHttpServletResponse response = mockMvc.perform(get(nextPage))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse();
+            objectMapper.readValue(response.getContentAsString(), new TypeReference<List<MeetingRoomDto>>() {})
+                    .forEach(meetingRoom -> names.add(meetingRoom.getName()));
+            String link = response.getHeader("Link");
+            nextPage = link == null ? null : link.substring(link.indexOf('<') + 1, link.indexOf('>'));
+            pages++;
+        }
+
+        // Then
+        assertEquals(List.of("Room A", "Room B", "Room C", "Room D", "Room E"), names);
+        assertEquals(3, pages);
+    }
+
+    @Test
+    void given_cursorIsNotValid_when_meetingRoomsAreRequested_then_badRequestIsReturned() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/meeting-room").param("cursor", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(content().string("The cursor is not valid"));
+    }
+
     @Test
     void given_meetingRoomAlreadyExists_when_meetingRoomIsCreated_then_conflictErrorIsReturned() throws Exception {
         meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
@@ -92,4 +165,51 @@ class MeetingRoomControllerIT extends BookingApplicationBaseIntegrationTest {
                 .andExpect(status().isConflict())
                 .andExpect(content().string(String.format("A room with the name '%s' already exists", DEFAULT_MEETING_ROOM_NAME)));
     }
-}
\ No newline at end of file
+
+    @Test
+    void given_meetingRoomsWereAlreadyRequested_when_meetingRoomIsCreated_then_meetingRoomIsAddedToCachedList() throws Exception {
+        // Given
+        meetingRoomRepository.save(generateMeetingRoomWithoutId("Existing Meeting Room"));
+
+        mockMvc.perform(get("/api/meeting-room"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(1));
+
+        // When
+        mockMvc.perform(post("/api/meeting-room/create")
+                        .param("name", DEFAULT_MEETING_ROOM_NAME)
+                        .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isCreated());
+
+        // Then
+        mockMvc.perform(get("/api/meeting-room"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(2));
+    }
+
+    @Test
+    void given_meetingRoomsWereAlreadyRequested_when_meetingRoomsAreRequestedAgain_then_cacheHitIsRecorded() throws Exception {
+        // Given
+        meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
+        double hitsBefore = cacheHits();
+
+        mockMvc.perform(get("/api/meeting-room"))
+                .andExpect(status().isOk());
+
+        // When
+        mockMvc.perform(get("/api/meeting-room"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(1));
+
+        // Then
+        assertEquals(hitsBefore + 1, cacheHits());
+    }
+
+    private double cacheHits() {
+        return meterRegistry.get("cache.gets")
+                .tag("cache", MEETING_ROOM_PAGES_CACHE)
+                .tag("result", "hit")
+                .functionCounter()
+                .count();
+    }
+}
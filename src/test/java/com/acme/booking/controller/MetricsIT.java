@@ -0,0 +1,68 @@
+package com.acme.booking.controller;
+
+import com.acme.booking.BookingApplicationBaseIntegrationTest;
+import com.acme.booking.controller.dto.CreateBookingDto;
+import com.acme.booking.domain.model.MeetingRoom;
+import com.acme.booking.repository.BookingRepository;
+import com.acme.booking.repository.MeetingRoomRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.http.MediaType;
+
+import static com.acme.booking.utils.BookingUtils.generateCreateBookingDto;
+import static com.acme.booking.utils.MeetingRoomUtils.DEFAULT_MEETING_ROOM_NAME;
+import static com.acme.booking.utils.MeetingRoomUtils.generateMeetingRoomWithoutId;
+import static org.hamcrest.Matchers.allOf;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.not;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@AutoConfigureObservability(tracing = false)
+class MetricsIT extends BookingApplicationBaseIntegrationTest {
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private MeetingRoomRepository meetingRoomRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void init() {
+        bookingRepository.deleteAll();
+        meetingRoomRepository.deleteAll();
+    }
+
+    @Test
+    void given_bookingWasRejectedForOverlapping_when_scrapingPrometheusEndpoint_then_bookingMetricsAreExposedWithoutMeetingRoomIds() throws Exception {
+        // Given
+        MeetingRoom meetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
+        CreateBookingDto createBookingDto = generateCreateBookingDto(meetingRoom.getId());
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(post("/api/booking/create")
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content(objectMapper.writeValueAsString(createBookingDto)));
+        }
+
+        // When && Then
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(allOf(
+                        containsString("booking_creations_total 1.0"),
+                        containsString("booking_rejections_total{reason=\"overlap\"} 1.0"),
+                        containsString("booking_operations_seconds_bucket"),
+                        containsString("outcome=\"overlap\""),
+                        containsString("booking_locks_contended_total"),
+                        containsString("booking_locks_stripe_contended_max"),
+                        containsString("cache_gets_total"),
+                        not(containsString(meetingRoom.getId().toString())))));
+    }
+}
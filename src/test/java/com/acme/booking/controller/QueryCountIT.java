@@ -0,0 +1,411 @@
+package com.acme.booking.controller;
+
+import com.acme.booking.BookingApplicationBaseIntegrationTest;
+import com.acme.booking.controller.dto.CreateBookingDto;
+import com.acme.booking.controller.dto.CreateBookingSeriesDto;
+import com.acme.booking.domain.model.Booking;
+import com.acme.booking.domain.model.MeetingRoom;
+import com.acme.booking.repository.BookingRepository;
+import com.acme.booking.repository.MeetingRoomRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import static com.acme.booking.utils.BookingUtils.generateBookingWithoutId;
+import static com.acme.booking.utils.BookingUtils.generateCreateBookingDto;
+import static com.acme.booking.utils.MeetingRoomUtils.DEFAULT_MEETING_ROOM_NAME;
+import static com.acme.booking.utils.MeetingRoomUtils.generateMeetingRoomWithoutId;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.hasItem;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Guards the number of SQL statements, entity loads and collection fetches of every endpoint, so that N+1 queries
+ * or needless entity loading are caught as soon as they are introduced. The meeting room caches are cleared before
+ * each test and the meeting rooms are new in every test, so nothing is served from memory unless stated.
+ */
+class QueryCountIT extends BookingApplicationBaseIntegrationTest {
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private MeetingRoomRepository meetingRoomRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void init() {
+        bookingRepository.deleteAll();
+        meetingRoomRepository.deleteAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @Test
+    void given_meetingRoomExists_when_creatingBooking_then_roomIsLoadedDayIsQueriedAndBookingIsInserted() throws Exception {
+        // Given
+        MeetingRoom meetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
+        CreateBookingDto createBookingDto = generateCreateBookingDto(meetingRoom.getId());
+        statistics.clear();
+
+        // When
+        mockMvc.perform(post("/api/booking/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createBookingDto)))
+                .andExpect(status().isCreated());
+
+        // Then
+        assertQueryCounts(6, 1, 0);
+    }
+
+    @Test
+    void given_dayAlreadyHasABooking_when_creatingBooking_then_occupancyIsReadAndUpdatedInPlace() throws Exception {
+        // Given
+        MeetingRoom meetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
+        CreateBookingDto createBookingDto = generateCreateBookingDto(meetingRoom.getId());
+        mockMvc.perform(post("/api/booking/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createBookingDto)))
+                .andExpect(status().isCreated());
+        createBookingDto.setTimeFrom(createBookingDto.getTimeTo());
+        createBookingDto.setTimeTo(createBookingDto.getTimeTo().plusHours(1));
+        statistics.clear();
+
+        // When
+        mockMvc.perform(post("/api/booking/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createBookingDto)))
+                .andExpect(status().isCreated());
+
+        // Then
+        assertQueryCounts(3, 1, 0);
+    }
+
+    @Test
+    void given_batchOfBookingsForTwoMeetingRooms_when_creatingBookingsInBatch_then_roomsAreLoadedWithASingleQuery() throws Exception {
+        // Given
+        MeetingRoom meetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
+        MeetingRoom otherMeetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId("Other Meeting Room"));
+        List<CreateBookingDto> createBookingDtos = List.of(
+                generateCreateBookingDto(meetingRoom.getId()),
+                generateCreateBookingDto(otherMeetingRoom.getId()),
+                generateCreateBookingDto(otherMeetingRoom.getId()));
+        createBookingDtos.get(2).setDate(createBookingDtos.get(2).getDate().plusDays(1));
+        statistics.clear();
+
+        // When
+        mockMvc.perform(post("/api/booking/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createBookingDtos)))
+                .andExpect(status().isOk());
+
+        // Then
+        assertQueryCounts(12, 2, 0);
+    }
+
+    @Test
+    void given_meetingRoomExists_when_creatingBookingSeries_then_existingBookingsAreReadWithASingleRangeQuery() throws Exception {
+        // Given
+        MeetingRoom meetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
+        CreateBookingDto createBookingDto = generateCreateBookingDto(meetingRoom.getId());
+        CreateBookingSeriesDto createBookingSeriesDto = CreateBookingSeriesDto.builder()
+                .meetingRoomId(meetingRoom.getId())
+                .employeeEmail(createBookingDto.getEmployeeEmail())
+                .date(createBookingDto.getDate())
+                .timeFrom(createBookingDto.getTimeFrom())
+                .timeTo(createBookingDto.getTimeTo())
+                .frequency(CreateBookingSeriesDto.Frequency.DAILY)
+                .occurrences(5)
+                .build();
+        statistics.clear();
+
+        // When
+        mockMvc.perform(post("/api/booking/series")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createBookingSeriesDto)))
+                .andExpect(status().isCreated());
+
+        // Then
+        assertQueryCounts(14, 1, 0);
+    }
+
+    @Test
+    void given_bookingsExist_when_requestingBookingsForThatDateAndMeetingRoom_then_noEntityIsLoaded() throws Exception {
+        // Given
+        Booking booking = saveBooking();
+        statistics.clear();
+
+        // When
+        mockMvc.perform(get("/api/booking")
+                        .param("meetingRoomId", booking.getMeetingRoom().getId().toString())
+                        .param("date", booking.getDate().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(1));
+
+        // Then
+        assertQueryCounts(1, 0, 0);
+    }
+
+    @Test
+    void given_bookingsForThatDateAndMeetingRoomWereAlreadyRequested_when_requestingThemAgain_then_noStatementIsExecuted() throws Exception {
+        // Given
+        Booking booking = saveBooking();
+        mockMvc.perform(get("/api/booking")
+                        .param("meetingRoomId", booking.getMeetingRoom().getId().toString())
+                        .param("date", booking.getDate().toString()))
+                .andExpect(status().isOk());
+        statistics.clear();
+
+        // When
+        mockMvc.perform(get("/api/booking")
+                        .param("meetingRoomId", booking.getMeetingRoom().getId().toString())
+                        .param("date", booking.getDate().toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(1));
+
+        // Then
+        assertQueryCounts(0, 0, 0);
+    }
+
+    @Test
+    void given_bookingExists_when_deletingBooking_then_bookingIsLoadedAndDeleted() throws Exception {
+        // Given
+        Booking booking = saveBooking();
+        statistics.clear();
+
+        // When
+        mockMvc.perform(delete("/api/booking")
+                        .param("id", booking.getId().toString()))
+                .andExpect(status().isOk());
+
+        // Then
+        assertQueryCounts(3, 2, 0);
+    }
+
+    @Test
+    void given_bookingsExist_when_cancelingThemInBulk_then_theyAreReadWithASingleQueryAndDeletedWithASingleStatement() throws Exception {
+        // Given
+        Booking booking = saveBooking();
+        Booking other = bookingRepository.save(booking.toBuilder().id(null).timeFrom(LocalTime.of(12, 0)).timeTo(LocalTime.of(13, 0)).build());
+        statistics.clear();
+
+        // When
+        mockMvc.perform(post("/api/booking/cancel")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(List.of(booking.getId(), other.getId()))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.deleted.size()").value(2));
+
+        // Then
+        assertQueryCounts(3, 0, 0);
+    }
+
+    @Test
+    void given_bookingsAcrossARange_when_requestingALaterPageOfTheRange_then_onlyThatPageIsReadWithoutLoadingBookings() throws Exception {
+        // Given
+        Booking booking = saveBooking();
+        for (int day = 1; day < 10; day++) {
+            bookingRepository.save(booking.toBuilder().id(null).date(booking.getDate().plusDays(day)).build());
+        }
+        String link = mockMvc.perform(get("/api/booking/range?meetingRoomId={meetingRoomId}&dateFrom={dateFrom}&dateTo={dateTo}&size=3",
+                        booking.getMeetingRoom().getId(), booking.getDate(), booking.getDate().plusDays(9)))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("Link");
+        statistics.clear();
+
+        // When
+        mockMvc.perform(get(link.substring(link.indexOf('<') + 1, link.indexOf('>'))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(3))
+                .andExpect(jsonPath("$[0].date").value(booking.getDate().plusDays(3).toString()));
+
+        // Then
+        assertQueryCounts(1, 0, 0);
+    }
+
+    @Test
+    void given_bookingsAcrossARange_when_exportingThem_then_theyAreStreamedWithASingleQueryWithoutLoadingBookings() throws Exception {
+        // Given
+        Booking booking = saveBooking();
+        for (int day = 1; day < 10; day++) {
+            bookingRepository.save(booking.toBuilder().id(null).date(booking.getDate().plusDays(day)).build());
+        }
+        statistics.clear();
+
+        // When
+        mockMvc.perform(get("/api/booking/export")
+                        .param("dateFrom", booking.getDate().toString())
+                        .param("dateTo", booking.getDate().plusDays(9).toString()))
+                .andExpect(status().isOk());
+
+        // Then
+        assertQueryCounts(1, 0, 0);
+    }
+
+    @Test
+    void given_meetingRoomsExist_when_requestingAllMeetingRooms_then_theirBookingsAreNotFetched() throws Exception {
+        // Given
+        saveBooking();
+        meetingRoomRepository.save(generateMeetingRoomWithoutId("Other Meeting Room"));
+        statistics.clear();
+
+        // When
+        mockMvc.perform(get("/api/meeting-room"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(2));
+
+        // Then
+        assertQueryCounts(1, 2, 0);
+    }
+
+    @Test
+    void given_manyMeetingRooms_when_requestingALaterPage_then_onlyThatPageIsRead() throws Exception {
+        // Given
+        for (int i = 0; i < 10; i++) {
+            meetingRoomRepository.save(generateMeetingRoomWithoutId("Meeting Room " + i));
+        }
+        String link = mockMvc.perform(get("/api/meeting-room").param("size", "3"))
+                .andExpect(status().isOk())
+                .andReturn()
+                .getResponse()
+                .getHeader("Link");
+        statistics.clear();
+
+        // When
+        mockMvc.perform(get(link.substring(link.indexOf('<') + 1, link.indexOf('>'))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(3))
+                .andExpect(jsonPath("$[0].name").value("Meeting Room 3"));
+
+        // Then
+        assertQueryCounts(1, 4, 0);
+    }
+
+    @Test
+    void given_meetingRoomsWereAlreadyRequested_when_requestingAllMeetingRoomsAgain_then_noStatementIsExecuted() throws Exception {
+        // Given
+        meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
+        mockMvc.perform(get("/api/meeting-room"))
+                .andExpect(status().isOk());
+        statistics.clear();
+
+        // When
+        mockMvc.perform(get("/api/meeting-room"))
+                .andExpect(status().isOk());
+
+        // Then
+        assertQueryCounts(0, 0, 0);
+    }
+
+    @Test
+    void given_meetingRoomDoesNotExist_when_creatingMeetingRoom_then_nameIsCheckedRoomIsInsertedAndRoomsAreReloaded() throws Exception {
+        // Given
+        statistics.clear();
+
+        // When
+        mockMvc.perform(post("/api/meeting-room/create")
+                        .param("name", DEFAULT_MEETING_ROOM_NAME))
+                .andExpect(status().isCreated());
+
+        // Then
+        assertQueryCounts(3, 0, 0);
+    }
+
+    @Test
+    void given_meetingRoomsWereLoadedByAPreviousCreation_when_creatingMeetingRoom_then_roomsAreNotReloaded() throws Exception {
+        // Given
+        mockMvc.perform(post("/api/meeting-room/create")
+                        .param("name", "Other Meeting Room"))
+                .andExpect(status().isCreated());
+        statistics.clear();
+
+        // When
+        mockMvc.perform(post("/api/meeting-room/create")
+                        .param("name", DEFAULT_MEETING_ROOM_NAME))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.size()").value(2));
+
+        // Then
+        assertQueryCounts(2, 0, 0);
+    }
+
+    @Test
+    void given_minimalReturnIsPreferred_when_creatingMeetingRoom_then_roomsAreNotRead() throws Exception {
+        // Given
+        statistics.clear();
+
+        // When
+        mockMvc.perform(post("/api/meeting-room/create")
+                        .param("name", DEFAULT_MEETING_ROOM_NAME)
+                        .header("Prefer", "return=minimal"))
+                .andExpect(status().isCreated());
+
+        // Then
+        assertQueryCounts(2, 0, 0);
+    }
+
+    @Test
+    void given_bookingsExist_when_requestingAvailability_then_roomsAndBookedTimeRangesAreReadWithoutLoadingBookings() throws Exception {
+        // Given
+        Booking booking = saveBooking();
+        statistics.clear();
+
+        // When
+        mockMvc.perform(get("/api/availability")
+                        .param("date", booking.getDate().toString())
+                        .param("timeFrom", "08:00")
+                        .param("timeTo", "09:00"))
+                .andExpect(status().isOk());
+
+        // Then
+        assertQueryCounts(2, 1, 0);
+    }
+
+    @Test
+    void given_queriesWereExecuted_when_requestingQueryStatistics_then_executionCountsAreReported() throws Exception {
+        // Given
+        Booking booking = saveBooking();
+        statistics.clear();
+        mockMvc.perform(get("/api/booking")
+                        .param("meetingRoomId", booking.getMeetingRoom().getId().toString())
+                        .param("date", booking.getDate().minusDays(7).toString()))
+                .andExpect(status().isOk());
+
+        // When && Then
+        mockMvc.perform(get("/actuator/queries"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.enabled").value(true))
+                .andExpect(jsonPath("$.statementCount").value(greaterThanOrEqualTo(1)))
+                .andExpect(jsonPath("$.queries[*].query", hasItem(containsString("BookingView"))));
+    }
+
+    private Booking saveBooking() {
+        MeetingRoom meetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
+        return bookingRepository.save(generateBookingWithoutId().toBuilder().meetingRoom(meetingRoom).build());
+    }
+
+    private void assertQueryCounts(long statements, long entityLoads, long collectionFetches) {
+        assertEquals(List.of(statements, entityLoads, collectionFetches),
+                List.of(statistics.getPrepareStatementCount(), statistics.getEntityLoadCount(), statistics.getCollectionFetchCount()),
+                "[statements, entity loads, collection fetches]");
+    }
+}
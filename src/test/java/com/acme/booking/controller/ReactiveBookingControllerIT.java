@@ -0,0 +1,159 @@
+package com.acme.booking.controller;
+
+import com.acme.booking.BookingApplicationBaseIntegrationTest;
+import com.acme.booking.controller.dto.CreateBookingDto;
+import com.acme.booking.domain.model.Booking;
+import com.acme.booking.domain.model.MeetingRoom;
+import com.acme.booking.facade.mapper.BookingMapper;
+import com.acme.booking.repository.BookingRepository;
+import com.acme.booking.repository.MeetingRoomRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.UUID;
+
+import static com.acme.booking.utils.BookingUtils.generateCreateBookingDto;
+import static com.acme.booking.utils.MeetingRoomUtils.DEFAULT_MEETING_ROOM_NAME;
+import static com.acme.booking.utils.MeetingRoomUtils.generateMeetingRoomWithoutId;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+class ReactiveBookingControllerIT extends BookingApplicationBaseIntegrationTest {
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private MeetingRoomRepository meetingRoomRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private BookingMapper bookingMapper;
+
+    private MeetingRoom meetingRoom;
+
+    @BeforeEach
+    void init() {
+        bookingRepository.deleteAll();
+        meetingRoomRepository.deleteAll();
+        meetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
+    }
+
+    @Test
+    void given_bookingWasSavedThroughJpa_when_gettingBookingsReactively_then_bookingIsReturned() throws Exception {
+        // Given
+        Booking booking = bookingRepository.save(bookingMapper.toModel(generateCreateBookingDto(meetingRoom.getId()), meetingRoom));
+
+        // When
+        MvcResult result = mockMvc.perform(get("/api/reactive/booking")
+                        .param("meetingRoomId", meetingRoom.getId().toString())
+                        .param("date", booking.getDate().toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.size()").value(1))
+                .andExpect(jsonPath("$[0].id").value(booking.getId().toString()))
+                .andExpect(jsonPath("$[0].timeFrom").value("10:00:00"));
+    }
+
+    @Test
+    void given_bookingIsValid_when_creatingBookingReactively_then_bookingIsCreated() throws Exception {
+        // Given
+        CreateBookingDto createBookingDto = generateCreateBookingDto(meetingRoom.getId());
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/reactive/booking/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createBookingDto)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.size()").value(1));
+    }
+
+    @Test
+    void given_bookingAlreadyExistsForTheSameRoomAndDateTime_when_creatingBookingReactively_then_conflictErrorIsReturned() throws Exception {
+        // Given
+        CreateBookingDto createBookingDto = generateCreateBookingDto(meetingRoom.getId());
+        bookingRepository.save(bookingMapper.toModel(createBookingDto, meetingRoom));
+
+        // When
+        MvcResult result = mockMvc.perform(post("/api/reactive/booking/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createBookingDto)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isConflict())
+                .andExpect(content().string("Booking overlaps with an existing booking"));
+    }
+
+    @Test
+    void given_bookingEndDatetimeIsInThePast_when_creatingBookingReactively_then_validationErrorIsReturned() throws Exception {
+        // Given
+        CreateBookingDto createBookingDto = CreateBookingDto.builder()
+                .meetingRoomId(meetingRoom.getId())
+                .employeeEmail("employee@example.com")
+                .date(LocalDate.now().minusDays(1))
+                .timeFrom(LocalTime.of(10, 0))
+                .timeTo(LocalTime.of(11, 0))
+                .build();
+
+        // When && Then
+        mockMvc.perform(post("/api/reactive/booking/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createBookingDto)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$['Validation error']").value("Booking end datetime cannot be in the past."));
+    }
+
+    @Test
+    void given_bookingExists_when_deletingBookingReactively_then_bookingIsDeleted() throws Exception {
+        // Given
+        Booking booking = bookingRepository.save(bookingMapper.toModel(generateCreateBookingDto(meetingRoom.getId()), meetingRoom));
+
+        // When
+        MvcResult result = mockMvc.perform(delete("/api/reactive/booking")
+                        .param("id", booking.getId().toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk());
+
+        // Then
+        assertFalse(bookingRepository.existsById(booking.getId()));
+    }
+
+    @Test
+    void given_bookingDoesNotExist_when_deletingBookingReactively_then_notFoundErrorIsReturned() throws Exception {
+        // Given
+        UUID bookingId = UUID.randomUUID();
+
+        // When
+        MvcResult result = mockMvc.perform(delete("/api/reactive/booking")
+                        .param("id", bookingId.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isNotFound());
+    }
+}
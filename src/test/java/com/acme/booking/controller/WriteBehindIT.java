@@ -0,0 +1,125 @@
+package com.acme.booking.controller;
+
+import com.acme.booking.BookingApplicationBaseIntegrationTest;
+import com.acme.booking.controller.dto.CreateBookingDto;
+import com.acme.booking.domain.model.MeetingRoom;
+import com.acme.booking.domain.model.RoomDay;
+import com.acme.booking.repository.BookingRepository;
+import com.acme.booking.repository.MeetingRoomRepository;
+import com.acme.booking.repository.RoomDayOccupancyRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.TestPropertySource;
+
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static com.acme.booking.utils.BookingUtils.generateCreateBookingDto;
+import static com.acme.booking.utils.MeetingRoomUtils.DEFAULT_MEETING_ROOM_NAME;
+import static com.acme.booking.utils.MeetingRoomUtils.generateMeetingRoomWithoutId;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@TestPropertySource(properties = {
+        "booking.write-behind.enabled=true",
+        "booking.write-behind.acknowledgement=FLUSH",
+        "booking.write-behind.max-delay=20ms"
+})
+class WriteBehindIT extends BookingApplicationBaseIntegrationTest {
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private MeetingRoomRepository meetingRoomRepository;
+
+    @Autowired
+    private RoomDayOccupancyRepository roomDayOccupancyRepository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private MeetingRoom meetingRoom;
+
+    @BeforeEach
+    void init() {
+        bookingRepository.deleteAll();
+        meetingRoomRepository.deleteAll();
+        meetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
+    }
+
+    @Test
+    void given_writeBehindIsAcknowledgedOnFlush_when_creatingBooking_then_bookingIsSavedBeforeTheResponse() throws Exception {
+        // Given
+        CreateBookingDto createBookingDto = generateCreateBookingDto(meetingRoom.getId());
+
+        // When
+        mockMvc.perform(post("/api/booking/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createBookingDto)))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.size()").value(1));
+
+        // Then
+        assertEquals(1, bookingRepository.count());
+        assertFalse(roomDayOccupancyRepository.findById(new RoomDay(meetingRoom.getId(), createBookingDto.getDate())).orElseThrow()
+                .isFree(createBookingDto.getTimeFrom(), createBookingDto.getTimeTo()));
+    }
+
+    @Test
+    void given_concurrentRequestsForDifferentSlots_when_creatingBookings_then_allBookingsAreSaved() throws Exception {
+        // Given
+        List<CreateBookingDto> createBookingDtos = IntStream.range(0, 12)
+                .mapToObj(hour -> {
+                    CreateBookingDto createBookingDto = generateCreateBookingDto(meetingRoom.getId());
+                    createBookingDto.setTimeFrom(LocalTime.of(hour, 0));
+                    createBookingDto.setTimeTo(LocalTime.of(hour + 1, 0));
+                    return createBookingDto;
+                })
+                .toList();
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(createBookingDtos.size())) {
+            List<Future<Integer>> statuses = createBookingDtos.stream()
+                    .map(createBookingDto -> executor.submit(() -> mockMvc.perform(post("/api/booking/create")
+                                    .contentType(MediaType.APPLICATION_JSON)
+                                    .content(objectMapper.writeValueAsString(createBookingDto)))
+                            .andReturn().getResponse().getStatus()))
+                    .toList();
+
+            // Then
+            for (Future<Integer> responseStatus : statuses) {
+                assertEquals(201, responseStatus.get());
+            }
+        }
+        assertEquals(createBookingDtos.size(), bookingRepository.count());
+    }
+
+    @Test
+    void given_bookingWasWrittenBehind_when_creatingAnOverlappingBooking_then_overlapIsRejected() throws Exception {
+        // Given
+        CreateBookingDto createBookingDto = generateCreateBookingDto(meetingRoom.getId());
+        mockMvc.perform(post("/api/booking/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createBookingDto)))
+                .andExpect(status().isCreated());
+
+        // When
+        mockMvc.perform(post("/api/booking/create")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(createBookingDto)))
+                // Then
+                .andExpect(status().isConflict());
+        assertEquals(1, bookingRepository.count());
+    }
+}
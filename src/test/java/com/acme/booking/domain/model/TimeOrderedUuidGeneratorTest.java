@@ -0,0 +1,56 @@
+package com.acme.booking.domain.model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TimeOrderedUuidGeneratorTest {
+
+    @Test
+    void given_timeOrderedGenerator_when_generatingId_then_versionAndVariantAreSet() {
+        // When
+        UUID id = TimeOrderedUuidGenerator.next();
+
+        // Then
+        assertEquals(7, id.version());
+        assertEquals(2, id.variant());
+    }
+
+    @Test
+    void given_timeOrderedGenerator_when_generatingId_then_idStartsWithCurrentTime() {
+        // Given
+        long before = System.currentTimeMillis();
+
+        // When
+        UUID id = TimeOrderedUuidGenerator.next();
+
+        // Then
+        long timestamp = id.getMostSignificantBits() >>> 16;
+        assertTrue(timestamp >= before && timestamp <= System.currentTimeMillis() + 1);
+    }
+
+    @Test
+    void given_manyIdsInTheSameMillisecond_when_generatingIds_then_idsAreUniqueAndOrdered() {
+        // Given
+        int count = 100_000;
+        List<UUID> ids = new ArrayList<>(count);
+
+        // When
+        for (int i = 0; i < count; i++) {
+            ids.add(TimeOrderedUuidGenerator.next());
+        }
+
+        // Then
+        assertEquals(count, new HashSet<>(ids).size());
+        for (int i = 1; i < count; i++) {
+            // Compared as unsigned strings, the order databases use for UUID keys
+            assertTrue(ids.get(i - 1).toString().compareTo(ids.get(i).toString()) < 0);
+        }
+    }
+}
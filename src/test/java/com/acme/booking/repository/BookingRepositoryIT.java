@@ -0,0 +1,93 @@
+package com.acme.booking.repository;
+
+
+import com.acme.booking.domain.model.Booking;
+import com.acme.booking.domain.model.BookingView;
+import com.acme.booking.domain.model.MeetingRoom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Limit;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static com.acme.booking.utils.BookingUtils.generateBookingWithoutId;
+import static com.acme.booking.utils.MeetingRoomUtils.DEFAULT_MEETING_ROOM_NAME;
+import static com.acme.booking.utils.MeetingRoomUtils.generateMeetingRoomWithoutId;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class BookingRepositoryIT {
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private MeetingRoomRepository meetingRoomRepository;
+
+    @BeforeEach
+    void init() {
+        bookingRepository.deleteAll();
+        meetingRoomRepository.deleteAll();
+    }
+
+    @Test
+    void given_bookingsExistForARoomAndDate_when_findViewsByMeetingRoomIdAndDate_then_viewsAreReturnedSortedByStartTime() {
+        // Given
+        MeetingRoom meetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
+        Booking laterBooking = generateBookingWithoutId().toBuilder().meetingRoom(meetingRoom).build();
+        Booking earlierBooking = laterBooking.toBuilder()
+                .timeFrom(laterBooking.getTimeFrom().minusHours(2))
+                .timeTo(laterBooking.getTimeTo().minusHours(2))
+                .build();
+        Booking otherDayBooking = laterBooking.toBuilder().date(laterBooking.getDate().plusDays(1)).build();
+        bookingRepository.saveAll(List.of(laterBooking, earlierBooking, otherDayBooking));
+
+        // When
+        List<BookingView> views = bookingRepository.findViewsByMeetingRoomIdAndDate(meetingRoom.getId(), laterBooking.getDate());
+
+        // Then
+        assertThat(views).containsExactly(BookingView.of(earlierBooking), BookingView.of(laterBooking));
+    }
+
+    @Test
+    void given_bookingsOfSeveralRoomsAcrossARange_when_pagingThroughTheRange_then_everyBookingIsReturnedOnceInKeyOrder() {
+        // Given
+        MeetingRoom meetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
+        MeetingRoom otherMeetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME + " 2"));
+        Booking booking = generateBookingWithoutId().toBuilder().meetingRoom(meetingRoom).build();
+        List<Booking> bookings = new ArrayList<>();
+        for (int day = 0; day < 3; day++) {
+            for (MeetingRoom room : List.of(meetingRoom, otherMeetingRoom)) {
+                bookings.add(booking.toBuilder().meetingRoom(room).date(booking.getDate().plusDays(day)).build());
+                bookings.add(booking.toBuilder().meetingRoom(room).date(booking.getDate().plusDays(day))
+                        .timeFrom(booking.getTimeFrom().plusHours(2)).timeTo(booking.getTimeTo().plusHours(2)).build());
+            }
+        }
+        bookings.add(booking.toBuilder().date(booking.getDate().plusDays(3)).build());
+        bookingRepository.saveAll(bookings);
+        LocalDate dateTo = booking.getDate().plusDays(2);
+
+        // When
+        List<BookingView> views = new ArrayList<>(bookingRepository.findRangeFirstPage(booking.getDate(), dateTo, Limit.of(5)));
+        while (true) {
+            BookingView last = views.get(views.size() - 1);
+            List<BookingView> page = bookingRepository.findRangePageAfter(last.date(), last.timeFrom(), last.id(), dateTo, Limit.of(5));
+            if (page.isEmpty()) {
+                break;
+            }
+            views.addAll(page);
+        }
+
+        // Then
+        Comparator<BookingView> keyOrder = Comparator.comparing(BookingView::date).thenComparing(BookingView::timeFrom);
+        assertThat(views).hasSize(12).isSortedAccordingTo(keyOrder).doesNotHaveDuplicates();
+        assertThat(bookingRepository.findRangeFirstPage(meetingRoom.getId(), booking.getDate(), dateTo, Limit.of(10)))
+                .hasSize(6)
+                .allMatch(view -> view.meetingRoomId().equals(meetingRoom.getId()));
+    }
+}
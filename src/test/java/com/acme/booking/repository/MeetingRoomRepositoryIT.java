@@ -47,4 +47,17 @@ class MeetingRoomRepositoryIT {
         // Then
         assertThat(exists).isTrue();
     }
-}
\ No newline at end of file
+
+    @Test
+    void given_roomsAreSavedInSequence_when_savingRooms_then_idsAreTimeOrdered() {
+        // Given
+        MeetingRoom first = meetingRoomRepository.save(generateMeetingRoomWithoutId("First"));
+
+        // When
+        MeetingRoom second = meetingRoomRepository.save(generateMeetingRoomWithoutId("Second"));
+
+        // Then
+        assertThat(first.getId().version()).isEqualTo(7);
+        assertThat(second.getId().toString()).isGreaterThan(first.getId().toString());
+    }
+}
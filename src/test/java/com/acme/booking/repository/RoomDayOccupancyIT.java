@@ -0,0 +1,111 @@
+package com.acme.booking.repository;
+
+import com.acme.booking.domain.model.Booking;
+import com.acme.booking.domain.model.BookingView;
+import com.acme.booking.domain.model.MeetingRoom;
+import com.acme.booking.domain.model.RoomDay;
+import com.acme.booking.domain.model.RoomDayOccupancy;
+import com.acme.booking.domain.service.RoomDayOccupancyService;
+import com.acme.booking.exception.BookingOverlapException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.LocalTime;
+import java.util.List;
+
+import static com.acme.booking.utils.BookingUtils.generateBookingWithoutId;
+import static com.acme.booking.utils.MeetingRoomUtils.DEFAULT_MEETING_ROOM_NAME;
+import static com.acme.booking.utils.MeetingRoomUtils.generateMeetingRoomWithoutId;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SpringBootTest
+class RoomDayOccupancyIT {
+
+    @Autowired
+    private RoomDayOccupancyService roomDayOccupancyService;
+
+    @Autowired
+    private RoomDayOccupancyRepository roomDayOccupancyRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private MeetingRoomRepository meetingRoomRepository;
+
+    private MeetingRoom meetingRoom;
+
+    @BeforeEach
+    void init() {
+        roomDayOccupancyRepository.deleteAll();
+        bookingRepository.deleteAll();
+        meetingRoomRepository.deleteAll();
+        meetingRoom = meetingRoomRepository.save(generateMeetingRoomWithoutId(DEFAULT_MEETING_ROOM_NAME));
+    }
+
+    @Test
+    void given_bookingWasSavedWithoutOccupancy_when_occupyingAnOverlappingSlot_then_occupancyIsBuiltFromBookingsAndOverlapIsRejected() {
+        // Given
+        Booking existing = bookingRepository.save(generateBookingWithoutId().toBuilder().meetingRoom(meetingRoom).build());
+        Booking overlapping = existing.toBuilder().id(null).timeFrom(LocalTime.of(10, 30)).timeTo(LocalTime.of(11, 30)).build();
+
+        // When & Then
+        assertThrows(BookingOverlapException.class, () -> roomDayOccupancyService.occupy(List.of(BookingView.of(overlapping)),
+                () -> bookingRepository.save(overlapping)));
+        assertThat(bookingRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    void given_bookingEndsWhenAnotherStarts_when_occupyingTheSlot_then_bookingIsSaved() {
+        // Given
+        Booking existing = generateBookingWithoutId().toBuilder().meetingRoom(meetingRoom).build();
+        roomDayOccupancyService.occupy(List.of(BookingView.of(existing)), () -> bookingRepository.save(existing));
+        Booking adjacent = existing.toBuilder().id(null).timeFrom(LocalTime.of(11, 0)).timeTo(LocalTime.of(12, 0)).build();
+
+        // When
+        roomDayOccupancyService.occupy(List.of(BookingView.of(adjacent)), () -> bookingRepository.save(adjacent));
+
+        // Then
+        RoomDayOccupancy occupancy = roomDayOccupancyRepository.findById(RoomDay.of(existing)).orElseThrow();
+        assertThat(bookingRepository.count()).isEqualTo(2);
+        assertThat(occupancy.isFree(LocalTime.of(9, 0), LocalTime.of(10, 0))).isTrue();
+        assertThat(occupancy.isFree(LocalTime.of(11, 59), LocalTime.of(12, 30))).isFalse();
+        assertThat(occupancy.isFree(LocalTime.of(12, 0), LocalTime.of(13, 0))).isTrue();
+    }
+
+    @Test
+    void given_bookingIsDeleted_when_vacatingItsSlot_then_slotIsFreeAgain() {
+        // Given
+        Booking booking = generateBookingWithoutId().toBuilder().meetingRoom(meetingRoom).build();
+        roomDayOccupancyService.occupy(List.of(BookingView.of(booking)), () -> bookingRepository.save(booking));
+
+        // When
+        roomDayOccupancyService.vacate(BookingView.of(booking), () -> bookingRepository.deleteById(booking.getId()));
+
+        // Then
+        RoomDayOccupancy occupancy = roomDayOccupancyRepository.findById(RoomDay.of(booking)).orElseThrow();
+        assertThat(occupancy.isFree(booking.getTimeFrom(), booking.getTimeTo())).isTrue();
+        assertThat(bookingRepository.count()).isZero();
+    }
+
+    @Test
+    void given_occupancyWasChangedByAnotherWriter_when_savingAStaleCopy_then_updateIsRejected() {
+        // Given
+        Booking booking = generateBookingWithoutId().toBuilder().meetingRoom(meetingRoom).build();
+        roomDayOccupancyService.occupy(List.of(BookingView.of(booking)), () -> bookingRepository.save(booking));
+        RoomDayOccupancy stale = roomDayOccupancyRepository.findById(RoomDay.of(booking)).orElseThrow();
+        RoomDayOccupancy current = roomDayOccupancyRepository.findById(RoomDay.of(booking)).orElseThrow();
+        current.occupy(LocalTime.of(14, 0), LocalTime.of(15, 0));
+        roomDayOccupancyRepository.saveAndFlush(current);
+
+        // When
+        stale.occupy(LocalTime.of(14, 0), LocalTime.of(15, 0));
+
+        // Then
+        assertThrows(OptimisticLockingFailureException.class, () -> roomDayOccupancyRepository.saveAndFlush(stale));
+    }
+}
@@ -0,0 +1,91 @@
+package com.acme.booking.service;
+
+import com.acme.booking.domain.service.BookingArchive;
+import com.acme.booking.monitoring.OperationMetrics;
+import com.acme.booking.repository.ArchivedBookingRepository;
+import com.acme.booking.repository.BookingRepository;
+import com.acme.booking.repository.RoomDayOccupancyRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookingArchiveTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private ArchivedBookingRepository archivedBookingRepository;
+
+    @Mock
+    private RoomDayOccupancyRepository roomDayOccupancyRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private final OperationMetrics operationMetrics = new OperationMetrics(new SimpleMeterRegistry());
+
+    @Test
+    void given_moreEndedBookingsThanTheChunkSize_when_archiving_then_theyAreMovedOneFullChunkAtATime() {
+        // Given
+        BookingArchive bookingArchive = bookingArchive(2);
+        List<UUID> firstChunk = List.of(UUID.randomUUID(), UUID.randomUUID());
+        List<UUID> lastChunk = List.of(UUID.randomUUID());
+        when(bookingRepository.findIdsEndedBefore(any(), any(), eq(Limit.of(2)))).thenReturn(firstChunk, lastChunk);
+
+        LocalDateTime endedBefore = LocalDateTime.now().minusDays(90);
+
+        // When
+        long archived = bookingArchive.archive(endedBefore);
+
+        // Then
+        assertEquals(3, archived);
+        verify(archivedBookingRepository).copyFromBookings(firstChunk);
+        verify(roomDayOccupancyRepository).deleteArchivedBefore(firstChunk, endedBefore.toLocalDate());
+        verify(roomDayOccupancyRepository).deleteArchivedBefore(lastChunk, endedBefore.toLocalDate());
+        verify(bookingRepository).deleteByIdIn(firstChunk);
+        verify(archivedBookingRepository).copyFromBookings(lastChunk);
+        verify(bookingRepository).deleteByIdIn(lastChunk);
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void given_dateIsWithinTheHorizon_when_getBookings_then_archiveIsNotQueried() {
+        // Given
+        BookingArchive bookingArchive = bookingArchive(2);
+
+        // When
+        bookingArchive.getBookings(UUID.randomUUID(), LocalDate.now().minusDays(1));
+        bookingArchive.getBookingsInRange(null, LocalDate.now().minusDays(1), LocalDate.now(), null, Limit.of(10));
+
+        // Then
+        verifyNoInteractions(archivedBookingRepository);
+    }
+
+    @Test
+    void given_horizonIsShorterThanADay_when_creatingTheArchive_then_throwIllegalArgumentException() {
+        // When && Then
+        assertThrows(IllegalArgumentException.class, () -> new BookingArchive(bookingRepository, archivedBookingRepository,
+                roomDayOccupancyRepository, transactionManager, operationMetrics, true, Duration.ofHours(1), 2));
+    }
+
+    private BookingArchive bookingArchive(int chunkSize) {
+        return new BookingArchive(bookingRepository, archivedBookingRepository, roomDayOccupancyRepository, transactionManager,
+                operationMetrics, true, Duration.ofDays(90), chunkSize);
+    }
+}
@@ -0,0 +1,133 @@
+package com.acme.booking.service;
+
+import com.acme.booking.domain.model.BookingChange;
+import com.acme.booking.domain.model.BookingView;
+import com.acme.booking.domain.service.BookingChangeFeed;
+import com.acme.booking.monitoring.OperationMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.BooleanSupplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class BookingChangeFeedTest {
+
+    private static final int BUFFER_SIZE = 4;
+
+    private final BookingChangeFeed bookingChangeFeed = new BookingChangeFeed(new OperationMetrics(new SimpleMeterRegistry()), BUFFER_SIZE);
+
+    @AfterEach
+    void stop() {
+        bookingChangeFeed.destroy();
+    }
+
+    @Test
+    void given_subscribersOfARoomAndOfAllRooms_when_publishingChanges_then_eachReceivesTheChangesItSubscribedTo() throws Exception {
+        // Given
+        UUID meetingRoomId = UUID.randomUUID();
+        List<BookingChange> roomChanges = new CopyOnWriteArrayList<>();
+        List<BookingChange> allChanges = new CopyOnWriteArrayList<>();
+        bookingChangeFeed.subscribe(meetingRoomId, roomChanges::add);
+        bookingChangeFeed.subscribe(null, allChanges::add);
+        BookingChange roomChange = BookingChange.created(booking(meetingRoomId));
+        BookingChange otherRoomChange = BookingChange.deleted(booking(UUID.randomUUID()));
+
+        // When
+        bookingChangeFeed.publish(roomChange);
+        bookingChangeFeed.publish(otherRoomChange);
+
+        // Then
+        await(() -> allChanges.size() == 2);
+        assertEquals(List.of(roomChange, otherRoomChange), allChanges);
+        assertEquals(List.of(roomChange), roomChanges);
+    }
+
+    @Test
+    void given_subscriberFellBehind_when_itsBufferOverflows_then_pendingChangesAreReplacedByAResync() throws Exception {
+        // Given
+        UUID meetingRoomId = UUID.randomUUID();
+        CountDownLatch delivering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        List<BookingChange> received = new CopyOnWriteArrayList<>();
+        bookingChangeFeed.subscribe(meetingRoomId, change -> {
+            delivering.countDown();
+            awaitUninterruptibly(release);
+            received.add(change);
+        });
+        BookingChange first = BookingChange.created(booking(meetingRoomId));
+        bookingChangeFeed.publish(first);
+        delivering.await();
+
+        // When
+        for (int i = 0; i < BUFFER_SIZE + 1; i++) {
+            bookingChangeFeed.publish(BookingChange.created(booking(meetingRoomId)));
+        }
+        release.countDown();
+
+        // Then
+        await(() -> received.size() == 2);
+        Thread.sleep(50);
+        assertEquals(List.of(first, BookingChange.resync()), received);
+    }
+
+    @Test
+    void given_listenerFails_when_publishingAChange_then_subscriptionIsCanceled() throws Exception {
+        // Given
+        UUID meetingRoomId = UUID.randomUUID();
+        bookingChangeFeed.subscribe(meetingRoomId, change -> {
+            throw new IllegalStateException("The client went away");
+        });
+
+        // When
+        bookingChangeFeed.publish(BookingChange.created(booking(meetingRoomId)));
+
+        // Then
+        await(() -> bookingChangeFeed.getSubscriberCount() == 0);
+    }
+
+    @Test
+    void given_subscriptionIsCanceled_when_publishingAChange_then_changeIsNotDelivered() throws Exception {
+        // Given
+        UUID meetingRoomId = UUID.randomUUID();
+        List<BookingChange> received = new CopyOnWriteArrayList<>();
+        bookingChangeFeed.subscribe(meetingRoomId, received::add).cancel();
+
+        // When
+        bookingChangeFeed.publish(BookingChange.created(booking(meetingRoomId)));
+
+        // Then
+        Thread.sleep(50);
+        assertTrue(received.isEmpty());
+        assertEquals(0, bookingChangeFeed.getSubscriberCount());
+    }
+
+    private BookingView booking(UUID meetingRoomId) {
+        return new BookingView(UUID.randomUUID(), meetingRoomId, "employee@example.com", LocalDate.now().plusDays(1),
+                LocalTime.of(10, 0), LocalTime.of(11, 0));
+    }
+
+    private static void await(BooleanSupplier condition) throws InterruptedException {
+        long deadline = System.nanoTime() + Duration.ofSeconds(5).toNanos();
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.nanoTime() < deadline, "Condition not met within 5 seconds");
+            Thread.sleep(5);
+        }
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
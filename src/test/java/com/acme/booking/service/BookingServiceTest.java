@@ -1,26 +1,56 @@
 package com.acme.booking.service;
 
 import com.acme.booking.domain.model.Booking;
+import com.acme.booking.domain.model.BookingCancellationOutcome;
+import com.acme.booking.domain.model.BookingChange;
+import com.acme.booking.domain.model.BookingCreationOutcome;
+import com.acme.booking.domain.model.BookingKey;
+import com.acme.booking.domain.model.BookingPage;
+import com.acme.booking.domain.model.BookingSeries;
+import com.acme.booking.domain.model.BookingView;
+import com.acme.booking.domain.service.BookingArchive;
 import com.acme.booking.domain.service.BookingService;
+import com.acme.booking.domain.service.BookingWriteBehind;
+import com.acme.booking.domain.service.RoomDayLocks;
+import com.acme.booking.domain.service.RoomDayOccupancyService;
 import com.acme.booking.exception.BookingOverlapException;
+import com.acme.booking.exception.InvalidRangeException;
 import com.acme.booking.exception.PastBookingException;
 import com.acme.booking.exception.ResourceNotFoundException;
+import com.acme.booking.exception.WriteQueueFullException;
+import com.acme.booking.monitoring.OperationMetrics;
 import com.acme.booking.repository.BookingRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.Limit;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
 
 import static com.acme.booking.utils.BookingUtils.generateBookingWithId;
 import static com.acme.booking.utils.BookingUtils.generateBookingWithoutId;
-import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
-import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -29,31 +59,357 @@ class BookingServiceTest {
     @Mock
     private BookingRepository bookingRepository;
 
+    @Spy
+    private RoomDayLocks roomDayLocks = new RoomDayLocks(4);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private OperationMetrics operationMetrics = new OperationMetrics(meterRegistry);
+
+    @Mock
+    private RoomDayOccupancyService roomDayOccupancyService;
+
+    @Mock
+    private BookingWriteBehind bookingWriteBehind;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private BookingArchive bookingArchive;
+
     @InjectMocks
     private BookingService bookingService;
 
+    @BeforeEach
+    void init() {
+        lenient().when(roomDayOccupancyService.occupy(any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        lenient().doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(1).run();
+            return null;
+        }).when(roomDayOccupancyService).vacate(any(), any());
+        lenient().when(roomDayOccupancyService.vacateAll(any(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    }
+
     @Test
     void given_newBookingDoesntOverlapWithExistingBooking_when_createBooking_then_bookingIsCreated() {
         // Given
         Booking booking = generateBookingWithoutId();
 
-        when(bookingRepository.existsByMeetingRoomIdAndDateAndTimeOverlap(booking)).thenReturn(false);
+        when(bookingRepository.findViewsByMeetingRoomIdAndDate(booking.getMeetingRoom().getId(), booking.getDate())).thenReturn(List.of());
+        when(bookingRepository.save(booking)).thenAnswer(invocation -> {
+            booking.setId(UUID.randomUUID());
+            return booking;
+        });
 
-        // When && Then
-        assertDoesNotThrow(() -> bookingService.createBooking(booking));
+        // When
+        List<BookingView> result = bookingService.createBooking(booking);
+
+        // Then
+        assertEquals(List.of(BookingView.of(booking)), result);
         verify(bookingRepository, times(1)).save(booking);
-        verify(bookingRepository, times(1)).findByMeetingRoomIdAndDate(booking.getMeetingRoom().getId(), booking.getDate());
+        verify(bookingRepository, times(1)).findViewsByMeetingRoomIdAndDate(booking.getMeetingRoom().getId(), booking.getDate());
+    }
+
+    @Test
+    void given_bookingIsCreated_when_createBooking_then_changeIsPublished() {
+        // Given
+        Booking booking = generateBookingWithoutId();
+        when(bookingRepository.findViewsByMeetingRoomIdAndDate(booking.getMeetingRoom().getId(), booking.getDate())).thenReturn(List.of());
+        when(bookingRepository.save(booking)).thenAnswer(invocation -> {
+            booking.setId(UUID.randomUUID());
+            return booking;
+        });
+
+        // When
+        bookingService.createBooking(booking);
+
+        // Then
+        verify(eventPublisher, times(1)).publishEvent(BookingChange.created(BookingView.of(booking)));
     }
 
     @Test
     void given_newBookingOverlapsWithExistingBooking_when_createBooking_then_throwBookingOverlapException() {
         // Given
         Booking booking = generateBookingWithoutId();
+        Booking existingBooking = booking.toBuilder()
+                .id(UUID.randomUUID())
+                .timeFrom(booking.getTimeFrom().minusMinutes(30))
+                .timeTo(booking.getTimeTo().minusMinutes(30))
+                .build();
 
-        when(bookingRepository.existsByMeetingRoomIdAndDateAndTimeOverlap(booking)).thenReturn(true);
+        when(bookingRepository.findViewsByMeetingRoomIdAndDate(booking.getMeetingRoom().getId(), booking.getDate())).thenReturn(List.of(BookingView.of(existingBooking)));
 
         // When && Then
         assertThrows(BookingOverlapException.class, () -> bookingService.createBooking(booking));
+        verify(bookingRepository, never()).save(any(Booking.class));
+        assertEquals(1, meterRegistry.get(OperationMetrics.BOOKING_REJECTIONS).tag("reason", OperationMetrics.OVERLAP).counter().count());
+        assertEquals(1, meterRegistry.get(OperationMetrics.BOOKING_OPERATIONS)
+                .tag("operation", "create")
+                .tag("outcome", OperationMetrics.OVERLAP)
+                .timer().count());
+    }
+
+    @Test
+    void given_newBookingStartsWhenExistingBookingEnds_when_createBooking_then_bookingIsCreated() {
+        // Given
+        Booking booking = generateBookingWithoutId();
+        Booking existingBooking = booking.toBuilder()
+                .id(UUID.randomUUID())
+                .timeFrom(booking.getTimeFrom().minusHours(1))
+                .timeTo(booking.getTimeFrom())
+                .build();
+
+        when(bookingRepository.findViewsByMeetingRoomIdAndDate(booking.getMeetingRoom().getId(), booking.getDate())).thenReturn(List.of(BookingView.of(existingBooking)));
+        when(bookingRepository.save(booking)).thenAnswer(invocation -> {
+            booking.setId(UUID.randomUUID());
+            return booking;
+        });
+
+        // When
+        List<BookingView> result = bookingService.createBooking(booking);
+
+        // Then
+        assertEquals(List.of(BookingView.of(existingBooking), BookingView.of(booking)), result);
+    }
+
+    @Test
+    void given_twoConcurrentRequestsForTheSameSlot_when_createBooking_then_onlyOneBookingIsCreated() throws Exception {
+        // Given
+        Booking booking = generateBookingWithoutId();
+        Booking sameSlotBooking = booking.toBuilder().build();
+        CountDownLatch firstSaveStarted = new CountDownLatch(1);
+
+        when(bookingRepository.findViewsByMeetingRoomIdAndDate(booking.getMeetingRoom().getId(), booking.getDate())).thenReturn(List.of());
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> {
+            Booking saved = invocation.getArgument(0);
+            saved.setId(UUID.randomUUID());
+            firstSaveStarted.countDown();
+            Thread.sleep(100);
+            return saved;
+        });
+
+        // When
+        try (ExecutorService executor = Executors.newFixedThreadPool(2)) {
+            Future<List<BookingView>> first = executor.submit(() -> bookingService.createBooking(booking));
+            firstSaveStarted.await();
+            Future<List<BookingView>> second = executor.submit(() -> bookingService.createBooking(sameSlotBooking));
+
+            // Then
+            assertEquals(1, first.get().size());
+            ExecutionException exception = assertThrows(ExecutionException.class, second::get);
+            assertInstanceOf(BookingOverlapException.class, exception.getCause());
+        }
+        verify(bookingRepository, times(1)).save(any(Booking.class));
+        assertEquals(1, IntStream.range(0, roomDayLocks.getStripeCount()).mapToLong(roomDayLocks::getContendedAcquisitions).sum());
+    }
+
+    @Test
+    void given_writeBehindQueueIsFull_when_createBooking_then_throwWriteQueueFullExceptionAndDropTheBookingFromTheIndex() {
+        // Given
+        Booking booking = generateBookingWithoutId();
+        when(bookingWriteBehind.isEnabled()).thenReturn(true);
+        when(bookingRepository.findViewsByMeetingRoomIdAndDate(booking.getMeetingRoom().getId(), booking.getDate())).thenReturn(List.of());
+        when(bookingWriteBehind.enqueue(any())).thenThrow(new WriteQueueFullException("Too many bookings are waiting to be saved, please try again later."));
+
+        // When
+        assertThrows(WriteQueueFullException.class, () -> bookingService.createBooking(booking));
+
+        // Then
+        assertEquals(List.of(), bookingService.getBookings(booking.getMeetingRoom().getId(), booking.getDate()));
+        verify(bookingRepository, times(1)).findViewsByMeetingRoomIdAndDate(booking.getMeetingRoom().getId(), booking.getDate());
+    }
+
+    @Test
+    void given_twoBookingsAreQueued_when_writeOfOneOfThemFails_then_onlyThatBookingIsDroppedFromTheIndex() throws Exception {
+        // Given
+        Booking failing = generateBookingWithoutId();
+        Booking other = failing.toBuilder()
+                .timeFrom(failing.getTimeTo())
+                .timeTo(failing.getTimeTo().plusHours(1))
+                .build();
+        CompletableFuture<Void> failingWrite = new CompletableFuture<>();
+        when(bookingWriteBehind.isEnabled()).thenReturn(true);
+        when(bookingRepository.findViewsByMeetingRoomIdAndDate(failing.getMeetingRoom().getId(), failing.getDate())).thenReturn(List.of());
+        when(bookingWriteBehind.enqueue(any())).thenReturn(failingWrite, new CompletableFuture<>());
+        bookingService.createBooking(failing);
+        bookingService.createBooking(other);
+
+        // When
+        failingWrite.completeExceptionally(new IllegalStateException("Write failed"));
+
+        // Then
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        List<BookingView> bookings = bookingService.getBookings(failing.getMeetingRoom().getId(), failing.getDate());
+        while (bookings.size() == 2 && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+            bookings = bookingService.getBookings(failing.getMeetingRoom().getId(), failing.getDate());
+        }
+        assertEquals(List.of(BookingView.of(other)), bookings);
+        verify(bookingRepository, times(1)).findViewsByMeetingRoomIdAndDate(failing.getMeetingRoom().getId(), failing.getDate());
+    }
+
+    @Test
+    void given_batchWithBookingsOverlappingEachOther_when_createBookings_then_onlyTheFirstOfThemIsCreated() {
+        // Given
+        Booking booking = generateBookingWithoutId();
+        Booking overlappingBooking = booking.toBuilder().build();
+        Booking otherDayBooking = booking.toBuilder().date(booking.getDate().plusDays(1)).build();
+
+        when(bookingRepository.findViewsByMeetingRoomIdAndDate(eq(booking.getMeetingRoom().getId()), any(LocalDate.class))).thenReturn(List.of());
+
+        // When
+        List<BookingCreationOutcome> result = bookingService.createBookings(List.of(booking, overlappingBooking, otherDayBooking));
+
+        // Then
+        assertEquals(List.of(true, false, true), result.stream().map(BookingCreationOutcome::created).toList());
+        assertSame(overlappingBooking, result.get(1).booking());
+        verify(bookingRepository, times(1)).saveAll(List.of(booking, otherDayBooking));
+        verify(bookingRepository, times(2)).findViewsByMeetingRoomIdAndDate(eq(booking.getMeetingRoom().getId()), any(LocalDate.class));
+    }
+
+    @Test
+    void given_bookingExistsOnOneOccurrence_when_createBookingSeries_then_otherOccurrencesAreSavedWithASingleRangeQuery() {
+        // Given
+        Booking booking = generateBookingWithoutId();
+        BookingSeries bookingSeries = new BookingSeries(booking.getMeetingRoom(), booking.getEmployeeEmail(), booking.getDate(),
+                booking.getTimeFrom(), booking.getTimeTo(), BookingSeries.Frequency.DAILY, 2, 3);
+        Booking existingBooking = booking.toBuilder()
+                .id(UUID.randomUUID())
+                .date(booking.getDate().plusDays(2))
+                .build();
+
+        when(bookingRepository.findViewsByMeetingRoomIdAndDateBetween(booking.getMeetingRoom().getId(), booking.getDate(), booking.getDate().plusDays(4)))
+                .thenReturn(List.of(BookingView.of(existingBooking)));
+
+        // When
+        List<BookingCreationOutcome> result = bookingService.createBookingSeries(bookingSeries);
+
+        // Then
+        assertEquals(List.of(booking.getDate(), booking.getDate().plusDays(2), booking.getDate().plusDays(4)),
+                result.stream().map(outcome -> outcome.booking().getDate()).toList());
+        assertEquals(List.of(true, false, true), result.stream().map(BookingCreationOutcome::created).toList());
+        verify(bookingRepository, times(1)).saveAll(List.of(result.get(0).booking(), result.get(2).booking()));
+    }
+
+    @Test
+    void given_bookingIsIndexedButNotInTheDatabase_when_createBookingSeries_then_overlappingOccurrenceIsNotSaved() {
+        // Given
+        Booking booking = generateBookingWithoutId();
+        BookingSeries bookingSeries = new BookingSeries(booking.getMeetingRoom(), booking.getEmployeeEmail(), booking.getDate(),
+                booking.getTimeFrom(), booking.getTimeTo(), BookingSeries.Frequency.DAILY, 2, 3);
+        Booking queuedBooking = booking.toBuilder()
+                .date(booking.getDate().plusDays(2))
+                .build();
+
+        when(bookingRepository.save(queuedBooking)).thenAnswer(invocation -> {
+            queuedBooking.setId(UUID.randomUUID());
+            return queuedBooking;
+        });
+        bookingService.createBooking(queuedBooking);
+        when(bookingRepository.findViewsByMeetingRoomIdAndDateBetween(booking.getMeetingRoom().getId(), booking.getDate(), booking.getDate().plusDays(4)))
+                .thenReturn(List.of());
+
+        // When
+        List<BookingCreationOutcome> result = bookingService.createBookingSeries(bookingSeries);
+
+        // Then
+        assertEquals(List.of(true, false, true), result.stream().map(BookingCreationOutcome::created).toList());
+        verify(bookingRepository, times(1)).saveAll(List.of(result.get(0).booking(), result.get(2).booking()));
+    }
+
+    @Test
+    void given_bookingIsCreated_when_getBookingsVersion_then_versionChanges() {
+        // Given
+        Booking booking = generateBookingWithoutId();
+        UUID meetingRoomId = booking.getMeetingRoom().getId();
+        String versionBefore = bookingService.getBookingsVersion(meetingRoomId, booking.getDate());
+
+        when(bookingRepository.save(booking)).thenAnswer(invocation -> {
+            booking.setId(UUID.randomUUID());
+            return booking;
+        });
+
+        // When
+        bookingService.createBooking(booking);
+
+        // Then
+        assertNotEquals(versionBefore, bookingService.getBookingsVersion(meetingRoomId, booking.getDate()));
+        assertEquals(versionBefore, bookingService.getBookingsVersion(meetingRoomId, booking.getDate().plusDays(1)));
+    }
+
+    @Test
+    void given_bookingsForRoomAndDateWereAlreadyLoaded_when_getBookings_then_databaseIsNotQueriedAgain() {
+        // Given
+        Booking booking = generateBookingWithId();
+        UUID meetingRoomId = booking.getMeetingRoom().getId();
+
+        when(bookingRepository.findViewsByMeetingRoomIdAndDate(meetingRoomId, booking.getDate())).thenReturn(List.of(BookingView.of(booking)));
+
+        // When
+        bookingService.getBookings(meetingRoomId, booking.getDate());
+        List<BookingView> result = bookingService.getBookings(meetingRoomId, booking.getDate());
+
+        // Then
+        assertEquals(List.of(BookingView.of(booking)), result);
+        verify(bookingRepository, times(1)).findViewsByMeetingRoomIdAndDate(meetingRoomId, booking.getDate());
+    }
+
+    @Test
+    void given_roomAndDateHaveNoBookings_when_getBookingsAndVersion_then_roomAndDateIsNotHeldInIndex() {
+        // Given
+        UUID meetingRoomId = UUID.randomUUID();
+        LocalDate date = LocalDate.now().plusDays(1);
+
+        when(bookingRepository.findViewsByMeetingRoomIdAndDate(meetingRoomId, date)).thenReturn(List.of());
+
+        // When
+        bookingService.getBookings(meetingRoomId, date);
+        bookingService.getBookingsVersion(meetingRoomId, date);
+        List<BookingView> result = bookingService.getBookings(meetingRoomId, date);
+
+        // Then
+        assertEquals(List.of(), result);
+        assertEquals(0, meterRegistry.get("booking.index.room.days").gauge().value());
+        verify(bookingRepository, times(2)).findViewsByMeetingRoomIdAndDate(meetingRoomId, date);
+    }
+
+    @Test
+    void given_pastBookingsAreInIndex_when_evictPastDays_then_pastRoomAndDateIsDroppedAndItsVersionChanges() {
+        // Given
+        Booking booking = generateBookingWithId();
+        booking.setDate(LocalDate.now().minusDays(1));
+        UUID meetingRoomId = booking.getMeetingRoom().getId();
+
+        when(bookingRepository.findViewsByDateGreaterThanEqual(any(LocalDate.class))).thenReturn(List.of(BookingView.of(booking)));
+        bookingService.warmUpIndex();
+        String versionBefore = bookingService.getBookingsVersion(meetingRoomId, booking.getDate());
+
+        // When
+        bookingService.evictPastDays();
+
+        // Then
+        assertEquals(0, meterRegistry.get("booking.index.room.days").gauge().value());
+        assertNotEquals(versionBefore, bookingService.getBookingsVersion(meetingRoomId, booking.getDate()));
+    }
+
+    @Test
+    void given_bookingsAreWarmedUp_when_getBookings_then_databaseIsNotQueried() {
+        // Given
+        Booking booking = generateBookingWithId();
+
+        when(bookingRepository.findViewsByDateGreaterThanEqual(any(LocalDate.class))).thenReturn(List.of(BookingView.of(booking)));
+        bookingService.warmUpIndex();
+
+        // When
+        List<BookingView> result = bookingService.getBookings(booking.getMeetingRoom().getId(), booking.getDate());
+
+        // Then
+        assertEquals(List.of(BookingView.of(booking)), result);
+        verify(bookingRepository, never()).findViewsByMeetingRoomIdAndDate(any(UUID.class), any(LocalDate.class));
     }
 
 
@@ -63,11 +419,47 @@ class BookingServiceTest {
         Booking booking = generateBookingWithId();
 
         when(bookingRepository.findById(any(UUID.class))).thenReturn(Optional.of(booking));
-        doNothing().when(bookingRepository).deleteById(any(UUID.class));
+        when(bookingRepository.deleteByIdIn(List.of(booking.getId()))).thenReturn(1);
 
         // When && Then
         assertDoesNotThrow(() -> bookingService.deleteBooking(booking.getId()));
-        verify(bookingRepository, times(1)).deleteById(booking.getId());
+        verify(bookingRepository, times(1)).deleteByIdIn(List.of(booking.getId()));
+    }
+
+    @Test
+    void given_bookingWasDeletedConcurrently_when_deleteBooking_then_throwResourceNotFoundExceptionAndKeepTheIndex() {
+        // Given
+        Booking booking = generateBookingWithId();
+        UUID meetingRoomId = booking.getMeetingRoom().getId();
+
+        when(bookingRepository.findViewsByMeetingRoomIdAndDate(meetingRoomId, booking.getDate())).thenReturn(List.of(BookingView.of(booking)));
+        when(bookingRepository.findById(booking.getId())).thenReturn(Optional.of(booking));
+        when(bookingRepository.deleteByIdIn(List.of(booking.getId()))).thenReturn(0);
+        bookingService.getBookings(meetingRoomId, booking.getDate());
+
+        // When && Then
+        assertThrows(ResourceNotFoundException.class, () -> bookingService.deleteBooking(booking.getId()));
+        assertEquals(1, bookingService.getBookings(meetingRoomId, booking.getDate()).size());
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void given_bookingIsIndexed_when_deleteBooking_then_bookingIsRemovedFromTheIndex() {
+        // Given
+        Booking booking = generateBookingWithId();
+        UUID meetingRoomId = booking.getMeetingRoom().getId();
+
+        when(bookingRepository.findViewsByMeetingRoomIdAndDate(meetingRoomId, booking.getDate())).thenReturn(List.of(BookingView.of(booking)));
+        when(bookingRepository.findById(booking.getId())).thenReturn(Optional.of(booking));
+        when(bookingRepository.deleteByIdIn(List.of(booking.getId()))).thenReturn(1);
+        bookingService.getBookings(meetingRoomId, booking.getDate());
+
+        // When
+        bookingService.deleteBooking(booking.getId());
+
+        // Then
+        assertTrue(bookingService.getBookings(meetingRoomId, booking.getDate()).isEmpty());
+        verify(bookingRepository, times(1)).findViewsByMeetingRoomIdAndDate(meetingRoomId, booking.getDate());
     }
 
     @Test
@@ -81,6 +473,7 @@ class BookingServiceTest {
 
         // When && Then
         assertThrows(PastBookingException.class, () -> bookingService.deleteBooking(UUID.randomUUID()));
+        assertEquals(1, meterRegistry.get(OperationMetrics.BOOKING_REJECTIONS).tag("reason", OperationMetrics.PAST_CANCEL).counter().count());
     }
 
     @Test
@@ -90,4 +483,72 @@ class BookingServiceTest {
 
         assertThrows(ResourceNotFoundException.class, () -> bookingService.deleteBooking(UUID.randomUUID()));
     }
-}
\ No newline at end of file
+
+    @Test
+    void given_upcomingPastAndUnknownBookings_when_deleteBookings_then_onlyUpcomingBookingIsDeletedWithASingleStatement() {
+        // Given
+        Booking upcoming = generateBookingWithId();
+        Booking past = generateBookingWithId().toBuilder()
+                .date(LocalDate.now().minusDays(1))
+                .build();
+        UUID unknown = UUID.randomUUID();
+
+        when(bookingRepository.findViewsByIdIn(any())).thenReturn(List.of(BookingView.of(upcoming), BookingView.of(past)));
+        when(bookingRepository.deleteNotEndedByIdIn(eq(List.of(upcoming.getId())), any(), any())).thenReturn(1);
+
+        // When
+        List<BookingCancellationOutcome> outcomes = bookingService.deleteBookings(List.of(upcoming.getId(), past.getId(), unknown));
+
+        // Then
+        assertEquals(List.of(
+                new BookingCancellationOutcome(upcoming.getId(), BookingCancellationOutcome.Status.DELETED),
+                new BookingCancellationOutcome(past.getId(), BookingCancellationOutcome.Status.PAST),
+                new BookingCancellationOutcome(unknown, BookingCancellationOutcome.Status.NOT_FOUND)), outcomes);
+        verify(bookingRepository, never()).deleteById(any());
+        verify(eventPublisher).publishEvent(BookingChange.deleted(BookingView.of(upcoming)));
+        assertEquals(1, meterRegistry.get(OperationMetrics.BOOKING_REJECTIONS).tag("reason", OperationMetrics.PAST_CANCEL).counter().count());
+    }
+
+    @Test
+    void given_bookingWasDeletedConcurrently_when_deleteBookings_then_throwConcurrencyFailureException() {
+        // Given
+        Booking booking = generateBookingWithId();
+
+        when(bookingRepository.findViewsByIdIn(any())).thenReturn(List.of(BookingView.of(booking)));
+        when(bookingRepository.deleteNotEndedByIdIn(any(), any(), any())).thenReturn(0);
+
+        // When && Then
+        assertThrows(ConcurrencyFailureException.class, () -> bookingService.deleteBookings(List.of(booking.getId())));
+        verifyNoInteractions(eventPublisher);
+    }
+
+    @Test
+    void given_rangeEndsBeforeItStarts_when_getBookingsInRange_then_throwInvalidRangeException() {
+        // Given
+        LocalDate dateFrom = LocalDate.now();
+
+        // When && Then
+        assertThrows(InvalidRangeException.class, () -> bookingService.getBookingsInRange(null, dateFrom, dateFrom.minusDays(1), null, 10));
+        verifyNoInteractions(bookingRepository);
+    }
+
+    @Test
+    void given_moreBookingsThanThePageSize_when_getBookingsInRange_then_pageIsTrimmedAndNextPageIsReported() {
+        // Given
+        Booking booking = generateBookingWithId();
+        UUID meetingRoomId = booking.getMeetingRoom().getId();
+        BookingView first = BookingView.of(booking);
+        BookingView second = BookingView.of(booking.toBuilder().id(UUID.randomUUID()).date(booking.getDate().plusDays(1)).build());
+        BookingKey after = new BookingKey(booking.getDate().minusDays(1), booking.getTimeFrom(), UUID.randomUUID());
+
+        when(bookingRepository.findRangePageAfter(meetingRoomId, after.date(), after.timeFrom(), after.id(), booking.getDate().plusDays(1), Limit.of(2)))
+                .thenReturn(List.of(first, second));
+
+        // When
+        BookingPage page = bookingService.getBookingsInRange(meetingRoomId, after.date(), booking.getDate().plusDays(1), after, 1);
+
+        // Then
+        assertEquals(List.of(first), page.bookings());
+        assertTrue(page.hasNext());
+    }
+}
@@ -0,0 +1,124 @@
+package com.acme.booking.service;
+
+import com.acme.booking.domain.model.BookingView;
+import com.acme.booking.domain.service.BookingWriteBehind;
+import com.acme.booking.domain.service.BookingWriteBehind.Acknowledgement;
+import com.acme.booking.domain.service.RoomDayOccupancyService;
+import com.acme.booking.exception.BookingOverlapException;
+import com.acme.booking.exception.WriteQueueFullException;
+import com.acme.booking.monitoring.OperationMetrics;
+import com.acme.booking.repository.BookingBatchWriter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookingWriteBehindTest {
+
+    @Mock
+    private BookingBatchWriter bookingBatchWriter;
+
+    @Mock
+    private RoomDayOccupancyService roomDayOccupancyService;
+
+    private final OperationMetrics operationMetrics = new OperationMetrics(new SimpleMeterRegistry());
+
+    private BookingWriteBehind bookingWriteBehind;
+
+    @BeforeEach
+    void init() {
+        lenient().when(roomDayOccupancyService.occupy(anyCollection(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    }
+
+    @AfterEach
+    void stop() throws InterruptedException {
+        bookingWriteBehind.destroy();
+    }
+
+    @Test
+    void given_bookingsQueuedWithinTheMaxDelay_when_flushing_then_theyAreWrittenAsOneGroup() {
+        // Given
+        start(10, 10, Duration.ofMillis(200));
+        List<BookingView> bookings = List.of(booking(9), booking(10), booking(11));
+
+        // When
+        List<CompletableFuture<Void>> written = bookings.stream().map(bookingWriteBehind::enqueue).toList();
+        written.forEach(CompletableFuture::join);
+
+        // Then
+        verify(bookingBatchWriter, times(1)).insert(bookings);
+    }
+
+    @Test
+    void given_groupContainsAnOverlappingBooking_when_flushing_then_otherBookingsAreWrittenOneAtATime() {
+        // Given
+        start(10, 10, Duration.ofMillis(200));
+        BookingView overlapping = booking(12);
+        when(roomDayOccupancyService.occupy(argThat((Collection<BookingView> group) -> group.contains(overlapping)), any()))
+                .thenThrow(new BookingOverlapException("Booking overlaps with an existing booking"));
+
+        // When
+        CompletableFuture<Void> first = bookingWriteBehind.enqueue(booking(9));
+        CompletableFuture<Void> failing = bookingWriteBehind.enqueue(overlapping);
+        CompletableFuture<Void> last = bookingWriteBehind.enqueue(booking(14));
+
+        // Then
+        first.join();
+        last.join();
+        assertThrows(BookingOverlapException.class, () -> bookingWriteBehind.acknowledge(failing));
+        verify(bookingBatchWriter, never()).insert(argThat(group -> group.contains(overlapping)));
+        verify(bookingBatchWriter, times(2)).insert(argThat(group -> group.size() == 1));
+    }
+
+    @Test
+    void given_queueIsFull_when_enqueuing_then_throwWriteQueueFullException() throws Exception {
+        // Given
+        start(1, 1, Duration.ZERO);
+        CountDownLatch writing = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            writing.countDown();
+            release.await();
+            return null;
+        }).when(bookingBatchWriter).insert(anyCollection());
+        bookingWriteBehind.enqueue(booking(9));
+        writing.await();
+        bookingWriteBehind.enqueue(booking(10));
+
+        // When & Then
+        assertThrows(WriteQueueFullException.class, () -> bookingWriteBehind.enqueue(booking(11)));
+        release.countDown();
+    }
+
+    private void start(int queueCapacity, int batchSize, Duration maxDelay) {
+        bookingWriteBehind = new BookingWriteBehind(bookingBatchWriter, roomDayOccupancyService, operationMetrics, true,
+                Acknowledgement.FLUSH, queueCapacity, batchSize, maxDelay, Duration.ofMillis(50));
+        bookingWriteBehind.afterPropertiesSet();
+    }
+
+    private BookingView booking(int hour) {
+        return new BookingView(UUID.randomUUID(), UUID.randomUUID(), "employee@example.com", LocalDate.now().plusDays(1),
+                LocalTime.of(hour, 0), LocalTime.of(hour + 1, 0));
+    }
+}
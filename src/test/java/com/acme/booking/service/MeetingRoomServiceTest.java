@@ -2,25 +2,38 @@ package com.acme.booking.service;
 
 
 import com.acme.booking.domain.model.MeetingRoom;
+import com.acme.booking.domain.model.MeetingRoomPage;
 import com.acme.booking.domain.service.MeetingRoomService;
 import com.acme.booking.exception.ResourceAlreadyExistsException;
 import com.acme.booking.exception.ResourceNotFoundException;
+import com.acme.booking.monitoring.OperationMetrics;
 import com.acme.booking.repository.MeetingRoomRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
+import org.springframework.data.domain.Limit;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import static com.acme.booking.configuration.CacheConfiguration.MEETING_ROOMS_CACHE;
 import static com.acme.booking.utils.MeetingRoomUtils.DEFAULT_MEETING_ROOM_NAME;
 import static com.acme.booking.utils.MeetingRoomUtils.generateMeetingRoomWithId;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,21 +45,81 @@ class MeetingRoomServiceTest {
     @Mock
     private MeetingRoomRepository meetingRoomRepository;
 
+    @Spy
+    private OperationMetrics operationMetrics = new OperationMetrics(new SimpleMeterRegistry());
+
+    @Spy
+    private CacheManager cacheManager = new ConcurrentMapCacheManager(MEETING_ROOMS_CACHE);
+
     @Test
-    void given_meetingRoomDoesNotExist_when_createMeetingRoom_then_returnsListOfAvailableMeetingRooms() {
+    void given_meetingRoomDoesNotExist_when_createMeetingRoom_then_returnsCreatedMeetingRoom() {
         // Given
         MeetingRoom meetingRoom = generateMeetingRoomWithId(DEFAULT_MEETING_ROOM_NAME);
-        MeetingRoom meetingRoom2 = generateMeetingRoomWithId(DEFAULT_MEETING_ROOM_NAME + "2");
-        List <MeetingRoom> expectedMeetingRooms = List.of(meetingRoom, meetingRoom2);
 
         when(meetingRoomRepository.existsByNameIgnoreCase(meetingRoom.getName())).thenReturn(false);
-        when(meetingRoomRepository.findAll()).thenReturn(expectedMeetingRooms);
+        when(meetingRoomRepository.save(any(MeetingRoom.class))).thenReturn(meetingRoom);
+
+        // When
+        MeetingRoom result = meetingRoomService.createMeetingRoom(DEFAULT_MEETING_ROOM_NAME);
+
+        // Then
+        assertEquals(meetingRoom, result);
+        assertNull(cacheManager.getCache(MEETING_ROOMS_CACHE).get(SimpleKey.EMPTY));
+    }
+
+    @Test
+    void given_meetingRoomsAreCached_when_createMeetingRoom_then_meetingRoomIsAddedToCachedMeetingRooms() {
+        // Given
+        MeetingRoom existingMeetingRoom = generateMeetingRoomWithId(DEFAULT_MEETING_ROOM_NAME + "2");
+        MeetingRoom meetingRoom = generateMeetingRoomWithId(DEFAULT_MEETING_ROOM_NAME);
+        cacheManager.getCache(MEETING_ROOMS_CACHE).put(SimpleKey.EMPTY, List.of(existingMeetingRoom));
+
+        when(meetingRoomRepository.existsByNameIgnoreCase(meetingRoom.getName())).thenReturn(false);
+        when(meetingRoomRepository.save(any(MeetingRoom.class))).thenReturn(meetingRoom);
 
         // When
-        List<MeetingRoom> result = meetingRoomService.createMeetingRoom(DEFAULT_MEETING_ROOM_NAME);
+        meetingRoomService.createMeetingRoom(DEFAULT_MEETING_ROOM_NAME);
 
         // Then
-        assertEquals(result, expectedMeetingRooms);
+        assertEquals(List.of(existingMeetingRoom, meetingRoom), cacheManager.getCache(MEETING_ROOMS_CACHE).get(SimpleKey.EMPTY, List.class));
+        verify(meetingRoomRepository, never()).findAll();
+    }
+
+    @Test
+    void given_meetingRoomsAreCached_when_createMeetingRoomAndGetAll_then_cachedMeetingRoomsWithTheNewOneAreReturned() {
+        // Given
+        MeetingRoom existingMeetingRoom = generateMeetingRoomWithId(DEFAULT_MEETING_ROOM_NAME + "2");
+        MeetingRoom meetingRoom = generateMeetingRoomWithId(DEFAULT_MEETING_ROOM_NAME);
+        cacheManager.getCache(MEETING_ROOMS_CACHE).put(SimpleKey.EMPTY, List.of(existingMeetingRoom));
+
+        when(meetingRoomRepository.existsByNameIgnoreCase(meetingRoom.getName())).thenReturn(false);
+        when(meetingRoomRepository.save(any(MeetingRoom.class))).thenReturn(meetingRoom);
+
+        // When
+        List<MeetingRoom> result = meetingRoomService.createMeetingRoomAndGetAll(DEFAULT_MEETING_ROOM_NAME);
+
+        // Then
+        assertEquals(List.of(existingMeetingRoom, meetingRoom), result);
+        assertEquals(result, cacheManager.getCache(MEETING_ROOMS_CACHE).get(SimpleKey.EMPTY, List.class));
+        verify(meetingRoomRepository, never()).findAll();
+    }
+
+    @Test
+    void given_meetingRoomsAreNotCached_when_createMeetingRoomAndGetAll_then_meetingRoomsAreReadAndCached() {
+        // Given
+        MeetingRoom existingMeetingRoom = generateMeetingRoomWithId(DEFAULT_MEETING_ROOM_NAME + "2");
+        MeetingRoom meetingRoom = generateMeetingRoomWithId(DEFAULT_MEETING_ROOM_NAME);
+
+        when(meetingRoomRepository.existsByNameIgnoreCase(meetingRoom.getName())).thenReturn(false);
+        when(meetingRoomRepository.save(any(MeetingRoom.class))).thenReturn(meetingRoom);
+        when(meetingRoomRepository.findAll()).thenReturn(List.of(existingMeetingRoom, meetingRoom));
+
+        // When
+        List<MeetingRoom> result = meetingRoomService.createMeetingRoomAndGetAll(DEFAULT_MEETING_ROOM_NAME);
+
+        // Then
+        assertEquals(List.of(existingMeetingRoom, meetingRoom), result);
+        assertEquals(result, cacheManager.getCache(MEETING_ROOMS_CACHE).get(SimpleKey.EMPTY, List.class));
     }
 
     @Test
@@ -59,6 +132,24 @@ class MeetingRoomServiceTest {
     }
 
 
+    @Test
+    void given_moreMeetingRoomsThanThePageSize_when_getPage_then_returnsPageSizeMeetingRoomsAndReportsNextPage() {
+        // Given
+        MeetingRoom meetingRoom = generateMeetingRoomWithId(DEFAULT_MEETING_ROOM_NAME);
+        MeetingRoom meetingRoom2 = generateMeetingRoomWithId(DEFAULT_MEETING_ROOM_NAME + "2");
+        MeetingRoom meetingRoom3 = generateMeetingRoomWithId(DEFAULT_MEETING_ROOM_NAME + "3");
+
+        when(meetingRoomRepository.findPageAfter(meetingRoom.getName(), meetingRoom.getId(), Limit.of(2)))
+                .thenReturn(List.of(meetingRoom2, meetingRoom3));
+
+        // When
+        MeetingRoomPage result = meetingRoomService.getPage(meetingRoom.getName(), meetingRoom.getId(), 1);
+
+        // Then
+        assertEquals(List.of(meetingRoom2), result.meetingRooms());
+        assertTrue(result.hasNext());
+    }
+
     @Test
     void given_nonExistentMeetingRoomId_when_findRoomById_then_throwsResourceNotFoundException() {
         // Given